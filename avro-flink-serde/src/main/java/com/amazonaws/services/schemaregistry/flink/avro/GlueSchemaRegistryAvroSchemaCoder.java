@@ -54,6 +54,47 @@ public class GlueSchemaRegistryAvroSchemaCoder implements SchemaCoder {
         this.glueSchemaRegistryOutputStreamSerializer = glueSchemaRegistryOutputStreamSerializer;
     }
 
+    /**
+     * Get or register the schema written by this coder ahead of serialization.
+     *
+     * @param schema schema to be registered
+     */
+    public void preloadSchemas(Schema schema) {
+        glueSchemaRegistryOutputStreamSerializer.preloadSchemas(schema);
+    }
+
+    /**
+     * Write the schema registry bytes of the schema to the output stream ahead of the serialized object, instead of
+     * copying the serialized object afterwards as {@link #writeSchema(Schema, OutputStream)} does.
+     *
+     * @param schema schema of the serialized object
+     * @param out    output stream
+     * @return stream to write the serialized object to
+     */
+    public OutputStream writeSchemaHeader(Schema schema, ByteArrayOutputStream out) {
+        return glueSchemaRegistryOutputStreamSerializer.registerSchemaAndWriteHeader(schema, out);
+    }
+
+    /**
+     * Complete the serialized object written to the stream returned by
+     * {@link #writeSchemaHeader(Schema, ByteArrayOutputStream)}.
+     *
+     * @param dataStream stream the serialized object was written to
+     * @throws IOException on any error while completing the serialized object
+     */
+    public void finishData(OutputStream dataStream) throws IOException {
+        glueSchemaRegistryOutputStreamSerializer.finishData(dataStream);
+    }
+
+    /**
+     * Release the resources held to write serialized objects, like the native memory of the compressor.
+     */
+    public void close() {
+        if (glueSchemaRegistryOutputStreamSerializer != null) {
+            glueSchemaRegistryOutputStreamSerializer.close();
+        }
+    }
+
     @Override
     public Schema readSchema(InputStream in) throws IOException {
         return glueSchemaRegistryInputStreamDeserializer.getSchemaAndDeserializedStream(in);
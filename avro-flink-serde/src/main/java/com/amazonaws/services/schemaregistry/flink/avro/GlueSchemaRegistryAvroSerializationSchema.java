@@ -19,13 +19,16 @@ import com.google.common.annotations.VisibleForTesting;
 import lombok.SneakyThrows;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.Encoder;
+import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.specific.SpecificRecord;
 import org.apache.flink.formats.avro.RegistryAvroSerializationSchema;
 import org.apache.flink.formats.avro.SchemaCoder;
 
 import javax.annotation.Nullable;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -34,6 +37,8 @@ import java.util.Map;
  * @param <T> the type to be serialized
  */
 public class GlueSchemaRegistryAvroSerializationSchema<T> extends RegistryAvroSerializationSchema<T> {
+    private transient BinaryEncoder compressingEncoder;
+
     /**
      * Creates an Avro serialization schema.
      *
@@ -87,8 +92,36 @@ public class GlueSchemaRegistryAvroSerializationSchema<T> extends RegistryAvroSe
                 new GlueSchemaRegistryAvroSchemaCoderProvider(transportName, configs));
     }
 
+    /**
+     * Gets or registers the schema of the records, and the configured preload schemas, when the serialization
+     * schema is opened, so that an incompatible schema fails the job before any records are serialized.
+     *
+     * @param context initialization context of the serialization schema
+     * @throws Exception on any error while getting or registering the schemas
+     */
+    @Override
+    public void open(InitializationContext context) throws Exception {
+        checkAvroInitialized();
+        if (schemaCoder instanceof GlueSchemaRegistryAvroSchemaCoder) {
+            ((GlueSchemaRegistryAvroSchemaCoder) schemaCoder).preloadSchemas(getSchema());
+        }
+    }
+
+    /**
+     * Releases the native memory held to compress the serialized elements. Flink does not close serialization
+     * schemas, so sinks that compress should call this when they are closed. The serialization schema stays usable
+     * afterwards.
+     */
+    public void close() {
+        if (schemaCoder instanceof GlueSchemaRegistryAvroSchemaCoder) {
+            ((GlueSchemaRegistryAvroSchemaCoder) schemaCoder).close();
+        }
+    }
+
     /**
      * Serializes the incoming element to a byte array containing bytes of AWS Glue Schema registry information.
+     * The schema registry bytes are written first and the element is encoded straight behind them, compressing
+     * on the fly when compression is enabled, so the element is written only once.
      *
      * @param object The incoming element to be serialized
      * @return The serialized bytes.
@@ -100,6 +133,21 @@ public class GlueSchemaRegistryAvroSerializationSchema<T> extends RegistryAvroSe
 
         if (object == null) {
             return null;
+        } else if (schemaCoder instanceof GlueSchemaRegistryAvroSchemaCoder) {
+            GlueSchemaRegistryAvroSchemaCoder glueSchemaRegistryAvroSchemaCoder = (GlueSchemaRegistryAvroSchemaCoder) schemaCoder;
+            ByteArrayOutputStream outputStream = getOutputStream();
+            outputStream.reset();
+            OutputStream dataStream = glueSchemaRegistryAvroSchemaCoder.writeSchemaHeader(getSchema(), outputStream);
+            Encoder encoder = getEncoder();
+            if (dataStream != outputStream) {
+                compressingEncoder = EncoderFactory.get().binaryEncoder(dataStream, compressingEncoder);
+                encoder = compressingEncoder;
+            }
+            getDatumWriter().write(object, encoder);
+            encoder.flush();
+            glueSchemaRegistryAvroSchemaCoder.finishData(dataStream);
+
+            return outputStream.toByteArray();
         } else {
             ByteArrayOutputStream outputStream = getOutputStream();
             outputStream.reset();
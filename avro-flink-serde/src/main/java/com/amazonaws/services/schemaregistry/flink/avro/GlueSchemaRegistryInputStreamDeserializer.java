@@ -15,8 +15,14 @@
 
 package com.amazonaws.services.schemaregistry.flink.avro;
 
+import com.amazonaws.services.schemaregistry.common.AWSCompressionFactory;
+import com.amazonaws.services.schemaregistry.common.AWSCompressionHandler;
 import com.amazonaws.services.schemaregistry.deserializers.AWSDeserializer;
+import com.amazonaws.services.schemaregistry.deserializers.AWSDeserializerDataParser;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaParseException;
 import org.apache.flink.formats.avro.utils.MutableByteArrayInputStream;
@@ -24,7 +30,10 @@ import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.Map;
+import java.util.UUID;
 
 
 /**
@@ -32,7 +41,17 @@ import java.util.Map;
  * and remove schema registry information in the input stream.
  */
 public class GlueSchemaRegistryInputStreamDeserializer {
+    private static final int HEADER_SIZE = AWSSchemaRegistryConstants.HEADER_VERSION_BYTE_SIZE
+                                           + AWSSchemaRegistryConstants.COMPRESSION_BYTE_SIZE
+                                           + AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_SIZE;
+    private static final int PARSED_SCHEMAS_CACHE_SIZE = 1000;
+
     private final AWSDeserializer awsDeserializer;
+    private final AWSCompressionFactory compressionFactory = new AWSCompressionFactory();
+    private final Cache<UUID, Schema> parsedSchemas = CacheBuilder.newBuilder()
+            .maximumSize(PARSED_SCHEMAS_CACHE_SIZE)
+            .build();
+    private final byte[] header = new byte[HEADER_SIZE];
 
     /**
      * Constructor accepts configuration map for AWS Deserializer
@@ -52,29 +71,47 @@ public class GlueSchemaRegistryInputStreamDeserializer {
     }
 
     /**
-     * Get schema and remove extra Schema Registry information within input stream
+     * Get schema and remove extra Schema Registry information within input stream. The header is read once and
+     * the stream is left at the start of the serialized object, so uncompressed objects are not copied.
+     * Compressed objects are decompressed into the stream. Writer schemas are parsed once per schema version id.
      *
      * @param in input stream
      * @return schema of object within input stream
      * @throws IOException Exception during decompression
      */
     public Schema getSchemaAndDeserializedStream(InputStream in) throws IOException {
-        byte[] inputBytes = new byte[in.available()];
-        in.read(inputBytes);
-        in.reset();
-
         MutableByteArrayInputStream mutableByteArrayInputStream = (MutableByteArrayInputStream) in;
-        String schemaDefinition = awsDeserializer.getSchema(inputBytes).getSchemaDefinition();
-        byte[] deserializedBytes = awsDeserializer.getActualData(inputBytes);
-        mutableByteArrayInputStream.setBuffer(deserializedBytes);
+        int headerLength = Math.max(mutableByteArrayInputStream.read(header), 0);
+        UUID schemaVersionId =
+                AWSDeserializerDataParser.getInstance().getSchemaVersionId(ByteBuffer.wrap(header, 0, headerLength));
+
+        // getSchemaVersionId has validated the header, so header[1] is a known compression byte here
+        AWSCompressionHandler compressionHandler = compressionFactory.getCompressionHandler(header[1]);
+        if (compressionHandler != null) {
+            byte[] compressedBytes = new byte[mutableByteArrayInputStream.available()];
+            int compressedLength = Math.max(mutableByteArrayInputStream.read(compressedBytes), 0);
+            mutableByteArrayInputStream.setBuffer(compressionHandler.decompress(compressedBytes, 0, compressedLength));
+        }
+
+        return getSchema(schemaVersionId);
+    }
+
+    private Schema getSchema(UUID schemaVersionId) {
+        Schema schema = parsedSchemas.getIfPresent(schemaVersionId);
+        if (schema != null) {
+            return schema;
+        }
 
-        Schema schema;
+        String schemaDefinition = awsDeserializer.getSchemas(Collections.singleton(schemaVersionId))
+                .get(schemaVersionId)
+                .getSchemaDefinition();
         try {
             schema = (new Schema.Parser()).parse(schemaDefinition);
         } catch (SchemaParseException e) {
             String message = "Error occurred while parsing schema, see inner exception for details.";
             throw new AWSSchemaRegistryException(message, e);
         }
+        parsedSchemas.put(schemaVersionId, schema);
 
         return schema;
     }
@@ -15,24 +15,39 @@
 
 package com.amazonaws.services.schemaregistry.flink.avro;
 
+import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializationFacade;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryUtils;
 import org.apache.avro.Schema;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Collections;
 import java.util.Map;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 /**
  * AWS Glue Schema Registry output stream serializer to accept schema and output stream to register schema
  * and write serialized object with schema registry bytes to output stream.
  */
 public class GlueSchemaRegistryOutputStreamSerializer {
+    private static final int COMPRESSION_BUFFER_SIZE = 1024;
+
     private final String transportName;
     private final Map<String, Object> configs;
     private final GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade;
+    private String schemaName;
+    private Schema lastSchema;
+    private String lastSchemaDefinition;
+    private Deflater deflater;
+    private ByteArrayOutputStream compressedStream;
+    private DeflaterOutputStream compressingStream;
 
     public GlueSchemaRegistryOutputStreamSerializer(String transportName, Map<String, Object> configs) {
         this(transportName, configs, null);
@@ -66,11 +81,90 @@ public class GlueSchemaRegistryOutputStreamSerializer {
         out.write(bytes);
     }
 
+    /**
+     * Register schema and write the schema registry bytes to the output stream, so that the serialized object can
+     * be written straight behind them. When compression is enabled the object must be written to the returned
+     * stream, which compresses into the output stream, and {@link #finishData(OutputStream)} must be called once the
+     * object is written.
+     * @param schema schema to be registered
+     * @param out    output stream
+     * @return stream to write the serialized object to
+     */
+    public OutputStream registerSchemaAndWriteHeader(Schema schema, ByteArrayOutputStream out) {
+        UUID schemaVersionId = glueSchemaRegistrySerializationFacade.getOrRegisterSchemaVersion(AWSSerializerInput
+                .builder()
+                .schemaDefinition(getSchemaDefinition(schema))
+                .schemaName(getSchemaName())
+                .transportName(transportName)
+                .build());
+        glueSchemaRegistrySerializationFacade.writeHeader(out, schemaVersionId);
+
+        if (glueSchemaRegistrySerializationFacade.getCompressionByte() == AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE) {
+            return out;
+        }
+        if (compressingStream == null || compressedStream != out) {
+            close();
+            deflater = new Deflater();
+            compressedStream = out;
+            compressingStream = new DeflaterOutputStream(out, deflater, COMPRESSION_BUFFER_SIZE);
+        } else {
+            deflater.reset();
+        }
+        return compressingStream;
+    }
+
+    /**
+     * Completes the serialized object written to the stream returned by
+     * {@link #registerSchemaAndWriteHeader(Schema, ByteArrayOutputStream)}.
+     * @param dataStream stream the serialized object was written to
+     * @throws IOException on any error while compressing the serialized object
+     */
+    public void finishData(OutputStream dataStream) throws IOException {
+        if (dataStream instanceof DeflaterOutputStream) {
+            ((DeflaterOutputStream) dataStream).finish();
+        }
+    }
+
+    /**
+     * Releases the native memory held by the compressor. The serializer stays usable and creates a new compressor
+     * when it next compresses an object.
+     */
+    public void close() {
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+        compressedStream = null;
+        compressingStream = null;
+    }
+
+    /**
+     * Get or register the schema, and the configured preload schemas, ahead of serialization, so that
+     * serializing the first records does not wait on the schema registry
+     * @param schema schema to be registered
+     */
+    public void preloadSchemas(Schema schema) {
+        glueSchemaRegistrySerializationFacade.preloadSchemas(Collections.singletonList(schema.toString()),
+                                                             Collections.singletonList(transportName),
+                                                             name -> getSchemaName());
+    }
+
+    private String getSchemaDefinition(Schema schema) {
+        if (schema != lastSchema) {
+            lastSchemaDefinition = schema.toString();
+            lastSchema = schema;
+        }
+        return lastSchemaDefinition;
+    }
+
     private String getSchemaName() {
-        String schemaName = AWSSchemaRegistryUtils.getInstance().getSchemaName(configs);
+        if (schemaName == null) {
+            String configuredSchemaName = AWSSchemaRegistryUtils.getInstance().getSchemaName(configs);
 
-        return schemaName != null
-                ? schemaName
-                : AWSSchemaRegistryUtils.getInstance().configureSchemaNamingStrategy(configs).getSchemaName(transportName);
+            schemaName = configuredSchemaName != null
+                    ? configuredSchemaName
+                    : AWSSchemaRegistryUtils.getInstance().configureSchemaNamingStrategy(configs).getSchemaName(transportName);
+        }
+        return schemaName;
     }
 }
@@ -15,9 +15,16 @@
 
 package com.amazonaws.services.schemaregistry.flink.avro;
 
+import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryDefaultCompression;
+import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.serializers.GlueSchemaRegistrySerializationFacade;
+import com.amazonaws.services.schemaregistry.serializers.SerializationDataEncoder;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import org.apache.avro.Schema;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,10 +33,14 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -37,7 +48,11 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,8 +68,7 @@ public class GlueSchemaRegistryAvroSerializationSchemaTest {
     private static final String testTopic = "Test-Topic";
     private static final String schemaName = "User-Topic";
     private static final String AVRO_USER_SCHEMA_FILE = "src/test/java/resources/avro/user.avsc";
-    private static final byte[] specificBytes = new byte[]{3, 0, -73, -76, -89, -16, -100, -106, 78, 74, -90, -121, -5,
-            93, -23, -17, 12, 99, 8, 116, 101, 115, 116, 0, 20, 0, 12, 118, 105, 111, 108, 101, 116};
+    private static final UUID SCHEMA_VERSION_ID = UUID.fromString("b7b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
 
     @BeforeEach
     public void setup() throws IOException {
@@ -98,11 +112,20 @@ public class GlueSchemaRegistryAvroSerializationSchemaTest {
      */
     @ParameterizedTest
     @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
-    public void testSerialize_withValidParams_succeeds(AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+    public void testSerialize_withValidParams_succeeds(AWSSchemaRegistryConstants.COMPRESSION compressionType)
+            throws IOException {
         configs.put(AWSSchemaRegistryConstants.COMPRESSION_TYPE, compressionType.name());
-
-        when(mockSerializationFacade.encode(anyString(), any(com.amazonaws.services.schemaregistry.common.Schema.class), any()))
-                .thenReturn(specificBytes);
+        SerializationDataEncoder serializationDataEncoder =
+                new SerializationDataEncoder(new GlueSchemaRegistryConfiguration(configs));
+
+        when(mockSerializationFacade.getOrRegisterSchemaVersion(argThat(input -> schemaName.equals(input.getSchemaName())
+                                                                            && testTopic.equals(input.getTransportName()))))
+                .thenReturn(SCHEMA_VERSION_ID);
+        doAnswer(invocation -> {
+            serializationDataEncoder.writeHeader(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(mockSerializationFacade).writeHeader(any(ByteArrayOutputStream.class), eq(SCHEMA_VERSION_ID));
+        when(mockSerializationFacade.getCompressionByte()).thenReturn(serializationDataEncoder.getCompressionByte());
 
         GlueSchemaRegistryOutputStreamSerializer glueSchemaRegistryOutputStreamSerializer =
                 new GlueSchemaRegistryOutputStreamSerializer(testTopic, configs, mockSerializationFacade);
@@ -111,7 +134,89 @@ public class GlueSchemaRegistryAvroSerializationSchemaTest {
                 new GlueSchemaRegistryAvroSerializationSchema(User.class, null, glueSchemaRegistryAvroSchemaCoder);
 
         byte[] serializedData = glueSchemaRegistryAvroSerializationSchema.serialize(userDefinedPojo);
-        assertThat(serializedData, equalTo(specificBytes));
+        byte[] expectedData = serializationDataEncoder.write(serializeAvro(userDefinedPojo), SCHEMA_VERSION_ID);
+        assertThat(decode(serializedData), equalTo(decode(expectedData)));
+        assertThat(glueSchemaRegistryAvroSerializationSchema.serialize(userDefinedPojo), equalTo(serializedData));
+    }
+
+    /**
+     * Test whether serialize method writes the same bytes as encoding the serialized record afterwards
+     */
+    @Test
+    public void testSerialize_withoutCompression_matchesEncodedRecord() throws IOException {
+        configs.put(AWSSchemaRegistryConstants.COMPRESSION_TYPE, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        SerializationDataEncoder serializationDataEncoder =
+                new SerializationDataEncoder(new GlueSchemaRegistryConfiguration(configs));
+
+        when(mockSerializationFacade.getOrRegisterSchemaVersion(any(AWSSerializerInput.class))).thenReturn(SCHEMA_VERSION_ID);
+        doAnswer(invocation -> {
+            serializationDataEncoder.writeHeader(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(mockSerializationFacade).writeHeader(any(ByteArrayOutputStream.class), eq(SCHEMA_VERSION_ID));
+
+        GlueSchemaRegistryOutputStreamSerializer glueSchemaRegistryOutputStreamSerializer =
+                new GlueSchemaRegistryOutputStreamSerializer(testTopic, configs, mockSerializationFacade);
+        GlueSchemaRegistryAvroSchemaCoder glueSchemaRegistryAvroSchemaCoder = new GlueSchemaRegistryAvroSchemaCoder(glueSchemaRegistryOutputStreamSerializer);
+        GlueSchemaRegistryAvroSerializationSchema<User> glueSchemaRegistryAvroSerializationSchema =
+                new GlueSchemaRegistryAvroSerializationSchema<>(User.class, null, glueSchemaRegistryAvroSchemaCoder);
+
+        assertThat(glueSchemaRegistryAvroSerializationSchema.serialize(userDefinedPojo),
+                   equalTo(serializationDataEncoder.write(serializeAvro(userDefinedPojo), SCHEMA_VERSION_ID)));
+    }
+
+    /**
+     * Test whether open method gets or registers the schema of the records
+     */
+    @Test
+    public void testOpen_withValidParams_preloadsSchema() throws Exception {
+        GlueSchemaRegistryOutputStreamSerializer glueSchemaRegistryOutputStreamSerializer =
+                new GlueSchemaRegistryOutputStreamSerializer(testTopic, configs, mockSerializationFacade);
+        GlueSchemaRegistryAvroSchemaCoder glueSchemaRegistryAvroSchemaCoder = new GlueSchemaRegistryAvroSchemaCoder(glueSchemaRegistryOutputStreamSerializer);
+        GlueSchemaRegistryAvroSerializationSchema<User> glueSchemaRegistryAvroSerializationSchema =
+                new GlueSchemaRegistryAvroSerializationSchema<>(User.class, null, glueSchemaRegistryAvroSchemaCoder);
+
+        glueSchemaRegistryAvroSerializationSchema.open(null);
+
+        verify(mockSerializationFacade).preloadSchemas(eq(Collections.singletonList(
+                glueSchemaRegistryAvroSerializationSchema.getSchema().toString())),
+                                                       eq(Collections.singletonList(testTopic)), any());
+    }
+
+    /**
+     * Test whether close method releases the resources of the schema coder
+     */
+    @Test
+    public void testClose_withGlueSchemaCoder_closesSchemaCoder() {
+        GlueSchemaRegistryAvroSchemaCoder glueSchemaRegistryAvroSchemaCoder = mock(GlueSchemaRegistryAvroSchemaCoder.class);
+        GlueSchemaRegistryAvroSerializationSchema<User> glueSchemaRegistryAvroSerializationSchema =
+                new GlueSchemaRegistryAvroSerializationSchema<>(User.class, null, glueSchemaRegistryAvroSchemaCoder);
+
+        glueSchemaRegistryAvroSerializationSchema.close();
+
+        verify(glueSchemaRegistryAvroSchemaCoder).close();
+    }
+
+    private static byte[] serializeAvro(User user) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Encoder encoder = EncoderFactory.get().directBinaryEncoder(outputStream, null);
+        new SpecificDatumWriter<>(User.class).write(user, encoder);
+        encoder.flush();
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Splits serialized bytes into the schema registry header and the decompressed record bytes.
+     */
+    private static byte[][] decode(byte[] serializedData) {
+        int headerSize = AWSSchemaRegistryConstants.HEADER_VERSION_BYTE_SIZE
+                         + AWSSchemaRegistryConstants.COMPRESSION_BYTE_SIZE
+                         + AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_SIZE;
+        byte[] header = Arrays.copyOf(serializedData, headerSize);
+        byte[] data = serializedData[1] == AWSSchemaRegistryConstants.COMPRESSION_BYTE
+                ? new AWSSchemaRegistryDefaultCompression().decompress(serializedData, headerSize,
+                                                                      serializedData.length - headerSize)
+                : Arrays.copyOfRange(serializedData, headerSize, serializedData.length);
+        return new byte[][]{header, data};
     }
 
     /**
@@ -18,6 +18,7 @@ package com.amazonaws.services.schemaregistry.flink.avro;
 import com.amazonaws.services.schemaregistry.common.AWSCompressionHandler;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryDefaultCompression;
 import com.amazonaws.services.schemaregistry.deserializers.AWSDeserializer;
+import com.amazonaws.services.schemaregistry.exception.AWSIncompatibleDataException;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import org.apache.avro.Schema;
@@ -38,6 +39,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -45,8 +47,11 @@ import java.util.UUID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 ;
@@ -124,13 +129,69 @@ public class GlueSchemaRegistryInputStreamDeserializerTest {
         MutableByteArrayInputStream mutableByteArrayInputStream = new MutableByteArrayInputStream();
         mutableByteArrayInputStream.setBuffer(bytes);
 
-        when(mockDeserializer.getSchema(any())).thenReturn(glueSchema);
-        when(mockDeserializer.getActualData(any())).thenReturn(bytes);
+        when(mockDeserializer.getSchemas(Collections.singleton(USER_SCHEMA_VERSION_ID)))
+                .thenReturn(Collections.singletonMap(USER_SCHEMA_VERSION_ID, glueSchema));
         GlueSchemaRegistryInputStreamDeserializer glueSchemaRegistryInputStreamDeserializer =
                 new GlueSchemaRegistryInputStreamDeserializer(mockDeserializer);
         Schema resultSchema = glueSchemaRegistryInputStreamDeserializer.getSchemaAndDeserializedStream(mutableByteArrayInputStream);
 
         assertThat(resultSchema.toString(), equalTo(glueSchema.getSchemaDefinition()));
+        assertThat(readRemaining(mutableByteArrayInputStream),
+                   equalTo(encodeData(userDefinedPojo, new SpecificDatumWriter<>(userSchema))));
+    }
+
+    /**
+     * Test whether getSchemaAndDeserializedStream method parses the schema of a schema version id only once
+     */
+    @Test
+    public void testGetSchemaAndDeserializedStream_sameSchemaVersionId_reusesParsedSchema() throws IOException {
+        byte[] bytes = writeToExistingStream(buildByteArrayOutputStream(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE,
+                                                                        AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE),
+                                             encodeData(userDefinedPojo, new SpecificDatumWriter<>(userSchema)));
+        MutableByteArrayInputStream mutableByteArrayInputStream = new MutableByteArrayInputStream();
+
+        when(mockDeserializer.getSchemas(Collections.singleton(USER_SCHEMA_VERSION_ID)))
+                .thenReturn(Collections.singletonMap(USER_SCHEMA_VERSION_ID, glueSchema));
+        GlueSchemaRegistryInputStreamDeserializer glueSchemaRegistryInputStreamDeserializer =
+                new GlueSchemaRegistryInputStreamDeserializer(mockDeserializer);
+
+        mutableByteArrayInputStream.setBuffer(bytes);
+        Schema firstSchema = glueSchemaRegistryInputStreamDeserializer.getSchemaAndDeserializedStream(mutableByteArrayInputStream);
+        mutableByteArrayInputStream.setBuffer(bytes);
+        Schema secondSchema = glueSchemaRegistryInputStreamDeserializer.getSchemaAndDeserializedStream(mutableByteArrayInputStream);
+
+        assertThat(secondSchema, sameInstance(firstSchema));
+        verify(mockDeserializer, times(1)).getSchemas(any());
+    }
+
+    /**
+     * Test whether getSchemaAndDeserializedStream method throws exception when the data has no schema registry header
+     */
+    @Test
+    public void testGetSchemaAndDeserializedStream_withoutHeader_throwsException() {
+        MutableByteArrayInputStream mutableByteArrayInputStream = new MutableByteArrayInputStream();
+        mutableByteArrayInputStream.setBuffer(new byte[]{1, 2, 3});
+        GlueSchemaRegistryInputStreamDeserializer glueSchemaRegistryInputStreamDeserializer =
+                new GlueSchemaRegistryInputStreamDeserializer(mockDeserializer);
+
+        assertThrows(AWSIncompatibleDataException.class,
+                () -> glueSchemaRegistryInputStreamDeserializer.getSchemaAndDeserializedStream(mutableByteArrayInputStream));
+    }
+
+    /**
+     * Test whether getSchemaAndDeserializedStream method throws exception when the header has an unknown compression byte
+     */
+    @Test
+    public void testGetSchemaAndDeserializedStream_unknownCompressionByte_throwsException() throws IOException {
+        byte[] bytes = writeToExistingStream(buildByteArrayOutputStream(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE, (byte) 9),
+                                             encodeData(userDefinedPojo, new SpecificDatumWriter<>(userSchema)));
+        MutableByteArrayInputStream mutableByteArrayInputStream = new MutableByteArrayInputStream();
+        mutableByteArrayInputStream.setBuffer(bytes);
+        GlueSchemaRegistryInputStreamDeserializer glueSchemaRegistryInputStreamDeserializer =
+                new GlueSchemaRegistryInputStreamDeserializer(mockDeserializer);
+
+        assertThrows(AWSIncompatibleDataException.class,
+                () -> glueSchemaRegistryInputStreamDeserializer.getSchemaAndDeserializedStream(mutableByteArrayInputStream));
     }
 
     /**
@@ -151,10 +212,12 @@ public class GlueSchemaRegistryInputStreamDeserializerTest {
                         "]" +
                         "}";
         MutableByteArrayInputStream mutableByteArrayInputStream = new MutableByteArrayInputStream();
+        mutableByteArrayInputStream.setBuffer(buildByteArrayOutputStream(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE,
+                                                                         AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE)
+                                                      .toByteArray());
         glueSchema = new com.amazonaws.services.schemaregistry.common.Schema(schemaDefinition, "Avro", testTopic);
 
-        when(mockDeserializer.getSchema(any())).thenReturn(glueSchema);
-        when(mockDeserializer.getActualData(any())).thenReturn(new byte[0]);
+        when(mockDeserializer.getSchemas(any())).thenReturn(Collections.singletonMap(USER_SCHEMA_VERSION_ID, glueSchema));
         GlueSchemaRegistryInputStreamDeserializer awsSchemaRegistryInputStreamDeserializer =
                 new GlueSchemaRegistryInputStreamDeserializer(mockDeserializer);
 
@@ -192,6 +255,12 @@ public class GlueSchemaRegistryInputStreamDeserializerTest {
         return actualDataBytes.toByteArray();
     }
 
+    private byte[] readRemaining(MutableByteArrayInputStream in) {
+        byte[] remaining = new byte[in.available()];
+        in.read(remaining, 0, remaining.length);
+        return remaining;
+    }
+
     private byte[] compressData(byte[] actualDataBytes) throws IOException {
         return awsCompressionHandler.compress(actualDataBytes);
     }
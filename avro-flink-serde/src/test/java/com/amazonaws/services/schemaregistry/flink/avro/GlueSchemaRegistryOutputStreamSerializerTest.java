@@ -27,12 +27,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -48,6 +53,7 @@ public class GlueSchemaRegistryOutputStreamSerializerTest {
     private static Map<String, String> metadata = new HashMap<>();
 
     private static final String testTopic = "Test-Topic";
+    private static final UUID SCHEMA_VERSION_ID = UUID.fromString("b7b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
     private static final String AVRO_USER_SCHEMA_FILE = "src/test/java/resources/avro/user.avsc";
     private static final byte[] actualBytes = new byte[]{12, 99, 8, 116, 101, 115, 116, 0, 20, 0, 12, 118, 105, 111, 108, 101, 116};
     private static final byte[] specificBytes = new byte[]{3, 0, -73, -76, -89, -16, -100, -106, 78, 74, -90, -121, -5,
@@ -102,4 +108,48 @@ public class GlueSchemaRegistryOutputStreamSerializerTest {
 
         assertThat(outputStream.toByteArray(), equalTo(specificBytes));
     }
+
+    /**
+     * Test whether registerSchemaAndWriteHeader method ends the compressor it replaces for another output stream
+     */
+    @Test
+    public void testRegisterSchemaAndWriteHeader_otherOutputStream_endsPreviousDeflater() throws Exception {
+        when(mockSerializationFacade.getOrRegisterSchemaVersion(any())).thenReturn(SCHEMA_VERSION_ID);
+        when(mockSerializationFacade.getCompressionByte()).thenReturn(AWSSchemaRegistryConstants.COMPRESSION_BYTE);
+        GlueSchemaRegistryOutputStreamSerializer glueSchemaRegistryOutputStreamSerializer =
+                new GlueSchemaRegistryOutputStreamSerializer(testTopic, configs, mockSerializationFacade);
+
+        glueSchemaRegistryOutputStreamSerializer.registerSchemaAndWriteHeader(userSchema, new ByteArrayOutputStream());
+        Deflater firstDeflater = getDeflater(glueSchemaRegistryOutputStreamSerializer);
+        glueSchemaRegistryOutputStreamSerializer.registerSchemaAndWriteHeader(userSchema, new ByteArrayOutputStream());
+
+        assertThrows(NullPointerException.class, firstDeflater::getTotalIn);
+        assertThat(getDeflater(glueSchemaRegistryOutputStreamSerializer).getTotalIn(), equalTo(0));
+    }
+
+    /**
+     * Test whether close method ends the compressor, and a new one is created when compressing afterwards
+     */
+    @Test
+    public void testClose_afterCompression_endsDeflater() throws Exception {
+        when(mockSerializationFacade.getOrRegisterSchemaVersion(any())).thenReturn(SCHEMA_VERSION_ID);
+        when(mockSerializationFacade.getCompressionByte()).thenReturn(AWSSchemaRegistryConstants.COMPRESSION_BYTE);
+        GlueSchemaRegistryOutputStreamSerializer glueSchemaRegistryOutputStreamSerializer =
+                new GlueSchemaRegistryOutputStreamSerializer(testTopic, configs, mockSerializationFacade);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        glueSchemaRegistryOutputStreamSerializer.registerSchemaAndWriteHeader(userSchema, outputStream);
+        Deflater deflater = getDeflater(glueSchemaRegistryOutputStreamSerializer);
+        glueSchemaRegistryOutputStreamSerializer.close();
+
+        assertThrows(NullPointerException.class, deflater::getTotalIn);
+        assertThat(glueSchemaRegistryOutputStreamSerializer.registerSchemaAndWriteHeader(userSchema, outputStream),
+                   instanceOf(DeflaterOutputStream.class));
+    }
+
+    private static Deflater getDeflater(GlueSchemaRegistryOutputStreamSerializer serializer) throws Exception {
+        Field deflaterField = GlueSchemaRegistryOutputStreamSerializer.class.getDeclaredField("deflater");
+        deflaterField.setAccessible(true);
+        return (Deflater) deflaterField.get(serializer);
+    }
 }
@@ -15,6 +15,7 @@
 
 package com.amazonaws.services.schemaregistry.kafkaconnect;
 
+import com.amazonaws.services.schemaregistry.deserializers.avro.AWSAvroDeserializerOutput;
 import com.amazonaws.services.schemaregistry.deserializers.avro.AWSKafkaAvroDeserializer;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.kafkaconnect.avrodata.AvroData;
@@ -23,12 +24,19 @@ import com.amazonaws.services.schemaregistry.serializers.avro.AWSKafkaAvroSerial
 
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
 import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.errors.DataException;
 import org.apache.kafka.connect.storage.Converter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -79,7 +87,8 @@ public class AWSKafkaAvroConverter implements Converter {
     }
 
     /**
-     * Convert orginal Connect data to AVRO serialized byte array
+     * Convert orginal Connect data to AVRO serialized byte array. Structs are encoded straight to Avro binary
+     * when the schema name does not depend on the Avro record.
      * @param topic topic name
      * @param schema original Connect schema
      * @param value original Connect data
@@ -88,36 +97,120 @@ public class AWSKafkaAvroConverter implements Converter {
     @Override
     public byte[] fromConnectData(String topic, Schema schema, Object value) {
         try {
+            if (isEncodable(schema, value)) {
+                return encode(topic, null, schema, value);
+            }
             Object avroValue = avroData.fromConnectData(schema, value);
             return serializer.serialize(topic, avroValue);
-        } catch (SerializationException | AWSSchemaRegistryException e) {
+        } catch (SerializationException | AWSSchemaRegistryException | IOException e) {
             throw new DataException("Converting Kafka Connect data to byte[] failed due to serialization error: ", e);
         }
     }
 
     /**
-     * Convert AVRO serialized byte array to Connect schema and data
+     * Convert orginal Connect data to AVRO serialized byte array. When schema version ids are put in headers,
+     * the schema version id and the compression byte are added to the record headers and the data is returned
+     * without the schema registry header.
+     * @param topic topic name
+     * @param headers record headers
+     * @param schema original Connect schema
+     * @param value original Connect data
+     * @return AVRO serialized byte array
+     */
+    @Override
+    public byte[] fromConnectData(String topic, Headers headers, Schema schema, Object value) {
+        if (headers == null) {
+            return fromConnectData(topic, schema, value);
+        }
+
+        try {
+            if (isEncodable(schema, value)) {
+                return encode(topic, headers, schema, value);
+            }
+            Object avroValue = avroData.fromConnectData(schema, value);
+            return serializer.serialize(topic, headers, avroValue);
+        } catch (SerializationException | AWSSchemaRegistryException | IOException e) {
+            throw new DataException("Converting Kafka Connect data to byte[] failed due to serialization error: ", e);
+        }
+    }
+
+    /**
+     * Top level optional structs are registered with the record schema rather than the union, so only
+     * required structs are encoded directly.
+     */
+    private boolean isEncodable(Schema schema, Object value) {
+        return schema != null && value != null && schema.type() == Schema.Type.STRUCT && !schema.isOptional()
+                && serializer.isEncodedDataSupported();
+    }
+
+    private byte[] encode(String topic, Headers headers, Schema schema, Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        org.apache.avro.Schema avroSchema = avroData.encodeConnectData(schema, value, encoder);
+        encoder.flush();
+        return serializer.serializeEncoded(topic, headers, avroSchema, out.toByteArray());
+    }
+
+    /**
+     * Convert AVRO serialized byte array to Connect schema and data. The Avro binary data is decoded straight
+     * into Connect data, unless a reader schema is configured for it.
      * @param topic topic name
      * @param value AVRO serialized byte array
      * @return Connect schema and data
      */
     @Override
     public SchemaAndValue toConnectData(String topic, byte[] value) {
-        Object deserialized;
+        AWSAvroDeserializerOutput deserialized;
 
         if (value == null) {
             return SchemaAndValue.NULL;
         }
 
         try {
-            deserialized = deserializer.deserialize(topic, value);
-        } catch (SerializationException | AWSSchemaRegistryException e) {
+            AWSAvroDeserializerOutput encoded = deserializer.readEncodedData(topic, value);
+            if (encoded != null) {
+                return decode(encoded);
+            }
+            deserialized = deserializer.deserializeWithWriterSchema(topic, value);
+        } catch (SerializationException | AWSSchemaRegistryException | AvroRuntimeException | IOException e) {
+            throw new DataException("Converting byte[] to Kafka Connect data failed due to serialization error: ", e);
+        }
+
+        return avroData.toConnectData(deserialized.getWriterSchema(), deserialized.getData());
+    }
+
+    /**
+     * Convert AVRO serialized byte array to Connect schema and data. The schema version id is taken from the
+     * record headers when present, otherwise from the schema registry header of the data.
+     * @param topic topic name
+     * @param headers record headers
+     * @param value AVRO serialized byte array
+     * @return Connect schema and data
+     */
+    @Override
+    public SchemaAndValue toConnectData(String topic, Headers headers, byte[] value) {
+        AWSAvroDeserializerOutput deserialized;
+
+        if (value == null || headers == null) {
+            return toConnectData(topic, value);
+        }
+
+        try {
+            AWSAvroDeserializerOutput encoded = deserializer.readEncodedData(topic, headers, value);
+            if (encoded != null) {
+                return decode(encoded);
+            }
+            deserialized = deserializer.deserializeWithWriterSchema(topic, headers, value);
+        } catch (SerializationException | AWSSchemaRegistryException | AvroRuntimeException | IOException e) {
             throw new DataException("Converting byte[] to Kafka Connect data failed due to serialization error: ", e);
         }
 
-        org.apache.avro.Schema.Parser parser = new org.apache.avro.Schema.Parser();
-        org.apache.avro.Schema avroSchema = parser.parse(deserializer.getAwsDeserializer().getSchemaDefinition(value));
+        return avroData.toConnectData(deserialized.getWriterSchema(), deserialized.getData());
+    }
 
-        return avroData.toConnectData(avroSchema, deserialized);
+    private SchemaAndValue decode(AWSAvroDeserializerOutput encoded) throws IOException {
+        byte[] data = (byte[]) encoded.getData();
+        return avroData.decodeConnectData(encoded.getWriterSchema(),
+                DecoderFactory.get().binaryDecoder(data, 0, data.length, null));
     }
 }
@@ -22,17 +22,20 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.JsonProperties;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericEnumSymbol;
 import org.apache.avro.generic.GenericFixed;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.GenericRecordBuilder;
 import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
 import org.apache.avro.util.internal.JacksonUtils;
 import org.apache.kafka.common.cache.Cache;
-import org.apache.kafka.common.cache.LRUCache;
-import org.apache.kafka.common.cache.SynchronizedCache;
 import org.apache.kafka.connect.data.ConnectSchema;
 import org.apache.kafka.connect.data.Date;
 import org.apache.kafka.connect.data.Decimal;
@@ -54,6 +57,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -310,6 +314,13 @@ public class AvroData {
 
     private Cache<Schema, org.apache.avro.Schema> fromConnectSchemaCache;
     private Cache<AvroSchema, Schema> toConnectSchemaCache;
+    private Cache<org.apache.avro.Schema, Schema> toConnectSchemaIdentityCache;
+    private Cache<Schema, ToAvroConverter> fromConnectPlans;
+    private Cache<Schema, ToAvroConverter> fromConnectIdentityPlans;
+    private Cache<Schema, ToConnectConverter> toConnectPlans;
+    private Cache<Schema, ToConnectConverter> toConnectIdentityPlans;
+    private Cache<Schema, ConnectDataEncoder> connectDataEncoders;
+    private Cache<org.apache.avro.Schema, ConnectDataDecoder> connectDataDecoders;
     private boolean connectMetaData;
     private boolean enhancedSchemaSupport;
 
@@ -320,12 +331,15 @@ public class AvroData {
     }
 
     public AvroData(AvroDataConfig avroDataConfig) {
-        fromConnectSchemaCache =
-                new SynchronizedCache<>(new LRUCache<>(
-                        avroDataConfig.getSchemasCacheSize()));
-        toConnectSchemaCache =
-                new SynchronizedCache<>(new LRUCache<>(
-                        avroDataConfig.getSchemasCacheSize()));
+        fromConnectSchemaCache = new ConcurrentLRUCache<>(avroDataConfig.getSchemasCacheSize());
+        toConnectSchemaCache = new ConcurrentLRUCache<>(avroDataConfig.getSchemasCacheSize());
+        toConnectSchemaIdentityCache = ConcurrentLRUCache.identityKeyed(avroDataConfig.getSchemasCacheSize());
+        fromConnectPlans = new ConcurrentLRUCache<>(avroDataConfig.getSchemasCacheSize());
+        fromConnectIdentityPlans = ConcurrentLRUCache.identityKeyed(avroDataConfig.getSchemasCacheSize());
+        toConnectPlans = new ConcurrentLRUCache<>(avroDataConfig.getSchemasCacheSize());
+        toConnectIdentityPlans = ConcurrentLRUCache.identityKeyed(avroDataConfig.getSchemasCacheSize());
+        connectDataEncoders = ConcurrentLRUCache.identityKeyed(avroDataConfig.getSchemasCacheSize());
+        connectDataDecoders = ConcurrentLRUCache.identityKeyed(avroDataConfig.getSchemasCacheSize());
         this.connectMetaData = avroDataConfig.isConnectMetaData();
         this.enhancedSchemaSupport = avroDataConfig.isEnhancedAvroSchemaSupport();
     }
@@ -334,8 +348,59 @@ public class AvroData {
      * Convert this object, in Connect data format, into an Avro object.
      */
     public Object fromConnectData(Schema schema, Object value) {
-        org.apache.avro.Schema avroSchema = fromConnectSchema(schema);
-        return fromConnectData(schema, avroSchema, value);
+        if (schema == null) {
+            org.apache.avro.Schema avroSchema = fromConnectSchema(schema);
+            return fromConnectData(schema, avroSchema, value);
+        }
+
+        return getFromConnectPlan(schema).convert(value);
+    }
+
+    /**
+     * Records of the same schema usually share its instance, so the plan is first looked up by identity, which
+     * avoids hashing and comparing the whole Connect schema, and then by equality, so that equal schema instances
+     * built per record still share one plan.
+     */
+    private ToAvroConverter getFromConnectPlan(Schema schema) {
+        ToAvroConverter plan = fromConnectIdentityPlans.get(schema);
+        if (plan != null) {
+            return plan;
+        }
+        plan = fromConnectPlans.get(schema);
+        if (plan == null) {
+            plan = compileToAvro(schema, fromConnectSchema(schema), true, false, newIdentitySet());
+            fromConnectPlans.put(schema, plan);
+        }
+        fromConnectIdentityPlans.put(schema, plan);
+        return plan;
+    }
+
+    /**
+     * Encode this object, in Connect data format, straight to Avro binary, without building the intermediate
+     * Avro objects. The data is encoded the same way as the Avro object returned by
+     * {@link #fromConnectData(Schema, Object)}.
+     *
+     * @param schema  the Connect schema
+     * @param value   the Connect data to encode
+     * @param encoder the encoder to write the Avro binary data to
+     * @return the Avro schema the data is encoded with
+     * @throws IOException if the encoder fails to write the data
+     */
+    public org.apache.avro.Schema encodeConnectData(Schema schema, Object value, Encoder encoder)
+            throws IOException {
+        if (schema == null) {
+            throw new DataException("Encoding schemaless data is not supported");
+        }
+
+        ConnectDataEncoder connectDataEncoder = connectDataEncoders.get(schema);
+        if (connectDataEncoder == null) {
+            org.apache.avro.Schema avroSchema = fromConnectSchema(schema);
+            connectDataEncoder = new ConnectDataEncoder(avroSchema,
+                    compileToAvroWriter(schema, avroSchema, newIdentitySet()));
+            connectDataEncoders.put(schema, connectDataEncoder);
+        }
+        connectDataEncoder.writer.write(value, encoder);
+        return connectDataEncoder.avroSchema;
     }
 
     protected Object fromConnectData(Schema schema, org.apache.avro.Schema avroSchema, Object value) {
@@ -594,6 +659,336 @@ public class AvroData {
         }
     }
 
+    /**
+     * Compiles the conversion of values of a Connect schema to Avro into a tree of converters, with the Avro
+     * schemas, logical type converters and record field positions resolved once. Values the plan does not
+     * support, like unions, schemaless data and recursive schemas, are converted by
+     * {@link #fromConnectData(Schema, org.apache.avro.Schema, Object, boolean, boolean, boolean)}, and so are
+     * schemas the plan fails to compile, which then fail the same way when their values are converted.
+     */
+    private ToAvroConverter compileToAvro(Schema schema, org.apache.avro.Schema avroSchema,
+                                          boolean requireContainer, boolean requireSchemalessContainerNull,
+                                          Set<Schema> compiling) {
+        ToAvroConverter interpreted = value -> fromConnectData(schema, avroSchema, value, requireContainer,
+                requireSchemalessContainerNull, enhancedSchemaSupport);
+        if (schema == null || !compiling.add(schema)) {
+            return interpreted;
+        }
+
+        try {
+            ToAvroConverter compiled = compileToAvroType(schema, avroSchema, requireContainer, compiling);
+            return compiled != null ? compiled : interpreted;
+        } catch (RuntimeException e) {
+            return interpreted;
+        } finally {
+            compiling.remove(schema);
+        }
+    }
+
+    private ToAvroConverter compileToAvroType(Schema schema, org.apache.avro.Schema avroSchema,
+                                              boolean requireContainer, Set<Schema> compiling) {
+        ToAvroConverter typeConverter;
+        switch (schema.type()) {
+            case INT8:
+                typeConverter = value -> ((Byte) value).intValue();
+                break;
+            case INT16:
+                typeConverter = value -> ((Short) value).intValue();
+                break;
+            case INT32:
+                typeConverter = value -> (Integer) value;
+                break;
+            case INT64:
+                typeConverter = value -> (Long) value;
+                break;
+            case FLOAT32:
+                typeConverter = value -> (Float) value;
+                break;
+            case FLOAT64:
+                typeConverter = value -> (Double) value;
+                break;
+            case BOOLEAN:
+                typeConverter = value -> (Boolean) value;
+                break;
+            case STRING:
+                if (enhancedSchemaSupport && schema.parameters() != null
+                        && schema.parameters().containsKey(AVRO_TYPE_ENUM)) {
+                    String enumSchemaName = schema.parameters().get(AVRO_TYPE_ENUM);
+                    org.apache.avro.Schema enumSchema = avroSchema.getType() == org.apache.avro.Schema.Type.UNION
+                            ? avroSchema.getTypes().get(avroSchema.getIndexNamed(enumSchemaName))
+                            : avroSchema;
+                    typeConverter = value -> new GenericData.EnumSymbol(enumSchema, (String) value);
+                } else {
+                    typeConverter = value -> (String) value;
+                }
+                break;
+            case BYTES:
+                typeConverter = value -> value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : (ByteBuffer) value;
+                break;
+            case ARRAY: {
+                ToAvroConverter elementConverter = compileToAvro(schema.valueSchema(),
+                        avroSchemaForUnderlyingTypeIfOptional(schema, avroSchema).getElementType(), false, true,
+                        compiling);
+                typeConverter = value -> {
+                    Collection<Object> list = (Collection<Object>) value;
+                    List<Object> converted = new ArrayList<>(list.size());
+                    for (Object element : list) {
+                        converted.add(elementConverter.convert(element));
+                    }
+                    return converted;
+                };
+                break;
+            }
+            case MAP: {
+                if (schema.keySchema().type() != Schema.Type.STRING || schema.keySchema().isOptional()) {
+                    return null;
+                }
+                ToAvroConverter valueConverter = compileToAvro(schema.valueSchema(),
+                        avroSchemaForUnderlyingTypeIfOptional(schema, avroSchema).getValueType(), false, true,
+                        compiling);
+                typeConverter = value -> {
+                    Map<Object, Object> map = (Map<Object, Object>) value;
+                    Map<String, Object> converted = new HashMap<>();
+                    for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                        converted.put((String) entry.getKey(), valueConverter.convert(entry.getValue()));
+                    }
+                    return converted;
+                };
+                break;
+            }
+            case STRUCT: {
+                if (AVRO_TYPE_UNION.equals(schema.name())) {
+                    return null;
+                }
+                org.apache.avro.Schema recordSchema = avroSchemaForUnderlyingTypeIfOptional(schema, avroSchema);
+                if (recordSchema.getType() != org.apache.avro.Schema.Type.RECORD
+                        || recordSchema.getFields().size() != schema.fields().size()) {
+                    return null;
+                }
+                typeConverter = new ToAvroStructConverter(schema, recordSchema, compiling);
+                break;
+            }
+            default:
+                return null;
+        }
+
+        LogicalTypeConverter logicalConverter = schema.name() != null
+                ? TO_AVRO_LOGICAL_CONVERTERS.get(schema.name())
+                : null;
+        boolean addContainer = requireContainer && schema.type() != Schema.Type.STRUCT;
+        return logicalValue -> {
+            validateSchemaValue(schema, logicalValue);
+            if (logicalValue == null) {
+                return null;
+            }
+
+            Object value = logicalConverter != null ? logicalConverter.convert(schema, logicalValue) : logicalValue;
+            try {
+                return maybeAddContainer(avroSchema, typeConverter.convert(value), addContainer);
+            } catch (ClassCastException e) {
+                throw new DataException("Invalid type for " + schema.type() + ": " + value.getClass());
+            }
+        };
+    }
+
+    /**
+     * Compiles the encoding of values of a Connect schema to Avro binary into a tree of writers, which write
+     * the values as they are converted instead of building Avro objects. Values the writers do not support are
+     * converted by {@link #compileToAvro(Schema, org.apache.avro.Schema, boolean, boolean, Set)} and written
+     * with a datum writer, which also encodes them the same way.
+     */
+    private ToAvroWriter compileToAvroWriter(Schema schema, org.apache.avro.Schema avroSchema,
+                                             Set<Schema> compiling) {
+        ToAvroWriter writer = null;
+        if (schema != null && compiling.add(schema)) {
+            try {
+                if (avroSchema.getType() == org.apache.avro.Schema.Type.UNION) {
+                    writer = compileToAvroUnionWriter(schema, avroSchema, compiling);
+                } else if (!schema.isOptional()) {
+                    writer = compileToAvroTypeWriter(schema, avroSchema, compiling);
+                }
+            } catch (RuntimeException e) {
+                writer = null;
+            } finally {
+                compiling.remove(schema);
+            }
+        }
+        if (writer != null) {
+            return writer;
+        }
+
+        ToAvroConverter converter = compileToAvro(schema, avroSchema, false, true, newIdentitySet());
+        GenericDatumWriter<Object> datumWriter = new GenericDatumWriter<>(avroSchema);
+        return (value, encoder) -> datumWriter.write(converter.convert(value), encoder);
+    }
+
+    /**
+     * Optional values are written as a union of null and the value type.
+     */
+    private ToAvroWriter compileToAvroUnionWriter(Schema schema, org.apache.avro.Schema avroSchema,
+                                                  Set<Schema> compiling) {
+        List<org.apache.avro.Schema> types = avroSchema.getTypes();
+        if (!schema.isOptional() || types.size() != 2) {
+            return null;
+        }
+        int nullIndex = types.get(0).getType() == org.apache.avro.Schema.Type.NULL ? 0 : 1;
+        int valueIndex = 1 - nullIndex;
+        if (types.get(nullIndex).getType() != org.apache.avro.Schema.Type.NULL
+                || types.get(valueIndex).getType() == org.apache.avro.Schema.Type.NULL) {
+            return null;
+        }
+
+        ToAvroWriter valueWriter = compileToAvroTypeWriter(schema, types.get(valueIndex), compiling);
+        if (valueWriter == null) {
+            return null;
+        }
+        return (value, encoder) -> {
+            if (value == null) {
+                encoder.writeIndex(nullIndex);
+                encoder.writeNull();
+            } else {
+                encoder.writeIndex(valueIndex);
+                valueWriter.write(value, encoder);
+            }
+        };
+    }
+
+    private ToAvroWriter compileToAvroTypeWriter(Schema schema, org.apache.avro.Schema avroSchema,
+                                                 Set<Schema> compiling) {
+        org.apache.avro.Schema.Type avroType = avroSchema.getType();
+        ToAvroWriter typeWriter;
+        switch (schema.type()) {
+            case INT8:
+                typeWriter = (value, encoder) -> encoder.writeInt(((Byte) value).intValue());
+                break;
+            case INT16:
+                typeWriter = (value, encoder) -> encoder.writeInt(((Short) value).intValue());
+                break;
+            case INT32:
+                typeWriter = (value, encoder) -> encoder.writeInt((Integer) value);
+                break;
+            case INT64:
+                typeWriter = (value, encoder) -> encoder.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                typeWriter = (value, encoder) -> encoder.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                typeWriter = (value, encoder) -> encoder.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                typeWriter = (value, encoder) -> encoder.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                typeWriter = (value, encoder) -> encoder.writeString((String) value);
+                break;
+            case BYTES:
+                typeWriter = (value, encoder) -> encoder.writeBytes(
+                        value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : (ByteBuffer) value);
+                break;
+            case ARRAY: {
+                if (avroType != org.apache.avro.Schema.Type.ARRAY) {
+                    return null;
+                }
+                ToAvroWriter elementWriter = compileToAvroWriter(schema.valueSchema(), avroSchema.getElementType(),
+                        compiling);
+                typeWriter = (value, encoder) -> {
+                    Collection<Object> list = (Collection<Object>) value;
+                    encoder.writeArrayStart();
+                    encoder.setItemCount(list.size());
+                    for (Object element : list) {
+                        encoder.startItem();
+                        elementWriter.write(element, encoder);
+                    }
+                    encoder.writeArrayEnd();
+                };
+                break;
+            }
+            case MAP: {
+                if (avroType != org.apache.avro.Schema.Type.MAP
+                        || schema.keySchema().type() != Schema.Type.STRING || schema.keySchema().isOptional()) {
+                    return null;
+                }
+                ToAvroWriter valueWriter = compileToAvroWriter(schema.valueSchema(), avroSchema.getValueType(),
+                        compiling);
+                typeWriter = (value, encoder) -> {
+                    Map<Object, Object> map = (Map<Object, Object>) value;
+                    encoder.writeMapStart();
+                    encoder.setItemCount(map.size());
+                    for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                        encoder.startItem();
+                        encoder.writeString((String) entry.getKey());
+                        valueWriter.write(entry.getValue(), encoder);
+                    }
+                    encoder.writeMapEnd();
+                };
+                break;
+            }
+            case STRUCT: {
+                if (AVRO_TYPE_UNION.equals(schema.name()) || avroType != org.apache.avro.Schema.Type.RECORD
+                        || avroSchema.getFields().size() != schema.fields().size()) {
+                    return null;
+                }
+                typeWriter = new ToAvroStructWriter(schema, avroSchema, compiling);
+                break;
+            }
+            default:
+                return null;
+        }
+
+        LogicalTypeConverter logicalConverter = schema.name() != null
+                ? TO_AVRO_LOGICAL_CONVERTERS.get(schema.name())
+                : null;
+        if (!avroType.equals(expectedAvroType(schema))) {
+            return null;
+        }
+        return (logicalValue, encoder) -> {
+            validateSchemaValue(schema, logicalValue);
+
+            Object value = logicalConverter != null ? logicalConverter.convert(schema, logicalValue) : logicalValue;
+            try {
+                typeWriter.write(value, encoder);
+            } catch (ClassCastException e) {
+                throw new DataException("Invalid type for " + schema.type() + ": " + value.getClass());
+            }
+        };
+    }
+
+    /**
+     * Avro type the writers encode a Connect type as, or null for Avro enums, which are left to the datum writer.
+     */
+    private org.apache.avro.Schema.Type expectedAvroType(Schema schema) {
+        switch (schema.type()) {
+            case INT8:
+            case INT16:
+            case INT32:
+                return org.apache.avro.Schema.Type.INT;
+            case INT64:
+                return org.apache.avro.Schema.Type.LONG;
+            case FLOAT32:
+                return org.apache.avro.Schema.Type.FLOAT;
+            case FLOAT64:
+                return org.apache.avro.Schema.Type.DOUBLE;
+            case BOOLEAN:
+                return org.apache.avro.Schema.Type.BOOLEAN;
+            case STRING:
+                return enhancedSchemaSupport && schema.parameters() != null
+                        && schema.parameters().containsKey(AVRO_TYPE_ENUM)
+                        ? null
+                        : org.apache.avro.Schema.Type.STRING;
+            case BYTES:
+                return org.apache.avro.Schema.Type.BYTES;
+            case ARRAY:
+                return org.apache.avro.Schema.Type.ARRAY;
+            case MAP:
+                return org.apache.avro.Schema.Type.MAP;
+            case STRUCT:
+                return org.apache.avro.Schema.Type.RECORD;
+            default:
+                return null;
+        }
+    }
+
     /**
      * MapEntry types in connect Schemas are represented as Arrays of record.
      * Return the array type from the union instead of the union itself.
@@ -1215,7 +1610,51 @@ public class AvroData {
         Schema schema = (avroSchema.equals(ANYTHING_SCHEMA))
                 ? null
                 : toConnectSchema(avroSchema, version, toConnectContext);
-        return new SchemaAndValue(schema, toConnectData(schema, value, toConnectContext));
+        if (schema == null) {
+            return new SchemaAndValue(schema, toConnectData(schema, value, toConnectContext));
+        }
+
+        return new SchemaAndValue(schema, getToConnectPlan(schema).convert(value, toConnectContext));
+    }
+
+    /**
+     * Looks the plan up by identity first and then by equality, like {@link #getFromConnectPlan(Schema)}.
+     */
+    private ToConnectConverter getToConnectPlan(Schema schema) {
+        ToConnectConverter plan = toConnectIdentityPlans.get(schema);
+        if (plan != null) {
+            return plan;
+        }
+        plan = toConnectPlans.get(schema);
+        if (plan == null) {
+            plan = compileToConnect(schema, true, newIdentitySet());
+            toConnectPlans.put(schema, plan);
+        }
+        toConnectIdentityPlans.put(schema, plan);
+        return plan;
+    }
+
+    /**
+     * Decode Avro binary data straight into a Connect data object, without building the intermediate Avro
+     * objects. The result is the same as converting the decoded Avro object with
+     * {@link #toConnectData(org.apache.avro.Schema, Object)}.
+     *
+     * @param avroSchema the Avro schema the data was written with
+     * @param decoder    the decoder to read the Avro binary data from
+     * @return the Connect schema and value
+     * @throws IOException if the decoder fails to read the data
+     */
+    public SchemaAndValue decodeConnectData(org.apache.avro.Schema avroSchema, Decoder decoder) throws IOException {
+        ConnectDataDecoder connectDataDecoder = connectDataDecoders.get(avroSchema);
+        if (connectDataDecoder == null) {
+            Schema schema = avroSchema.equals(ANYTHING_SCHEMA) ? null : toConnectSchema(avroSchema);
+            connectDataDecoder = new ConnectDataDecoder(schema,
+                    compileToConnectReader(schema, avroSchema, newIdentitySet()));
+            connectDataDecoders.put(avroSchema, connectDataDecoder);
+        }
+
+        Object value = connectDataDecoder.reader.read(decoder, new ToConnectContext());
+        return value == null ? null : new SchemaAndValue(connectDataDecoder.schema, value);
     }
 
     private Object toConnectData(Schema schema, Object value, ToConnectContext toConnectContext) {
@@ -1502,6 +1941,319 @@ public class AvroData {
         }
     }
 
+    /**
+     * Compiles the conversion of Avro values to a Connect schema into a tree of converters, with the logical
+     * type converters resolved once and the record field positions resolved once per Avro record schema.
+     * Values the plan does not support, like unions, schemaless data and recursive schemas, are converted by
+     * {@link #toConnectData(Schema, Object, ToConnectContext, boolean)}.
+     */
+    private ToConnectConverter compileToConnect(Schema schema, boolean doLogicalConversion, Set<Schema> compiling) {
+        ToConnectConverter interpreted = (value, toConnectContext) ->
+                toConnectData(schema, value, toConnectContext, doLogicalConversion);
+        if (schema == null || !compiling.add(schema)) {
+            return interpreted;
+        }
+
+        try {
+            ToConnectConverter compiled = compileToConnectType(schema, doLogicalConversion, compiling);
+            return compiled != null ? compiled : interpreted;
+        } catch (RuntimeException e) {
+            return interpreted;
+        } finally {
+            compiling.remove(schema);
+        }
+    }
+
+    private ToConnectConverter compileToConnectType(Schema schema, boolean doLogicalConversion,
+                                                    Set<Schema> compiling) {
+        ToConnectConverter typeConverter;
+        switch (schema.type()) {
+            case INT32:
+                typeConverter = (value, toConnectContext) -> (Integer) value;
+                break;
+            case INT64:
+                typeConverter = (value, toConnectContext) -> (Long) value;
+                break;
+            case FLOAT32:
+                typeConverter = (value, toConnectContext) -> (Float) value;
+                break;
+            case FLOAT64:
+                typeConverter = (value, toConnectContext) -> (Double) value;
+                break;
+            case BOOLEAN:
+                typeConverter = (value, toConnectContext) -> (Boolean) value;
+                break;
+            case INT8:
+                typeConverter = (value, toConnectContext) -> ((Integer) value).byteValue();
+                break;
+            case INT16:
+                typeConverter = (value, toConnectContext) -> ((Integer) value).shortValue();
+                break;
+            case STRING:
+                typeConverter = (value, toConnectContext) -> {
+                    if (value instanceof String) {
+                        return value;
+                    } else if (value instanceof CharSequence
+                            || value instanceof GenericEnumSymbol
+                            || value instanceof Enum) {
+                        return value.toString();
+                    }
+                    throw new DataException("Invalid class for string type, expecting String or "
+                            + "CharSequence but found " + value.getClass());
+                };
+                break;
+            case BYTES:
+                typeConverter = (value, toConnectContext) -> {
+                    if (value instanceof byte[]) {
+                        return ByteBuffer.wrap((byte[]) value);
+                    } else if (value instanceof ByteBuffer) {
+                        return value;
+                    } else if (value instanceof GenericFixed) {
+                        return ByteBuffer.wrap(((GenericFixed) value).bytes());
+                    }
+                    throw new DataException("Invalid class for bytes type, expecting byte[] or ByteBuffer "
+                            + "but found " + value.getClass());
+                };
+                break;
+            case ARRAY: {
+                ToConnectConverter elementConverter = compileToConnect(schema.valueSchema(), true, compiling);
+                typeConverter = (value, toConnectContext) -> {
+                    Collection<Object> original = (Collection<Object>) value;
+                    List<Object> result = new ArrayList<>(original.size());
+                    for (Object element : original) {
+                        result.add(elementConverter.convert(element, toConnectContext));
+                    }
+                    return result;
+                };
+                break;
+            }
+            case MAP: {
+                Schema keySchema = schema.keySchema();
+                ToConnectConverter valueConverter = compileToConnect(schema.valueSchema(), true, compiling);
+                if (keySchema != null && keySchema.type() == Schema.Type.STRING && !keySchema.isOptional()) {
+                    typeConverter = (value, toConnectContext) -> {
+                        Map<CharSequence, Object> original = (Map<CharSequence, Object>) value;
+                        Map<CharSequence, Object> result = new HashMap<>(original.size());
+                        for (Map.Entry<CharSequence, Object> entry : original.entrySet()) {
+                            result.put(entry.getKey().toString(),
+                                    valueConverter.convert(entry.getValue(), toConnectContext));
+                        }
+                        return result;
+                    };
+                } else {
+                    ToConnectConverter keyConverter = compileToConnect(keySchema, true, compiling);
+                    typeConverter = (value, toConnectContext) -> {
+                        Collection<IndexedRecord> original = (Collection<IndexedRecord>) value;
+                        Map<Object, Object> result = new HashMap<>(original.size());
+                        for (IndexedRecord entry : original) {
+                            int avroKeyFieldIndex = entry.getSchema().getField(KEY_FIELD).pos();
+                            int avroValueFieldIndex = entry.getSchema().getField(VALUE_FIELD).pos();
+                            result.put(keyConverter.convert(entry.get(avroKeyFieldIndex), toConnectContext),
+                                    valueConverter.convert(entry.get(avroValueFieldIndex), toConnectContext));
+                        }
+                        return result;
+                    };
+                }
+                break;
+            }
+            case STRUCT:
+                if (AVRO_TYPE_UNION.equals(schema.name())) {
+                    return null;
+                }
+                typeConverter = new ToConnectStructConverter(schema, compiling);
+                break;
+            default:
+                return null;
+        }
+
+        LogicalTypeConverter logicalConverter = schema.name() != null && doLogicalConversion
+                ? TO_CONNECT_LOGICAL_CONVERTERS.get(schema.name())
+                : null;
+        boolean defaultValueStruct = schema.type() == Schema.Type.STRUCT;
+        return (value, toConnectContext) -> {
+            validateSchemaValue(schema, value);
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                Object converted = typeConverter.convert(value, toConnectContext);
+                // Default values from Avro are returned as Map, and are converted without logical conversion
+                if (logicalConverter != null && !(defaultValueStruct && value instanceof Map)) {
+                    converted = logicalConverter.convert(schema, converted);
+                }
+                return converted;
+            } catch (ClassCastException e) {
+                throw new DataException("Invalid type for " + schema.type() + ": " + value.getClass());
+            }
+        };
+    }
+
+    /**
+     * Compiles the decoding of Avro binary to values of a Connect schema into a tree of readers, which build the
+     * Connect values as they read the data instead of building Avro objects first. Values the readers do not
+     * support are read with a datum reader and converted by
+     * {@link #compileToConnect(Schema, boolean, Set)}, which gives the same result.
+     */
+    private ToConnectReader compileToConnectReader(Schema schema, org.apache.avro.Schema avroSchema,
+                                                   Set<Schema> compiling) {
+        ToConnectReader reader = null;
+        if (schema != null && compiling.add(schema)) {
+            try {
+                reader = avroSchema.getType() == org.apache.avro.Schema.Type.UNION
+                        ? compileToConnectUnionReader(schema, avroSchema, compiling)
+                        : compileToConnectTypeReader(schema, avroSchema, compiling);
+            } catch (RuntimeException e) {
+                reader = null;
+            } finally {
+                compiling.remove(schema);
+            }
+        }
+        if (reader != null) {
+            return reader;
+        }
+
+        ToConnectConverter converter = compileToConnect(schema, true, newIdentitySet());
+        GenericDatumReader<Object> datumReader = new GenericDatumReader<>(avroSchema);
+        return (decoder, toConnectContext) -> converter.convert(datumReader.read(null, decoder), toConnectContext);
+    }
+
+    /**
+     * Optional values are read from a union of null and the value type.
+     */
+    private ToConnectReader compileToConnectUnionReader(Schema schema, org.apache.avro.Schema avroSchema,
+                                                        Set<Schema> compiling) {
+        List<org.apache.avro.Schema> types = avroSchema.getTypes();
+        if (!schema.isOptional() || types.size() != 2) {
+            return null;
+        }
+        int nullIndex = types.get(0).getType() == org.apache.avro.Schema.Type.NULL ? 0 : 1;
+        int valueIndex = 1 - nullIndex;
+        if (types.get(nullIndex).getType() != org.apache.avro.Schema.Type.NULL
+                || types.get(valueIndex).getType() == org.apache.avro.Schema.Type.NULL) {
+            return null;
+        }
+
+        ToConnectReader valueReader = compileToConnectTypeReader(schema, types.get(valueIndex), compiling);
+        if (valueReader == null) {
+            return null;
+        }
+        return (decoder, toConnectContext) -> {
+            int index = decoder.readIndex();
+            if (index == nullIndex) {
+                decoder.readNull();
+                return null;
+            } else if (index == valueIndex) {
+                return valueReader.read(decoder, toConnectContext);
+            }
+            throw new DataException("Invalid union index " + index + " for " + avroSchema);
+        };
+    }
+
+    private ToConnectReader compileToConnectTypeReader(Schema schema, org.apache.avro.Schema avroSchema,
+                                                       Set<Schema> compiling) {
+        org.apache.avro.Schema.Type avroType = avroSchema.getType();
+        ToConnectReader valueReader;
+        switch (schema.type()) {
+            case INT8:
+            case INT16:
+            case INT32:
+                valueReader = avroType == org.apache.avro.Schema.Type.INT
+                        ? (decoder, toConnectContext) -> decoder.readInt()
+                        : null;
+                break;
+            case INT64:
+                valueReader = avroType == org.apache.avro.Schema.Type.LONG
+                        ? (decoder, toConnectContext) -> decoder.readLong()
+                        : null;
+                break;
+            case FLOAT32:
+                valueReader = avroType == org.apache.avro.Schema.Type.FLOAT
+                        ? (decoder, toConnectContext) -> decoder.readFloat()
+                        : null;
+                break;
+            case FLOAT64:
+                valueReader = avroType == org.apache.avro.Schema.Type.DOUBLE
+                        ? (decoder, toConnectContext) -> decoder.readDouble()
+                        : null;
+                break;
+            case BOOLEAN:
+                valueReader = avroType == org.apache.avro.Schema.Type.BOOLEAN
+                        ? (decoder, toConnectContext) -> decoder.readBoolean()
+                        : null;
+                break;
+            case STRING:
+                if (avroType == org.apache.avro.Schema.Type.STRING) {
+                    valueReader = (decoder, toConnectContext) -> decoder.readString();
+                } else if (avroType == org.apache.avro.Schema.Type.ENUM) {
+                    List<String> symbols = avroSchema.getEnumSymbols();
+                    valueReader = (decoder, toConnectContext) -> symbols.get(decoder.readEnum());
+                } else {
+                    valueReader = null;
+                }
+                break;
+            case BYTES:
+                valueReader = avroType == org.apache.avro.Schema.Type.BYTES
+                        ? (decoder, toConnectContext) -> decoder.readBytes(null)
+                        : null;
+                break;
+            case ARRAY: {
+                if (avroType != org.apache.avro.Schema.Type.ARRAY) {
+                    return null;
+                }
+                ToConnectReader elementReader = compileToConnectReader(schema.valueSchema(),
+                        avroSchema.getElementType(), compiling);
+                return (decoder, toConnectContext) -> {
+                    List<Object> result = new ArrayList<>();
+                    for (long count = decoder.readArrayStart(); count != 0; count = decoder.arrayNext()) {
+                        for (long i = 0; i < count; i++) {
+                            result.add(elementReader.read(decoder, toConnectContext));
+                        }
+                    }
+                    return result;
+                };
+            }
+            case MAP: {
+                Schema keySchema = schema.keySchema();
+                if (avroType != org.apache.avro.Schema.Type.MAP
+                        || keySchema.type() != Schema.Type.STRING || keySchema.isOptional()) {
+                    return null;
+                }
+                ToConnectReader valueEntryReader = compileToConnectReader(schema.valueSchema(),
+                        avroSchema.getValueType(), compiling);
+                return (decoder, toConnectContext) -> {
+                    Map<String, Object> result = new HashMap<>();
+                    for (long count = decoder.readMapStart(); count != 0; count = decoder.mapNext()) {
+                        for (long i = 0; i < count; i++) {
+                            String key = decoder.readString();
+                            result.put(key, valueEntryReader.read(decoder, toConnectContext));
+                        }
+                    }
+                    return result;
+                };
+            }
+            case STRUCT:
+                if (AVRO_TYPE_UNION.equals(schema.name()) || avroType != org.apache.avro.Schema.Type.RECORD
+                        || avroSchema.getFields().size() != schema.fields().size()) {
+                    return null;
+                }
+                return new ToConnectStructReader(schema, avroSchema, compiling);
+            default:
+                return null;
+        }
+        if (valueReader == null) {
+            return null;
+        }
+
+        // Primitive values are converted like the values of the datum reader, including logical types
+        ToConnectConverter converter = compileToConnectType(schema, true, compiling);
+        if (converter == null) {
+            return null;
+        }
+        return (decoder, toConnectContext) ->
+                converter.convert(valueReader.read(decoder, toConnectContext), toConnectContext);
+    }
+
     protected boolean getForceOptionalDefault() {
         return false;
     }
@@ -1519,8 +2271,17 @@ public class AvroData {
         // the internal conversions, this is the safest place to add caching since some of the internal
         // conversions take extra flags (like forceOptional) which means the resulting schema might not
         // exactly match the Avro schema.
-        AvroSchema schemaAndVersion = new AvroSchema(schema, version);
-        Schema cachedSchema = toConnectSchemaCache.get(schemaAndVersion);
+        // Records decoded with the same writer schema share its instance, so unversioned lookups first
+        // try the identity keyed cache, which avoids hashing and comparing the whole Avro schema.
+        Schema cachedSchema = version == null ? toConnectSchemaIdentityCache.get(schema) : null;
+        AvroSchema schemaAndVersion = null;
+        if (cachedSchema == null) {
+            schemaAndVersion = new AvroSchema(schema, version);
+            cachedSchema = toConnectSchemaCache.get(schemaAndVersion);
+            if (cachedSchema != null && version == null) {
+                toConnectSchemaIdentityCache.put(schema, cachedSchema);
+            }
+        }
         if (cachedSchema != null) {
             if (schema.getType() == org.apache.avro.Schema.Type.RECORD) {
                 // cycleReferences is only populated with record type schemas. We need to initialize it here
@@ -1534,6 +2295,9 @@ public class AvroData {
         Schema resultSchema = toConnectSchema(schema, getForceOptionalDefault(), null,
                 null, version, toConnectContext);
         toConnectSchemaCache.put(schemaAndVersion, resultSchema);
+        if (version == null) {
+            toConnectSchemaIdentityCache.put(schema, resultSchema);
+        }
         return resultSchema;
     }
 
@@ -2215,6 +2979,264 @@ public class AvroData {
         return equals;
     }
 
+    private static Set<Schema> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Step of a compiled conversion from Connect data to Avro.
+     */
+    private interface ToAvroConverter {
+
+        Object convert(Object value);
+    }
+
+    /**
+     * Step of a compiled encoding of Connect data to Avro binary.
+     */
+    private interface ToAvroWriter {
+
+        void write(Object value, Encoder encoder) throws IOException;
+    }
+
+    /**
+     * Step of a compiled decoding of Avro binary to Connect data.
+     */
+    private interface ToConnectReader {
+
+        Object read(Decoder decoder, ToConnectContext toConnectContext) throws IOException;
+    }
+
+    /**
+     * Step of a compiled conversion from Avro data to Connect.
+     */
+    private interface ToConnectConverter {
+
+        Object convert(Object value, ToConnectContext toConnectContext);
+    }
+
+    /**
+     * Converts a Connect struct to an Avro record, filling the record fields by position.
+     */
+    private final class ToAvroStructConverter implements ToAvroConverter {
+        private final Schema schema;
+        private final org.apache.avro.Schema recordSchema;
+        private final Field[] fields;
+        private final org.apache.avro.Schema.Field[] avroFields;
+        private final boolean[] nullAllowed;
+        private final ToAvroConverter[] fieldConverters;
+
+        private ToAvroStructConverter(Schema schema, org.apache.avro.Schema recordSchema, Set<Schema> compiling) {
+            this.schema = schema;
+            this.recordSchema = recordSchema;
+            this.fields = schema.fields().toArray(new Field[0]);
+            this.avroFields = new org.apache.avro.Schema.Field[fields.length];
+            this.nullAllowed = new boolean[fields.length];
+            this.fieldConverters = new ToAvroConverter[fields.length];
+
+            for (int i = 0; i < fields.length; i++) {
+                org.apache.avro.Schema.Field avroField = recordSchema.getField(fields[i].name());
+                avroFields[i] = avroField;
+                nullAllowed[i] = acceptsNull(avroField);
+                fieldConverters[i] = compileToAvro(fields[i].schema(), avroField.schema(), false, true, compiling);
+            }
+        }
+
+        @Override
+        public Object convert(Object value) {
+            Struct struct = (Struct) value;
+            if (struct.schema() != schema && !struct.schema().equals(schema)) {
+                throw new DataException("Mismatching struct schema");
+            }
+
+            GenericData.Record record = new GenericData.Record(recordSchema);
+            for (int i = 0; i < fields.length; i++) {
+                Object fieldValue = fieldConverters[i].convert(struct.get(fields[i]));
+                if (fieldValue != null) {
+                    record.put(avroFields[i].pos(), fieldValue);
+                } else if (!nullAllowed[i]) {
+                    throw new AvroRuntimeException("Field " + avroFields[i] + " does not accept null values");
+                }
+            }
+            return record;
+        }
+
+        /**
+         * Same check as the Avro record builder, which accepts null for nullable fields and fields with defaults.
+         */
+        private boolean acceptsNull(org.apache.avro.Schema.Field avroField) {
+            org.apache.avro.Schema fieldSchema = avroField.schema();
+            if (fieldSchema.getType() == org.apache.avro.Schema.Type.NULL || avroField.defaultVal() != null) {
+                return true;
+            }
+            return fieldSchema.getType() == org.apache.avro.Schema.Type.UNION
+                    && fieldSchema.getTypes().stream()
+                    .anyMatch(type -> type.getType() == org.apache.avro.Schema.Type.NULL);
+        }
+    }
+
+    /**
+     * Writes a Connect struct as an Avro record, with the fields in the order of the Avro record schema.
+     */
+    private final class ToAvroStructWriter implements ToAvroWriter {
+        private final Schema schema;
+        private final Field[] fields;
+        private final ToAvroWriter[] fieldWriters;
+
+        private ToAvroStructWriter(Schema schema, org.apache.avro.Schema recordSchema, Set<Schema> compiling) {
+            List<org.apache.avro.Schema.Field> avroFields = recordSchema.getFields();
+            this.schema = schema;
+            this.fields = new Field[avroFields.size()];
+            this.fieldWriters = new ToAvroWriter[avroFields.size()];
+
+            for (int i = 0; i < fields.length; i++) {
+                org.apache.avro.Schema.Field avroField = avroFields.get(i);
+                fields[i] = schema.field(avroField.name());
+                if (fields[i] == null) {
+                    throw new DataException("Missing field " + avroField.name() + " in the Connect schema");
+                }
+                fieldWriters[i] = compileToAvroWriter(fields[i].schema(), avroField.schema(), compiling);
+            }
+        }
+
+        @Override
+        public void write(Object value, Encoder encoder) throws IOException {
+            Struct struct = (Struct) value;
+            if (struct.schema() != schema && !struct.schema().equals(schema)) {
+                throw new DataException("Mismatching struct schema");
+            }
+
+            for (int i = 0; i < fields.length; i++) {
+                fieldWriters[i].write(struct.get(fields[i]), encoder);
+            }
+        }
+    }
+
+    /**
+     * Reads an Avro record into a Connect struct, with the fields in the order of the Avro record schema.
+     */
+    private final class ToConnectStructReader implements ToConnectReader {
+        private final Schema schema;
+        private final Field[] fields;
+        private final ToConnectReader[] fieldReaders;
+
+        private ToConnectStructReader(Schema schema, org.apache.avro.Schema recordSchema, Set<Schema> compiling) {
+            List<org.apache.avro.Schema.Field> avroFields = recordSchema.getFields();
+            this.schema = schema;
+            this.fields = new Field[avroFields.size()];
+            this.fieldReaders = new ToConnectReader[avroFields.size()];
+
+            for (int i = 0; i < fields.length; i++) {
+                org.apache.avro.Schema.Field avroField = avroFields.get(i);
+                fields[i] = schema.field(avroField.name());
+                if (fields[i] == null) {
+                    throw new DataException("Missing field " + avroField.name() + " in the Connect schema");
+                }
+                fieldReaders[i] = compileToConnectReader(fields[i].schema(), avroField.schema(), compiling);
+            }
+        }
+
+        @Override
+        public Object read(Decoder decoder, ToConnectContext toConnectContext) throws IOException {
+            Struct result = new Struct(schema);
+            for (int i = 0; i < fields.length; i++) {
+                result.put(fields[i], fieldReaders[i].read(decoder, toConnectContext));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Connect schema of an Avro schema, with the compiled decoding of its values.
+     */
+    private static final class ConnectDataDecoder {
+        private final Schema schema;
+        private final ToConnectReader reader;
+
+        private ConnectDataDecoder(Schema schema, ToConnectReader reader) {
+            this.schema = schema;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * Avro schema of a Connect schema, with the compiled encoding of its values.
+     */
+    private static final class ConnectDataEncoder {
+        private final org.apache.avro.Schema avroSchema;
+        private final ToAvroWriter writer;
+
+        private ConnectDataEncoder(org.apache.avro.Schema avroSchema, ToAvroWriter writer) {
+            this.avroSchema = avroSchema;
+            this.writer = writer;
+        }
+    }
+
+    /**
+     * Converts an Avro record, or a default value given as a map, to a Connect struct. The positions of the
+     * fields are resolved for the Avro schema of the last converted record.
+     */
+    private final class ToConnectStructConverter implements ToConnectConverter {
+        private final Schema schema;
+        private final Field[] fields;
+        private final ToConnectConverter[] fieldConverters;
+        private volatile FieldPositions fieldPositions;
+
+        private ToConnectStructConverter(Schema schema, Set<Schema> compiling) {
+            this.schema = schema;
+            this.fields = schema.fields().toArray(new Field[0]);
+            this.fieldConverters = new ToConnectConverter[fields.length];
+
+            for (int i = 0; i < fields.length; i++) {
+                fieldConverters[i] = compileToConnect(fields[i].schema(), true, compiling);
+            }
+        }
+
+        @Override
+        public Object convert(Object value, ToConnectContext toConnectContext) {
+            Struct result = new Struct(schema);
+            if (value instanceof Map) {
+                Map<CharSequence, Object> original = (Map<CharSequence, Object>) value;
+                for (int i = 0; i < fields.length; i++) {
+                    result.put(fields[i],
+                            fieldConverters[i].convert(original.get(fields[i].name()), toConnectContext));
+                }
+                return result;
+            }
+
+            IndexedRecord original = (IndexedRecord) value;
+            int[] positions = getFieldPositions(original.getSchema());
+            for (int i = 0; i < fields.length; i++) {
+                result.put(fields[i], fieldConverters[i].convert(original.get(positions[i]), toConnectContext));
+            }
+            return result;
+        }
+
+        private int[] getFieldPositions(org.apache.avro.Schema recordSchema) {
+            FieldPositions cached = fieldPositions;
+            if (cached != null && cached.recordSchema == recordSchema) {
+                return cached.positions;
+            }
+
+            int[] positions = new int[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                positions[i] = recordSchema.getField(fields[i].name()).pos();
+            }
+            fieldPositions = new FieldPositions(recordSchema, positions);
+            return positions;
+        }
+    }
+
+    private static final class FieldPositions {
+        private final org.apache.avro.Schema recordSchema;
+        private final int[] positions;
+
+        private FieldPositions(org.apache.avro.Schema recordSchema, int[] positions) {
+            this.recordSchema = recordSchema;
+            this.positions = positions;
+        }
+    }
+
     private static class CyclicSchemaWrapper implements Schema {
 
         private final Schema schema;
@@ -17,13 +17,18 @@
 
 package com.amazonaws.services.schemaregistry.kafkaconnect.avrodata;
 
+import com.amazonaws.services.schemaregistry.utils.SchemaFingerprint;
 import org.apache.avro.Schemas;
 import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
 import org.apache.avro.SchemaValidationException;
 import org.apache.avro.SchemaValidator;
 import org.apache.avro.SchemaValidatorBuilder;
+import org.apache.kafka.common.cache.Cache;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -40,8 +45,20 @@ public class AvroSchema implements ParsedSchema {
     private static final SchemaValidator BACKWARD_VALIDATOR =
             new SchemaValidatorBuilder().canReadStrategy().validateLatest();
 
+    private static final int MAXIMUM_CACHED_REFERENCES = 1000;
+    private static final int MAXIMUM_CACHED_COMPATIBILITY_RESULTS = 10000;
+
+    // Parsed references by their definitions and default validation, shared by the schemas that use them
+    private static final Cache<List<Object>, ParsedReferences> PARSED_REFERENCES =
+            new ConcurrentLRUCache<>(MAXIMUM_CACHED_REFERENCES);
+
+    // Backward compatibility results by the fingerprints of the reader and the writer schema
+    private static final Cache<List<Long>, List<String>> BACKWARD_COMPATIBILITY_RESULTS =
+            new ConcurrentLRUCache<>(MAXIMUM_CACHED_COMPATIBILITY_RESULTS);
+
     private final Schema schemaObj;
     private String canonicalString;
+    private Long fingerprint;
     private final Integer version;
     private final Map<String, String> resolvedReferences;
     private final boolean isNew;
@@ -63,8 +80,8 @@ public class AvroSchema implements ParsedSchema {
                       boolean isNew) {
         this.isNew = isNew;
         Schema.Parser parser = getParser();
-        for (String schema : resolvedReferences.values()) {
-            parser.parse(schema);
+        if (!resolvedReferences.isEmpty()) {
+            parser.addTypes(getParsedReferences(resolvedReferences).types);
         }
         this.schemaObj = parser.parse(schemaString);
         this.resolvedReferences = Collections.unmodifiableMap(resolvedReferences);
@@ -136,15 +153,42 @@ public class AvroSchema implements ParsedSchema {
             return null;
         }
         if (canonicalString == null) {
+            List<Schema> schemaRefs = resolvedReferences.isEmpty()
+                    ? Collections.emptyList()
+                    : getParsedReferences(resolvedReferences).schemas;
+            canonicalString = Schemas.toString(schemaObj, schemaRefs);
+        }
+        return canonicalString;
+    }
+
+    /**
+     * Parses the references in order with a single parser, so that later references can use the types of earlier
+     * ones. References are parsed once and shared by all the schemas that resolve to the same definitions.
+     */
+    private ParsedReferences getParsedReferences(Map<String, String> resolvedReferences) {
+        List<Object> key = Arrays.asList(new ArrayList<>(resolvedReferences.values()), isNew());
+        ParsedReferences parsedReferences = PARSED_REFERENCES.get(key);
+        if (parsedReferences == null) {
             Schema.Parser parser = getParser();
-            List<Schema> schemaRefs = new ArrayList<>();
+            List<Schema> schemas = new ArrayList<>();
             for (String schema : resolvedReferences.values()) {
-                Schema schemaRef = parser.parse(schema);
-                schemaRefs.add(schemaRef);
+                schemas.add(parser.parse(schema));
             }
-            canonicalString = Schemas.toString(schemaObj, schemaRefs);
+            parsedReferences = new ParsedReferences(schemas, parser.getTypes());
+            PARSED_REFERENCES.put(key, parsedReferences);
         }
-        return canonicalString;
+        return parsedReferences;
+    }
+
+    /**
+     * Fingerprint of the full schema, including the defaults and aliases that matter to compatibility.
+     */
+    private long fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = SchemaNormalization.fingerprint64(
+                    SchemaFingerprint.normalize(schemaObj).getBytes(StandardCharsets.UTF_8));
+        }
+        return fingerprint;
     }
 
     public Integer version() {
@@ -165,11 +209,14 @@ public class AvroSchema implements ParsedSchema {
             return Collections.singletonList("Incompatible because of different schema type");
         }
         try {
-            BACKWARD_VALIDATOR.validate(this.schemaObj,
-                    Collections.singleton(((AvroSchema) previousSchema).schemaObj));
-            return Collections.emptyList();
-        } catch (SchemaValidationException e) {
-            return Collections.singletonList(e.getMessage());
+            AvroSchema previousAvroSchema = (AvroSchema) previousSchema;
+            List<Long> key = Arrays.asList(this.fingerprint(), previousAvroSchema.fingerprint());
+            List<String> result = BACKWARD_COMPATIBILITY_RESULTS.get(key);
+            if (result == null) {
+                result = validateBackwardCompatible(previousAvroSchema);
+                BACKWARD_COMPATIBILITY_RESULTS.put(key, result);
+            }
+            return result;
         } catch (Exception e) {
             log.error("Unexpected exception during compatibility check", e);
             return Collections.singletonList(
@@ -177,6 +224,15 @@ public class AvroSchema implements ParsedSchema {
         }
     }
 
+    private List<String> validateBackwardCompatible(AvroSchema previousSchema) {
+        try {
+            BACKWARD_VALIDATOR.validate(this.schemaObj, Collections.singleton(previousSchema.schemaObj));
+            return Collections.emptyList();
+        } catch (SchemaValidationException e) {
+            return Collections.singletonList(e.getMessage());
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -198,4 +254,14 @@ public class AvroSchema implements ParsedSchema {
     public String toString() {
         return canonicalString();
     }
+
+    private static final class ParsedReferences {
+        private final List<Schema> schemas;
+        private final Map<String, Schema> types;
+
+        ParsedReferences(List<Schema> schemas, Map<String, Schema> types) {
+            this.schemas = Collections.unmodifiableList(schemas);
+            this.types = Collections.unmodifiableMap(types);
+        }
+    }
 }
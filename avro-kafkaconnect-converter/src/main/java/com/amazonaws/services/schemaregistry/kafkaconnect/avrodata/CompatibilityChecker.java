@@ -17,9 +17,10 @@
 
 package com.amazonaws.services.schemaregistry.kafkaconnect.avrodata;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 public class CompatibilityChecker {
 
@@ -80,10 +81,28 @@ public class CompatibilityChecker {
     public List<String> isCompatible(
             ParsedSchema newSchema, List<? extends ParsedSchema> previousSchemas
     ) {
-        List<? extends ParsedSchema> previousSchemasCopy = new ArrayList<>(previousSchemas);
         // Validator checks in list order, but checks should occur in reverse chronological order
-        Collections.reverse(previousSchemasCopy);
-        return validator.validate(newSchema, previousSchemasCopy);
+        return validator.validate(newSchema, reversed(previousSchemas));
+    }
+
+    /**
+     * Reverse order view of the schemas, so that validators that only check the latest schemas do not copy the
+     * whole history.
+     */
+    private static <T> Iterable<T> reversed(List<T> schemas) {
+        return () -> new Iterator<T>() {
+            private final ListIterator<T> iterator = schemas.listIterator(schemas.size());
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return iterator.previous();
+            }
+        };
     }
 
     public static CompatibilityChecker checker(CompatibilityLevel level) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.kafkaconnect.avrodata;
+
+import com.google.common.cache.CacheBuilder;
+import org.apache.kafka.common.cache.Cache;
+
+/**
+ * Size bounded cache that evicts the least recently used entries, like Kafka's LRUCache, but that can be
+ * shared by many threads without a global lock. Reads do not lock, and writes only lock a segment of the cache.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class ConcurrentLRUCache<K, V> implements Cache<K, V> {
+    private final com.google.common.cache.Cache<K, V> cache;
+
+    ConcurrentLRUCache(int maxSize) {
+        this(CacheBuilder.newBuilder().maximumSize(maxSize));
+    }
+
+    private ConcurrentLRUCache(CacheBuilder<Object, Object> cacheBuilder) {
+        this.cache = cacheBuilder.build();
+    }
+
+    /**
+     * Creates a cache that compares keys by identity instead of equals, and that does not keep keys from
+     * being garbage collected. Lookups neither hash nor compare the content of the keys.
+     *
+     * @param maxSize maximum number of entries
+     * @param <K>     key type
+     * @param <V>     value type
+     * @return identity keyed cache
+     */
+    static <K, V> ConcurrentLRUCache<K, V> identityKeyed(int maxSize) {
+        return new ConcurrentLRUCache<>(CacheBuilder.newBuilder().maximumSize(maxSize).weakKeys());
+    }
+
+    @Override
+    public V get(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public boolean remove(K key) {
+        return cache.asMap().remove(key) != null;
+    }
+
+    @Override
+    public long size() {
+        return cache.size();
+    }
+}
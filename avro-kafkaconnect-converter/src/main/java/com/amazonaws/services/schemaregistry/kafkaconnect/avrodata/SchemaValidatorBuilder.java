@@ -17,7 +17,6 @@
 
 package com.amazonaws.services.schemaregistry.kafkaconnect.avrodata;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -55,10 +54,8 @@ public final class SchemaValidatorBuilder {
     public SchemaValidatorBuilder mutualReadStrategy() {
 
         this.strategy = (toValidate, existing) -> {
-            List<String> result = new ArrayList<>();
-            result.addAll(existing.isBackwardCompatible(toValidate));
-            result.addAll(toValidate.isBackwardCompatible(existing));
-            return result;
+            List<String> result = existing.isBackwardCompatible(toValidate);
+            return result.isEmpty() ? toValidate.isBackwardCompatible(existing) : result;
         };
         return this;
     }
@@ -18,6 +18,7 @@ package com.amazonaws.services.schemaregistry.kafkaconnect;
 import com.amazonaws.services.schemaregistry.common.AWSDeserializerInput;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
 import com.amazonaws.services.schemaregistry.deserializers.AWSDeserializer;
+import com.amazonaws.services.schemaregistry.deserializers.avro.AWSAvroDeserializerOutput;
 import com.amazonaws.services.schemaregistry.deserializers.avro.AWSKafkaAvroDeserializer;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.kafkaconnect.avrodata.AvroData;
@@ -26,6 +27,8 @@ import com.amazonaws.services.schemaregistry.serializers.avro.AWSAvroSerializer;
 import com.amazonaws.services.schemaregistry.serializers.avro.AWSKafkaAvroSerializer;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.data.SchemaBuilder;
@@ -40,15 +43,19 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.services.glue.model.DataFormat;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -117,6 +124,83 @@ public class AWSKafkaAvroConverterTest {
         assertEquals(expected, structRecord.value());
     }
 
+    /**
+     * Test that Struct records encoded straight to Avro binary serialize the same as Avro records.
+     */
+    @Test
+    public void testConverter_fromConnectData_encodesSameBytesAsAvroRecord() {
+        Struct expected = createStructRecord();
+        String avroSchemaDefinition = avroData.fromConnectSchema(expected.schema()).toString();
+        Object avroData = this.avroData.fromConnectData(expected.schema(), expected);
+
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = createSerializer(avroSchemaDefinition, schemaVersionIdForTesting);
+        converter = new AWSKafkaAvroConverter(awsKafkaAvroSerializer, awsKafkaAvroDeserializer, this.avroData);
+
+        byte[] serializedData = converter.fromConnectData(testTopic, expected.schema(), expected);
+
+        assertArrayEquals(awsKafkaAvroSerializer.serialize(testTopic, avroData), serializedData);
+    }
+
+    /**
+     * Test that serialized Struct records are decoded straight into Connect data.
+     */
+    @Test
+    public void testConverter_toConnectData_decodesSerializedStruct() {
+        Struct expected = createStructRecord();
+        String avroSchemaDefinition = avroData.fromConnectSchema(expected.schema()).toString();
+
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = createSerializer(avroSchemaDefinition, schemaVersionIdForTesting);
+        when(mockClient.getSchemaVersionResponse(schemaVersionIdForTesting.toString()))
+                .thenReturn(GetSchemaVersionResponse.builder()
+                        .schemaDefinition(avroSchemaDefinition)
+                        .dataFormat(DataFormat.AVRO)
+                        .schemaArn("arn:aws:glue:us-west-2:111111111111:schema/default-registry/User-Topic")
+                        .build());
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer(mockCredProvider, null);
+        awsKafkaAvroDeserializer.configure(configs, false);
+        awsKafkaAvroDeserializer.setAwsDeserializer(AWSDeserializer.builder().credentialProvider(mockCredProvider)
+                .configs(configs).schemaRegistryClient(mockClient).build());
+        converter = new AWSKafkaAvroConverter(awsKafkaAvroSerializer, awsKafkaAvroDeserializer, avroData);
+
+        byte[] serializedData = converter.fromConnectData(testTopic, expected.schema(), expected);
+        SchemaAndValue structRecord = converter.toConnectData(testTopic, serializedData);
+
+        assertEquals(expected, structRecord.value());
+    }
+
+    /**
+     * Test that the schema version id is carried in the record headers when schema version ids are put in headers.
+     */
+    @Test
+    public void testConverter_schemaVersionIdInHeaders_roundTripsThroughHeaders() {
+        configs.put(AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_IN_HEADERS, "true");
+        Struct expected = createStructRecord();
+        String avroSchemaDefinition = avroData.fromConnectSchema(expected.schema()).toString();
+        Object avroRecord = this.avroData.fromConnectData(expected.schema(), expected);
+
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = createSerializer(avroSchemaDefinition, schemaVersionIdForTesting);
+        when(mockClient.getSchemaVersionResponse(schemaVersionIdForTesting.toString()))
+                .thenReturn(GetSchemaVersionResponse.builder()
+                        .schemaDefinition(avroSchemaDefinition)
+                        .dataFormat(DataFormat.AVRO)
+                        .schemaArn("arn:aws:glue:us-west-2:111111111111:schema/default-registry/User-Topic")
+                        .build());
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer(mockCredProvider, null);
+        awsKafkaAvroDeserializer.configure(configs, true);
+        awsKafkaAvroDeserializer.setAwsDeserializer(AWSDeserializer.builder().credentialProvider(mockCredProvider)
+                .configs(configs).schemaRegistryClient(mockClient).build());
+        converter = new AWSKafkaAvroConverter(awsKafkaAvroSerializer, awsKafkaAvroDeserializer, avroData);
+
+        Headers headers = new RecordHeaders();
+        byte[] serializedData = converter.fromConnectData(testTopic, headers, expected.schema(), expected);
+
+        assertArrayEquals(awsKafkaAvroSerializer.serialize(testTopic, new RecordHeaders(), avroRecord), serializedData);
+        assertEquals(schemaVersionIdForTesting.toString(), new String(
+                headers.lastHeader(AWSSchemaRegistryConstants.KEY_SCHEMA_VERSION_ID_HEADER).value(),
+                StandardCharsets.UTF_8));
+        assertEquals(expected, converter.toConnectData(testTopic, headers, serializedData).value());
+    }
+
     /**
      * Test AWSKafkaAvroConverter when serializer throws exception.
      */
@@ -142,7 +226,8 @@ public class AWSKafkaAvroConverterTest {
         String avroSchemaDefinition = avroData.fromConnectSchema(expected.schema()).toString();
 
         AWSKafkaAvroSerializer awsKafkaAvroSerializer = createSerializer(avroSchemaDefinition, schemaVersionIdForTesting);
-        when(awsKafkaAvroDeserializer.deserialize(testTopic, genericBytes)).thenThrow(new AWSSchemaRegistryException());
+        when(awsKafkaAvroDeserializer.deserializeWithWriterSchema(eq(testTopic), any(byte[].class)))
+                .thenThrow(new AWSSchemaRegistryException());
         converter = new AWSKafkaAvroConverter(awsKafkaAvroSerializer, awsKafkaAvroDeserializer, avroData);
         byte[] serializedData = converter.fromConnectData(testTopic, expected.schema(), expected);
 
@@ -178,8 +263,8 @@ public class AWSKafkaAvroConverterTest {
         AWSDeserializerInput awsDeserializerInput = AWSDeserializerInput.builder().buffer(ByteBuffer.wrap(bytes))
                 .transportName(testTopic).build();
 
-        when(awsDeserializer.deserialize(awsDeserializerInput)).thenReturn(record);
-        when(awsDeserializer.getSchemaDefinition(bytes)).thenReturn(schemaDefinition);
+        when(awsDeserializer.deserializeWithWriterSchema(awsDeserializerInput)).thenReturn(new AWSAvroDeserializerOutput(
+                record, new org.apache.avro.Schema.Parser().parse(schemaDefinition), schemaVersionIdForTesting));
         AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer(mockCredProvider, null);
         awsKafkaAvroDeserializer.configure(configs, true);
 
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.kafkaconnect.avrodata;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.cache.Cache;
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+import org.junit.jupiter.api.Test;
+import org.powermock.reflect.Whitebox;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the schema caches and cached conversion plans of AvroData.
+ */
+public class AvroDataCachingTest {
+    private AvroData avroData = new AvroData(2);
+
+    @Test
+    public void testCacheSchemaToConnectConversion_sameSchemaInstance_usesIdentityCache() {
+        Cache<Schema, org.apache.avro.Schema> cache =
+                Whitebox.getInternalState(avroData, "toConnectSchemaCache");
+        Cache<org.apache.avro.Schema, Schema> identityCache =
+                Whitebox.getInternalState(avroData, "toConnectSchemaIdentityCache");
+        org.apache.avro.Schema avroSchema = org.apache.avro.SchemaBuilder.builder().intType();
+        org.apache.avro.Schema equalAvroSchema = org.apache.avro.SchemaBuilder.builder().intType();
+
+        Schema connectSchema = avroData.toConnectData(avroSchema, 32).schema();
+        assertSame(connectSchema, avroData.toConnectData(avroSchema, 33).schema());
+        assertSame(connectSchema, identityCache.get(avroSchema));
+        assertEquals(1, identityCache.size());
+
+        assertSame(connectSchema, avroData.toConnectData(equalAvroSchema, 34).schema());
+        assertEquals(1, cache.size());
+        assertEquals(2, identityCache.size());
+    }
+
+    @Test
+    public void testConversionPlans_nestedStruct_roundTripsAndCachesPlans() {
+        Schema itemSchema = SchemaBuilder.struct().name("Item")
+                .field("sku", Schema.STRING_SCHEMA)
+                .field("quantity", Schema.INT16_SCHEMA)
+                .build();
+        Schema orderSchema = SchemaBuilder.struct().name("Order")
+                .field("id", Schema.INT64_SCHEMA)
+                .field("day", Date.SCHEMA)
+                .field("note", Schema.OPTIONAL_STRING_SCHEMA)
+                .field("items", SchemaBuilder.array(itemSchema).build())
+                .field("tags", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT32_SCHEMA).build())
+                .field("payload", Schema.BYTES_SCHEMA)
+                .build();
+        Struct order = new Struct(orderSchema)
+                .put("id", 42L)
+                .put("day", Date.toLogical(Date.SCHEMA, 18000))
+                .put("items", Arrays.asList(new Struct(itemSchema).put("sku", "a").put("quantity", (short) 2),
+                        new Struct(itemSchema).put("sku", "b").put("quantity", (short) 3)))
+                .put("tags", Collections.singletonMap("priority", 1))
+                .put("payload", ByteBuffer.wrap(new byte[] {1, 2}));
+        Cache<Schema, Object> fromConnectPlans = Whitebox.getInternalState(avroData, "fromConnectPlans");
+        Cache<Schema, Object> toConnectPlans = Whitebox.getInternalState(avroData, "toConnectPlans");
+
+        for (int i = 0; i < 2; i++) {
+            GenericRecord avroRecord = (GenericRecord) avroData.fromConnectData(orderSchema, order);
+            assertEquals(18000, avroRecord.get("day"));
+            assertNull(avroRecord.get("note"));
+
+            SchemaAndValue converted = avroData.toConnectData(avroRecord.getSchema(), avroRecord);
+            assertEquals(order, converted.value());
+        }
+        assertEquals(1, fromConnectPlans.size());
+        assertEquals(1, toConnectPlans.size());
+    }
+
+    @Test
+    public void testConversionPlans_equalSchemaInstances_shareOnePlan() {
+        Schema firstSchema = SchemaBuilder.struct().name("Item")
+                .field("sku", Schema.STRING_SCHEMA)
+                .field("quantity", Schema.INT16_SCHEMA)
+                .build();
+        Schema secondSchema = SchemaBuilder.struct().name("Item")
+                .field("sku", Schema.STRING_SCHEMA)
+                .field("quantity", Schema.INT16_SCHEMA)
+                .build();
+        Cache<Schema, Object> fromConnectPlans = Whitebox.getInternalState(avroData, "fromConnectPlans");
+        Cache<Schema, Object> fromConnectIdentityPlans =
+                Whitebox.getInternalState(avroData, "fromConnectIdentityPlans");
+        Cache<Schema, Object> toConnectPlans = Whitebox.getInternalState(avroData, "toConnectPlans");
+
+        for (Schema schema : Arrays.asList(firstSchema, secondSchema)) {
+            Struct item = new Struct(schema).put("sku", "a").put("quantity", (short) 2);
+            GenericRecord avroRecord = (GenericRecord) avroData.fromConnectData(schema, item);
+            assertEquals(item, avroData.toConnectData(avroRecord.getSchema(), avroRecord).value());
+        }
+
+        assertEquals(1, fromConnectPlans.size());
+        assertEquals(2, fromConnectIdentityPlans.size());
+        assertEquals(1, toConnectPlans.size());
+    }
+
+    @Test
+    public void testEncodeConnectData_nestedStruct_matchesDatumWriterEncoding() throws IOException {
+        Schema itemSchema = SchemaBuilder.struct().name("Item")
+                .field("sku", Schema.STRING_SCHEMA)
+                .field("quantity", Schema.INT8_SCHEMA)
+                .field("price", Decimal.schema(2))
+                .build();
+        Schema orderSchema = SchemaBuilder.struct().name("Order")
+                .field("id", Schema.INT64_SCHEMA)
+                .field("created", Timestamp.SCHEMA)
+                .field("note", Schema.OPTIONAL_STRING_SCHEMA)
+                .field("discount", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                .field("gift", SchemaBuilder.struct().name("Gift").optional()
+                        .field("message", Schema.STRING_SCHEMA).build())
+                .field("items", SchemaBuilder.array(itemSchema).build())
+                .field("tags", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.OPTIONAL_INT32_SCHEMA).build())
+                .field("counts", SchemaBuilder.map(Schema.INT32_SCHEMA, Schema.INT32_SCHEMA).build())
+                .field("payload", Schema.BYTES_SCHEMA)
+                .build();
+        Struct order = new Struct(orderSchema)
+                .put("id", 42L)
+                .put("created", new java.util.Date(1600000000000L))
+                .put("discount", 0.5)
+                .put("items", Arrays.asList(
+                        new Struct(itemSchema).put("sku", "a").put("quantity", (byte) 2)
+                                .put("price", new BigDecimal("1.25")),
+                        new Struct(itemSchema).put("sku", "b").put("quantity", (byte) 3)
+                                .put("price", new BigDecimal("10.00"))))
+                .put("tags", Collections.singletonMap("priority", null))
+                .put("counts", Collections.singletonMap(1, 2))
+                .put("payload", new byte[] {1, 2});
+        Cache<Schema, Object> connectDataEncoders = Whitebox.getInternalState(avroData, "connectDataEncoders");
+
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(encoded, null);
+            org.apache.avro.Schema avroSchema = avroData.encodeConnectData(orderSchema, order, encoder);
+
+            GenericRecord avroRecord = (GenericRecord) avroData.fromConnectData(orderSchema, order);
+            ByteArrayOutputStream written = new ByteArrayOutputStream();
+            BinaryEncoder writtenEncoder = EncoderFactory.get().directBinaryEncoder(written, null);
+            new GenericDatumWriter<>(avroRecord.getSchema()).write(avroRecord, writtenEncoder);
+
+            assertEquals(avroRecord.getSchema(), avroSchema);
+            assertArrayEquals(written.toByteArray(), encoded.toByteArray());
+        }
+        assertEquals(1, connectDataEncoders.size());
+    }
+
+    @Test
+    public void testDecodeConnectData_nestedRecord_matchesConvertedDatumReaderRecord() throws IOException {
+        org.apache.avro.Schema itemSchema = org.apache.avro.SchemaBuilder.record("Item").fields()
+                .requiredString("sku")
+                .name("color").type().enumeration("Color").symbols("RED", "GREEN").noDefault()
+                .name("price").type(LogicalTypes.decimal(8, 2).addToSchema(
+                        org.apache.avro.SchemaBuilder.builder().bytesType())).noDefault()
+                .endRecord();
+        org.apache.avro.Schema orderSchema = org.apache.avro.SchemaBuilder.record("Order").fields()
+                .requiredLong("id")
+                .name("created").type(LogicalTypes.timestampMillis().addToSchema(
+                        org.apache.avro.SchemaBuilder.builder().longType())).noDefault()
+                .optionalString("note")
+                .optionalDouble("discount")
+                .name("items").type().array().items(itemSchema).noDefault()
+                .name("tags").type().map().values().nullable().intType().noDefault()
+                .name("code").type().fixed("Code").size(2).noDefault()
+                .requiredBytes("payload")
+                .endRecord();
+        GenericRecord order = new GenericRecordBuilder(orderSchema)
+                .set("id", 42L)
+                .set("created", 1600000000000L)
+                .set("discount", 0.5)
+                .set("items", Arrays.asList(new GenericRecordBuilder(itemSchema)
+                        .set("sku", "a")
+                        .set("color", new GenericData.EnumSymbol(itemSchema.getField("color").schema(), "GREEN"))
+                        .set("price", ByteBuffer.wrap(new BigDecimal("1.25").unscaledValue().toByteArray()))
+                        .build()))
+                .set("tags", Collections.singletonMap("priority", null))
+                .set("code", new GenericData.Fixed(orderSchema.getField("code").schema(), new byte[] {1, 2}))
+                .set("payload", ByteBuffer.wrap(new byte[] {3, 4}))
+                .build();
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(written, null);
+        new GenericDatumWriter<>(orderSchema).write(order, encoder);
+        byte[] data = written.toByteArray();
+        Cache<org.apache.avro.Schema, Object> connectDataDecoders =
+                Whitebox.getInternalState(avroData, "connectDataDecoders");
+
+        for (int i = 0; i < 2; i++) {
+            Object avroRecord = new GenericDatumReader<>(orderSchema)
+                    .read(null, DecoderFactory.get().binaryDecoder(data, null));
+            SchemaAndValue expected = avroData.toConnectData(orderSchema, avroRecord);
+
+            SchemaAndValue decoded = avroData.decodeConnectData(orderSchema,
+                    DecoderFactory.get().binaryDecoder(data, null));
+            assertEquals(expected, decoded);
+        }
+        assertEquals(1, connectDataDecoders.size());
+    }
+
+    @Test
+    public void testConversionPlans_mismatchingStructSchema_throwsException() {
+        Schema schema = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+        Schema otherSchema = SchemaBuilder.struct().field("id", Schema.INT64_SCHEMA).build();
+
+        avroData.fromConnectData(schema, new Struct(schema).put("id", 1));
+        DataException exception = assertThrows(DataException.class,
+                () -> avroData.fromConnectData(schema, new Struct(otherSchema).put("id", 1L)));
+        assertEquals("Mismatching struct schema", exception.getMessage());
+    }
+
+    @Test
+    public void testCacheSchemaConversion_concurrentThreads_shareCachedSchemas() throws Exception {
+        Cache<Schema, org.apache.avro.Schema> cache =
+                Whitebox.getInternalState(avroData, "toConnectSchemaCache");
+        org.apache.avro.Schema avroSchema = org.apache.avro.SchemaBuilder.builder().intType();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<SchemaAndValue>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> avroData.toConnectData(avroSchema, 32)));
+            }
+            for (Future<SchemaAndValue> result : results) {
+                assertEquals(new SchemaAndValue(Schema.INT32_SCHEMA, 32), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.kafkaconnect.avrodata;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompatibilityCheckerTest {
+    private static final AvroSchema USER_V1 = new AvroSchema("{\"type\":\"record\",\"name\":\"User\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"string\"}]}");
+    private static final AvroSchema USER_V2 = new AvroSchema("{\"type\":\"record\",\"name\":\"User\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"int\",\"default\":0}]}");
+    private static final AvroSchema USER_V3 = new AvroSchema("{\"type\":\"record\",\"name\":\"User\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"int\"}]}");
+
+    @Test
+    public void testIsCompatible_backward_checksLatestSchemaOnly() {
+        List<String> errors = USER_V3.isCompatible(CompatibilityLevel.BACKWARD, Arrays.asList(USER_V1, USER_V2));
+
+        Assertions.assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void testIsCompatible_backwardTransitive_checksAllSchemas() {
+        List<String> errors =
+                USER_V3.isCompatible(CompatibilityLevel.BACKWARD_TRANSITIVE, Arrays.asList(USER_V1, USER_V2));
+
+        Assertions.assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void testIsCompatible_full_reportsFirstFailingDirection() {
+        List<String> errors = USER_V1.isCompatible(CompatibilityLevel.FULL, Collections.singletonList(USER_V3));
+
+        Assertions.assertEquals(1, errors.size());
+        Assertions.assertTrue(USER_V1.isCompatible(CompatibilityLevel.FULL, Collections.singletonList(USER_V2)).isEmpty());
+    }
+
+    @Test
+    public void testIsBackwardCompatible_sameSchemas_returnsMemoizedResult() {
+        AvroSchema reader = new AvroSchema(USER_V3.canonicalString());
+        AvroSchema writer = new AvroSchema(USER_V1.canonicalString());
+
+        List<String> errors = USER_V3.isBackwardCompatible(USER_V1);
+
+        Assertions.assertFalse(errors.isEmpty());
+        Assertions.assertSame(errors, reader.isBackwardCompatible(writer));
+    }
+
+    @Test
+    public void testIsBackwardCompatible_differentDefaults_areNotMemoizedTogether() {
+        Assertions.assertTrue(USER_V2.isBackwardCompatible(USER_V1).isEmpty());
+        Assertions.assertFalse(USER_V3.isBackwardCompatible(USER_V1).isEmpty());
+    }
+
+    @Test
+    public void testAvroSchema_sharedReferences_resolveInEverySchema() {
+        Map<String, String> references = new LinkedHashMap<>();
+        references.put("address", "{\"type\":\"record\",\"name\":\"Address\",\"fields\":["
+                                  + "{\"name\":\"street\",\"type\":\"string\"}]}");
+        String customer = "{\"type\":\"record\",\"name\":\"Customer\",\"fields\":["
+                          + "{\"name\":\"address\",\"type\":\"Address\"}]}";
+        String supplier = "{\"type\":\"record\",\"name\":\"Supplier\",\"fields\":["
+                          + "{\"name\":\"address\",\"type\":\"Address\"}]}";
+
+        AvroSchema customerSchema = new AvroSchema(customer, references, 1);
+        AvroSchema supplierSchema = new AvroSchema(supplier, references, 1);
+
+        Assertions.assertSame(customerSchema.rawSchema().getField("address").schema(),
+                              supplierSchema.rawSchema().getField("address").schema());
+        Assertions.assertEquals(customerSchema.canonicalString(),
+                                new AvroSchema(customer, references, 2).canonicalString());
+        Assertions.assertTrue(customerSchema.canonicalString().startsWith("{\"type\":\"record\",\"name\":\"Customer\""));
+    }
+}
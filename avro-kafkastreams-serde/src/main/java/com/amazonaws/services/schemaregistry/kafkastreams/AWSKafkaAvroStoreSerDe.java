@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.kafkastreams;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.serializers.avro.AvroSerializer;
+import com.amazonaws.services.schemaregistry.utils.AVROUtils;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import lombok.NonNull;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Avro serializer and de-serializer wrapper for Kafka Streams state stores and their changelog and repartition
+ * topics. Data is written as plain binary Avro with a fixed schema, without the schema registry header, so state
+ * stores do not call AWS Glue Schema Registry and keys stay compact. As the data cannot be read without knowing
+ * its schema, source and sink topics should keep using {@link AWSKafkaAvroSerDe}. For the same reason, changing
+ * the schema of a store makes the data already in it, and in its changelog topic, unreadable; the store has to be
+ * reset or migrated to a new store instead.
+ */
+public class AWSKafkaAvroStoreSerDe implements Serde<Object> {
+    private Schema schema;
+    private AvroSerializer avroSerializer;
+    private DatumReader<Object> datumReader;
+
+    /**
+     * Constructor used by Kafka Streams user, the schema is read from the
+     * {@link AWSSchemaRegistryConstants#STORE_KEY_SCHEMA} or {@link AWSSchemaRegistryConstants#STORE_VALUE_SCHEMA}
+     * configuration, depending on whether the serde is configured for keys.
+     */
+    public AWSKafkaAvroStoreSerDe() {
+    }
+
+    /**
+     * Constructor for generic records of the schema.
+     *
+     * @param schema schema of the data in the state store
+     */
+    public AWSKafkaAvroStoreSerDe(@NonNull Schema schema) {
+        initialize(schema, false);
+    }
+
+    /**
+     * Constructor for specific records of the class.
+     *
+     * @param recordClass generated class of the data in the state store
+     */
+    public AWSKafkaAvroStoreSerDe(@NonNull Class<? extends SpecificRecord> recordClass) {
+        initialize(SpecificData.get().getSchema(recordClass), true);
+    }
+
+    /**
+     * Get the serializer.
+     * @return serializer writing plain binary Avro.
+     */
+    @Override
+    public Serializer<Object> serializer() {
+        return (topic, data) -> data == null ? null : getAvroSerializer().serialize(data);
+    }
+
+    /**
+     * Get the de-serializer.
+     * @return de-serializer reading plain binary Avro.
+     */
+    @Override
+    public Deserializer<Object> deserializer() {
+        return (topic, data) -> data == null ? null : read(data);
+    }
+
+    /**
+     * Configure the serializer and de-serializer wrapper, unless the schema was passed to the constructor.
+     * @param serdeConfig configuration elements for the wrapper
+     * @param isSerdeForRecordKeys true if key, false otherwise
+     */
+    @Override
+    public void configure(final Map<String, ?> serdeConfig, final boolean isSerdeForRecordKeys) {
+        if (schema != null) {
+            return;
+        }
+
+        String storeSchemaConfig = isSerdeForRecordKeys
+                ? AWSSchemaRegistryConstants.STORE_KEY_SCHEMA
+                : AWSSchemaRegistryConstants.STORE_VALUE_SCHEMA;
+        Object storeSchema = serdeConfig.get(storeSchemaConfig);
+        if (storeSchema == null) {
+            throw new AWSSchemaRegistryException(String.format("Store schema is not configured : %s",
+                                                               storeSchemaConfig));
+        }
+        String schemaOrClassName = storeSchema instanceof Class
+                ? ((Class<?>) storeSchema).getName()
+                : storeSchema.toString();
+        initialize(AVROUtils.getInstance().loadSchema(schemaOrClassName),
+                   !AVROUtils.getInstance().isSchemaDefinition(schemaOrClassName));
+    }
+
+    /**
+     * Resource clean up for Closeable.
+     */
+    @Override
+    public void close() { }
+
+    private void initialize(Schema schema, boolean specific) {
+        this.schema = schema;
+        this.avroSerializer = new AvroSerializer(schema, true);
+        this.datumReader = specific ? new SpecificDatumReader<>(schema) : new GenericDatumReader<>(schema);
+    }
+
+    private AvroSerializer getAvroSerializer() {
+        if (avroSerializer == null) {
+            throw new AWSSchemaRegistryException("Store serde is used before it is configured");
+        }
+        return avroSerializer;
+    }
+
+    private Object read(byte[] data) {
+        if (datumReader == null) {
+            throw new AWSSchemaRegistryException("Store serde is used before it is configured");
+        }
+        try {
+            return datumReader.read(null, DecoderFactory.get().binaryDecoder(data, null));
+        } catch (IOException e) {
+            throw new AWSSchemaRegistryException("Exception occurred while de-serializing Avro store data", e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.kafkastreams;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.serializers.avro.AvroSerializer;
+import com.amazonaws.services.schemaregistry.serializers.avro.User;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for testing AWSKafkaAvroStoreSerDe class.
+ */
+public class AWSKafkaAvroStoreSerDeTest {
+    private static final String testTopic = "test-store-changelog";
+
+    /**
+     * Test for generic record, written as plain binary Avro.
+     */
+    @Test
+    public void testSerDe_genericRecord_writesPlainAvro() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        AWSKafkaAvroStoreSerDe awsKafkaAvroStoreSerDe = new AWSKafkaAvroStoreSerDe(genericRecord.getSchema());
+
+        byte[] serializedData = awsKafkaAvroStoreSerDe.serializer().serialize(testTopic, genericRecord);
+        Object deserializedObject = awsKafkaAvroStoreSerDe.deserializer().deserialize(testTopic, serializedData);
+
+        assertArrayEquals(new AvroSerializer(genericRecord.getSchema()).serialize(genericRecord), serializedData);
+        assertEquals(genericRecord, deserializedObject);
+    }
+
+    /**
+     * Test for specific record, with the class configured by name.
+     */
+    @Test
+    public void testSerDe_specificRecordClassConfigured_returnsSpecificRecord() {
+        User user = RecordGenerator.createSpecificAvroRecord();
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.STORE_KEY_SCHEMA, User.class.getName());
+        AWSKafkaAvroStoreSerDe awsKafkaAvroStoreSerDe = new AWSKafkaAvroStoreSerDe();
+        awsKafkaAvroStoreSerDe.configure(configs, true);
+
+        byte[] serializedData = awsKafkaAvroStoreSerDe.serializer().serialize(testTopic, user);
+        Object deserializedObject = awsKafkaAvroStoreSerDe.deserializer().deserialize(testTopic, serializedData);
+
+        assertTrue(deserializedObject instanceof User);
+        assertEquals(user, deserializedObject);
+    }
+
+    /**
+     * Test for generic record, with the schema definition configured.
+     */
+    @Test
+    public void testSerDe_schemaDefinitionConfigured_returnsGenericRecord() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        AWSKafkaAvroStoreSerDe awsKafkaAvroStoreSerDe = new AWSKafkaAvroStoreSerDe();
+        awsKafkaAvroStoreSerDe.configure(Collections.singletonMap(AWSSchemaRegistryConstants.STORE_VALUE_SCHEMA,
+                                                                  genericRecord.getSchema().toString()), false);
+
+        byte[] serializedData = awsKafkaAvroStoreSerDe.serializer().serialize(testTopic, genericRecord);
+
+        assertEquals(genericRecord, awsKafkaAvroStoreSerDe.deserializer().deserialize(testTopic, serializedData));
+    }
+
+    /**
+     * Test for key and value store schemas, each picked by whether the serde is configured for keys.
+     */
+    @Test
+    public void testConfigure_keyAndValueSchemas_picksSchemaByKeyFlag() {
+        User user = RecordGenerator.createSpecificAvroRecord();
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.STORE_KEY_SCHEMA, User.class.getName());
+        configs.put(AWSSchemaRegistryConstants.STORE_VALUE_SCHEMA, genericRecord.getSchema().toString());
+        AWSKafkaAvroStoreSerDe keySerDe = new AWSKafkaAvroStoreSerDe();
+        keySerDe.configure(configs, true);
+        AWSKafkaAvroStoreSerDe valueSerDe = new AWSKafkaAvroStoreSerDe();
+        valueSerDe.configure(configs, false);
+
+        Object deserializedKey = keySerDe.deserializer()
+                .deserialize(testTopic, keySerDe.serializer().serialize(testTopic, user));
+        Object deserializedValue = valueSerDe.deserializer()
+                .deserialize(testTopic, valueSerDe.serializer().serialize(testTopic, genericRecord));
+
+        assertTrue(deserializedKey instanceof User);
+        assertFalse(deserializedValue instanceof User);
+        assertEquals(genericRecord, deserializedValue);
+    }
+
+    /**
+     * Test for a value serde configured with only the key store schema.
+     */
+    @Test
+    public void testConfigure_onlyKeySchemaForValues_throwsException() {
+        AWSKafkaAvroStoreSerDe awsKafkaAvroStoreSerDe = new AWSKafkaAvroStoreSerDe();
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsKafkaAvroStoreSerDe.configure(Collections.singletonMap(
+                        AWSSchemaRegistryConstants.STORE_KEY_SCHEMA, User.class.getName()), false));
+        assertEquals("Store schema is not configured : storeValueSchema", exception.getMessage());
+    }
+
+    /**
+     * Test for null data, which Kafka Streams uses for deletes.
+     */
+    @Test
+    public void testSerDe_nullData_returnsNull() {
+        AWSKafkaAvroStoreSerDe awsKafkaAvroStoreSerDe = new AWSKafkaAvroStoreSerDe(User.class);
+
+        assertNull(awsKafkaAvroStoreSerDe.serializer().serialize(testTopic, null));
+        assertNull(awsKafkaAvroStoreSerDe.deserializer().deserialize(testTopic, null));
+    }
+
+    /**
+     * Test for configuration without a store schema.
+     */
+    @Test
+    public void testConfigure_noStoreSchema_throwsException() {
+        AWSKafkaAvroStoreSerDe awsKafkaAvroStoreSerDe = new AWSKafkaAvroStoreSerDe();
+
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> awsKafkaAvroStoreSerDe.configure(Collections.emptyMap(), false));
+    }
+}
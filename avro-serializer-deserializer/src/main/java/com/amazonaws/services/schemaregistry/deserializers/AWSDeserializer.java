@@ -16,11 +16,13 @@ package com.amazonaws.services.schemaregistry.deserializers;
 
 import com.amazonaws.services.schemaregistry.caching.AWSCache;
 import com.amazonaws.services.schemaregistry.caching.AWSSchemaRegistryDeserializerCache;
+import com.amazonaws.services.schemaregistry.common.AWSDataFormatDeserializer;
 import com.amazonaws.services.schemaregistry.common.AWSDeserializerInput;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
 import com.amazonaws.services.schemaregistry.common.Schema;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.deserializers.avro.AWSAvroDeserializer;
+import com.amazonaws.services.schemaregistry.deserializers.avro.AWSAvroDeserializerOutput;
 import com.amazonaws.services.schemaregistry.exception.AWSIncompatibleDataException;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import lombok.Builder;
@@ -37,17 +39,33 @@ import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Protocol agnostic AWS Generic de-serializer
  */
 @Slf4j
 public class AWSDeserializer implements Closeable {
+    private static final long SCHEMA_RESOLUTION_THREAD_KEEP_ALIVE_SECONDS = 60;
+
     @Getter
     private AwsCredentialsProvider credentialsProvider;
     @Getter
@@ -60,6 +78,8 @@ public class AWSDeserializer implements Closeable {
     @Setter
     private AWSCache<UUID, Schema, CacheStats> cache;
 
+    private ExecutorService schemaResolutionExecutor;
+
     /**
      * Constructor accepting various dependencies.
      *
@@ -89,6 +109,7 @@ public class AWSDeserializer implements Closeable {
 
         this.deserializerFactory = new AWSDeserializerFactory();
         this.cache = AWSSchemaRegistryDeserializerCache.getInstance(glueSchemaRegistryConfiguration);
+        this.schemaResolutionExecutor = createSchemaResolutionExecutor(glueSchemaRegistryConfiguration);
     }
 
     public AWSDeserializer(@NonNull GlueSchemaRegistryConfiguration configuration, @NonNull AwsCredentialsProvider credentialsProvider) {
@@ -97,6 +118,23 @@ public class AWSDeserializer implements Closeable {
         this.schemaRegistryClient = new AWSSchemaRegistryClient(credentialsProvider, this.glueSchemaRegistryConfiguration);
         this.deserializerFactory = new AWSDeserializerFactory();
         this.cache = AWSSchemaRegistryDeserializerCache.getInstance(glueSchemaRegistryConfiguration);
+        this.schemaResolutionExecutor = createSchemaResolutionExecutor(glueSchemaRegistryConfiguration);
+    }
+
+    /**
+     * Creates the pool that resolves the schemas of batches, with one thread per configured batch schema
+     * resolution parallelism. Idle threads exit so that deserializers that do not resolve batches hold no threads.
+     */
+    private static ExecutorService createSchemaResolutionExecutor(GlueSchemaRegistryConfiguration configuration) {
+        int parallelism = configuration.getBatchSchemaResolutionParallelism();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+                SCHEMA_RESOLUTION_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("glue-schema-registry-schema-resolution-%d")
+                        .setDaemon(true)
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     /**
@@ -154,16 +192,272 @@ public class AWSDeserializer implements Closeable {
      * @throws AWSSchemaRegistryException Exception during de-serialization
      */
     public Object deserialize(@NonNull AWSDeserializerInput deserializerInput) throws AWSSchemaRegistryException {
+        return deserialize(deserializerInput, null);
+    }
+
+    /**
+     * De-serializes the given data into the reuse instance when it has the same schema, so consumers that
+     * process and discard records in a loop do not allocate a new object tree per record.
+     *
+     * @param deserializerInput Input data object for deserializer
+     * @param reuse             object to decode into, or null to create a new one
+     * @return de-serialized object instance
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    public Object deserialize(@NonNull AWSDeserializerInput deserializerInput, Object reuse)
+            throws AWSSchemaRegistryException {
+        ByteBuffer buffer = deserializerInput.getBuffer();
+        AwsDeserializerSchema awsDeserializerSchema = getAwsDeserializerSchema(buffer);
+        UUID schemaVersionId = awsDeserializerSchema.getSchemaVersionId();
+        Schema schema = awsDeserializerSchema.getSchema();
+
+        AWSDataFormatDeserializer dataFormatDeserializer = deserializerFactory
+                .getInstance(DataFormat.valueOf(schema.getDataFormat()), this.glueSchemaRegistryConfiguration);
+
+        if (dataFormatDeserializer instanceof AWSAvroDeserializer) {
+            return ((AWSAvroDeserializer) dataFormatDeserializer).deserialize(schemaVersionId, buffer,
+                    schema.getSchemaDefinition(), deserializerInput.getTransportName(), schema.getSchemaName(), reuse);
+        }
+        return reuse == null
+                ? dataFormatDeserializer.deserialize(schemaVersionId, buffer, schema.getSchemaDefinition())
+                : dataFormatDeserializer.deserialize(schemaVersionId, buffer, schema.getSchemaDefinition(), reuse);
+    }
+
+    /**
+     * De-serializes Avro data and returns it with its parsed writer schema, so callers that need the writer
+     * schema, like Kafka Connect converters, neither parse the header again nor parse the schema definition.
+     * When a reader schema is configured for the data, the data is projected onto it and the reader schema is
+     * returned instead, since it is the schema that describes the data.
+     *
+     * @param deserializerInput Input data object for deserializer
+     * @return de-serialized object with the schema describing it and the schema version id
+     * @throws AWSSchemaRegistryException Exception during de-serialization, or when the data is not Avro
+     */
+    public AWSAvroDeserializerOutput deserializeWithWriterSchema(@NonNull AWSDeserializerInput deserializerInput)
+            throws AWSSchemaRegistryException {
         ByteBuffer buffer = deserializerInput.getBuffer();
         AwsDeserializerSchema awsDeserializerSchema = getAwsDeserializerSchema(buffer);
         UUID schemaVersionId = awsDeserializerSchema.getSchemaVersionId();
         Schema schema = awsDeserializerSchema.getSchema();
 
-        Object result = deserializerFactory
-                .getInstance(DataFormat.valueOf(schema.getDataFormat()), this.glueSchemaRegistryConfiguration)
-                .deserialize(schemaVersionId, buffer, schema.getSchemaDefinition());
+        AWSAvroDeserializer avroDeserializer = getAvroDeserializer(schema);
+        Object data = avroDeserializer.deserialize(schemaVersionId, buffer, schema.getSchemaDefinition(),
+                deserializerInput.getTransportName(), schema.getSchemaName(), null);
+        org.apache.avro.Schema readerSchema =
+                avroDeserializer.getReaderSchema(deserializerInput.getTransportName(), schema.getSchemaName());
+        return new AWSAvroDeserializerOutput(data, readerSchema != null
+                ? readerSchema
+                : avroDeserializer.getWriterSchema(schema.getSchemaDefinition()), schemaVersionId);
+    }
 
-        return result;
+    /**
+     * Reads the Avro encoded data of a message without decoding it, and returns it with its parsed writer schema,
+     * for callers that decode Avro binary straight into their own representation, like Kafka Connect converters.
+     *
+     * @param deserializerInput Input data object for deserializer
+     * @return Avro encoded data as a byte array with its writer schema and schema version id, or null if a reader
+     *         schema is configured for the data, which then has to be de-serialized to be projected
+     * @throws AWSSchemaRegistryException Exception while reading the data, or when the data is not Avro
+     */
+    public AWSAvroDeserializerOutput readEncodedData(@NonNull AWSDeserializerInput deserializerInput)
+            throws AWSSchemaRegistryException {
+        ByteBuffer buffer = deserializerInput.getBuffer();
+        AwsDeserializerSchema awsDeserializerSchema = getAwsDeserializerSchema(buffer);
+        UUID schemaVersionId = awsDeserializerSchema.getSchemaVersionId();
+        Schema schema = awsDeserializerSchema.getSchema();
+
+        AWSAvroDeserializer avroDeserializer = getAvroDeserializer(schema);
+        if (avroDeserializer.getReaderSchema(deserializerInput.getTransportName(), schema.getSchemaName()) != null) {
+            return null;
+        }
+        byte[] data = avroDeserializer.getEncodedData(schemaVersionId, buffer);
+        return new AWSAvroDeserializerOutput(data, avroDeserializer.getWriterSchema(schema.getSchemaDefinition()),
+                schemaVersionId);
+    }
+
+    /**
+     * De-serializes Avro data that was serialized without the schema registry header, such as the value of a
+     * Kafka record whose schema version id and compression byte are in the record headers, and returns it with
+     * its parsed writer schema, or the reader schema when one is configured for the data.
+     *
+     * @param transportName   name of the transport the data was read from, like the Kafka topic
+     * @param schemaVersionId schema version id of the writer schema
+     * @param compressionByte compression byte of the data
+     * @param data            data to be de-serialized
+     * @return de-serialized object with the schema describing it and the schema version id
+     * @throws AWSSchemaRegistryException Exception during de-serialization, or when the data is not Avro
+     */
+    public AWSAvroDeserializerOutput deserializeWithWriterSchema(String transportName, @NonNull UUID schemaVersionId,
+                                                                 byte compressionByte, @NonNull byte[] data)
+            throws AWSSchemaRegistryException {
+        Schema schema = retrieveSchemaRegistrySchema(schemaVersionId);
+
+        AWSAvroDeserializer avroDeserializer = getAvroDeserializer(schema);
+        Object deserialized = avroDeserializer.deserialize(schemaVersionId, compressionByte, data,
+                schema.getSchemaDefinition(), transportName, schema.getSchemaName(), null);
+        org.apache.avro.Schema readerSchema = avroDeserializer.getReaderSchema(transportName, schema.getSchemaName());
+        return new AWSAvroDeserializerOutput(deserialized, readerSchema != null
+                ? readerSchema
+                : avroDeserializer.getWriterSchema(schema.getSchemaDefinition()), schemaVersionId);
+    }
+
+    /**
+     * Reads the Avro encoded data of a message that was serialized without the schema registry header, without
+     * decoding it, and returns it with its parsed writer schema.
+     *
+     * @param transportName   name of the transport the data was read from, like the Kafka topic
+     * @param schemaVersionId schema version id of the writer schema
+     * @param compressionByte compression byte of the data
+     * @param data            serialized data
+     * @return Avro encoded data as a byte array with its writer schema and schema version id, or null if a reader
+     *         schema is configured for the data, which then has to be de-serialized to be projected
+     * @throws AWSSchemaRegistryException Exception while reading the data, or when the data is not Avro
+     */
+    public AWSAvroDeserializerOutput readEncodedData(String transportName, @NonNull UUID schemaVersionId,
+                                                     byte compressionByte, @NonNull byte[] data)
+            throws AWSSchemaRegistryException {
+        Schema schema = retrieveSchemaRegistrySchema(schemaVersionId);
+
+        AWSAvroDeserializer avroDeserializer = getAvroDeserializer(schema);
+        if (avroDeserializer.getReaderSchema(transportName, schema.getSchemaName()) != null) {
+            return null;
+        }
+        byte[] encodedData = avroDeserializer.getEncodedData(schemaVersionId, compressionByte, data);
+        return new AWSAvroDeserializerOutput(encodedData,
+                avroDeserializer.getWriterSchema(schema.getSchemaDefinition()), schemaVersionId);
+    }
+
+    private AWSAvroDeserializer getAvroDeserializer(Schema schema) {
+        DataFormat dataFormat = DataFormat.valueOf(schema.getDataFormat());
+        AWSDataFormatDeserializer dataFormatDeserializer =
+                deserializerFactory.getInstance(dataFormat, this.glueSchemaRegistryConfiguration);
+        if (!(dataFormatDeserializer instanceof AWSAvroDeserializer)) {
+            throw new AWSSchemaRegistryException("Unsupported data format: " + dataFormat);
+        }
+        return (AWSAvroDeserializer) dataFormatDeserializer;
+    }
+
+    /**
+     * De-serializes data that was serialized without the schema registry header, such as the value of a Kafka
+     * record whose schema version id and compression byte are in the record headers.
+     *
+     * @param schemaVersionId schema version id of the writer schema
+     * @param compressionByte compression byte of the data
+     * @param data            data to be de-serialized
+     * @return de-serialized object instance
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    public Object deserialize(@NonNull UUID schemaVersionId, byte compressionByte, @NonNull byte[] data)
+            throws AWSSchemaRegistryException {
+        return deserialize(null, schemaVersionId, compressionByte, data, null);
+    }
+
+    /**
+     * De-serializes data that was serialized without the schema registry header, such as the value of a Kafka
+     * record whose schema version id and compression byte are in the record headers.
+     *
+     * @param transportName   name of the transport the data was read from, like the Kafka topic
+     * @param schemaVersionId schema version id of the writer schema
+     * @param compressionByte compression byte of the data
+     * @param data            data to be de-serialized
+     * @param reuse           object to decode into, or null to create a new one
+     * @return de-serialized object instance
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    public Object deserialize(String transportName, @NonNull UUID schemaVersionId, byte compressionByte,
+                              @NonNull byte[] data, Object reuse) throws AWSSchemaRegistryException {
+        Schema schema = retrieveSchemaRegistrySchema(schemaVersionId);
+        DataFormat dataFormat = DataFormat.valueOf(schema.getDataFormat());
+        AWSDataFormatDeserializer dataFormatDeserializer =
+                deserializerFactory.getInstance(dataFormat, this.glueSchemaRegistryConfiguration);
+
+        if (!(dataFormatDeserializer instanceof AWSAvroDeserializer)) {
+            throw new AWSSchemaRegistryException("Unsupported data format: " + dataFormat);
+        }
+        return ((AWSAvroDeserializer) dataFormatDeserializer)
+                .deserialize(schemaVersionId, compressionByte, data, schema.getSchemaDefinition(), transportName,
+                             schema.getSchemaName(), reuse);
+    }
+
+    /**
+     * Resolves the schemas of a batch of serialized records before they are de-serialized. The distinct
+     * schema version ids of the batch that are not cached yet are fetched concurrently and cached, so that
+     * de-serializing the batch does not wait on the schema registry once per unknown schema. Records that
+     * were not serialized by the schema registry serializer are skipped.
+     *
+     * @param batch serialized records of the batch
+     * @return schemas of the batch by schema version id
+     * @throws AWSSchemaRegistryException on any error while fetching the schemas
+     */
+    public Map<UUID, Schema> prefetchSchemas(@NonNull Collection<byte[]> batch) {
+        AWSDeserializerDataParser dataParser = AWSDeserializerDataParser.getInstance();
+        Set<UUID> schemaVersionIds = new LinkedHashSet<>();
+
+        for (byte[] data : batch) {
+            if (canDeserialize(data)) {
+                schemaVersionIds.add(dataParser.getSchemaVersionId(ByteBuffer.wrap(data)));
+            }
+        }
+        return getSchemas(schemaVersionIds);
+    }
+
+    /**
+     * Gets the schemas for a set of schema version ids. Schemas that are not cached are fetched concurrently,
+     * with at most the configured batch schema resolution parallelism requests in flight, and cached.
+     *
+     * @param schemaVersionIds schema version ids to resolve
+     * @return schemas by schema version id
+     * @throws AWSSchemaRegistryException on any error while fetching the schemas
+     */
+    public Map<UUID, Schema> getSchemas(@NonNull Collection<UUID> schemaVersionIds) {
+        Map<UUID, Schema> schemas = new ConcurrentHashMap<>();
+        Queue<UUID> unknownSchemaVersionIds = new ConcurrentLinkedQueue<>();
+
+        for (UUID schemaVersionId : new LinkedHashSet<>(schemaVersionIds)) {
+            Schema schema = cache.get(schemaVersionId);
+            if (schema != null) {
+                schemas.put(schemaVersionId, schema);
+            } else {
+                unknownSchemaVersionIds.add(schemaVersionId);
+            }
+        }
+
+        int parallelism = Math.min(unknownSchemaVersionIds.size(),
+                                   glueSchemaRegistryConfiguration.getBatchSchemaResolutionParallelism());
+        if (parallelism <= 1) {
+            resolveSchemas(unknownSchemaVersionIds, schemas);
+            return schemas;
+        }
+
+        log.debug("Resolving {} unknown schema versions with parallelism {}", unknownSchemaVersionIds.size(),
+                  parallelism);
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[parallelism];
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                workers[i] = CompletableFuture.runAsync(() -> resolveSchemas(unknownSchemaVersionIds, schemas),
+                                                        schemaResolutionExecutor);
+            }
+        } catch (RejectedExecutionException e) {
+            throw new AWSSchemaRegistryException("Failed to resolve the schemas of the batch, the deserializer is closed",
+                                                 e);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AWSSchemaRegistryException) {
+                throw (AWSSchemaRegistryException) e.getCause();
+            }
+            throw new AWSSchemaRegistryException("Failed to resolve the schemas of the batch", e.getCause());
+        }
+        return schemas;
+    }
+
+    private void resolveSchemas(Queue<UUID> schemaVersionIds, Map<UUID, Schema> schemas) {
+        UUID schemaVersionId;
+        while ((schemaVersionId = schemaVersionIds.poll()) != null) {
+            schemas.put(schemaVersionId, retrieveSchemaRegistrySchema(schemaVersionId));
+        }
     }
 
     /**
@@ -248,12 +542,15 @@ public class AWSDeserializer implements Closeable {
 
     /**
      * Resource clean up for Closeable. This method internally shuts down the
-     * background thread for publishing cloud watch metrics. After this is called, a
-     * new instance of this class should be created to enable the metrics publishing
-     * feature.
+     * background thread for publishing cloud watch metrics and the threads that
+     * resolve the schemas of batches. After this is called, a new instance of this
+     * class should be created to enable the metrics publishing feature.
      */
     @Override
     public void close() {
+        if (schemaResolutionExecutor != null) {
+            schemaResolutionExecutor.shutdown();
+        }
     }
 
     @Data
@@ -15,30 +15,38 @@
 package com.amazonaws.services.schemaregistry.deserializers.avro;
 
 import com.amazonaws.services.schemaregistry.common.AWSCompressionFactory;
+import com.amazonaws.services.schemaregistry.common.AWSCompressionHandler;
 import com.amazonaws.services.schemaregistry.common.AWSDataFormatDeserializer;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.deserializers.AWSDeserializerDataParser;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
+import com.amazonaws.services.schemaregistry.utils.AvroStringType;
 import com.amazonaws.services.schemaregistry.exception.AWSIncompatibleDataException;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.Builder;
+import lombok.Data;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
 import org.apache.avro.SchemaParseException;
-import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.FastReaderBuilder;
 import org.apache.avro.specific.SpecificData;
 import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificRecord;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -53,7 +61,15 @@ public class AWSAvroDeserializer implements AWSDataFormatDeserializer {
     @Setter
     private AvroRecordType avroRecordType;
     @Setter
+    private AvroStringType avroStringType;
+    @Setter
+    private boolean precompiledCodecsEnabled;
+    @Setter
     private AWSCompressionFactory compressionFactory;
+    private final Map<String, Schema> readerSchemas = new HashMap<>();
+    private final Cache<String, Schema> writerSchemas;
+    private final Cache<ProjectionKey, DatumReader<Object>> projectionDatumReaders;
+    private final Cache<Schema, DatumReader<Object>> precompiledDatumReaders;
 
     /**
      * Constructor accepting various dependencies.
@@ -64,6 +80,15 @@ public class AWSAvroDeserializer implements AWSDataFormatDeserializer {
     public AWSAvroDeserializer(GlueSchemaRegistryConfiguration configs) {
         this.schemaRegistrySerDeConfigs = configs;
         this.avroRecordType = configs.getAvroRecordType();
+        this.avroStringType = configs.getAvroStringType();
+        configs.getReaderSchemas().forEach((name, readerSchema) ->
+                this.readerSchemas.put(name, getSchemaDefinition(readerSchema)));
+        this.writerSchemas = CacheBuilder.newBuilder().maximumSize(configs.getCacheSize()).build();
+        this.projectionDatumReaders = CacheBuilder.newBuilder().maximumSize(configs.getCacheSize()).build();
+        this.precompiledCodecsEnabled = configs.isAvroPrecompiledCodecsEnabled();
+        // Keyed by writer schema identity, the writer schemas are cached instances
+        this.precompiledDatumReaders =
+                CacheBuilder.newBuilder().weakKeys().maximumSize(configs.getCacheSize()).build();
 
         compressionFactory = new AWSCompressionFactory();
     }
@@ -106,30 +131,148 @@ public class AWSAvroDeserializer implements AWSDataFormatDeserializer {
      */
     @Override
     public Object deserialize(@NonNull UUID schemaVersionId, @NonNull ByteBuffer buffer, @NonNull String schema) {
+        return deserializeBuffer(schemaVersionId, buffer, schema, null, null);
+    }
+
+    /**
+     * Deserialize the bytes to the original Avro message given the schema retrieved from the schema
+     * registry, reusing the given record if it has the same schema.
+     *
+     * @param schemaVersionId schema version id for the Avro writer schema
+     * @param buffer          data to be de-serialized
+     * @param schema          Avro schema
+     * @param reuse           record to decode into, or null to create a new one
+     * @return de-serialized object
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    @Override
+    public Object deserialize(@NonNull UUID schemaVersionId, @NonNull ByteBuffer buffer, @NonNull String schema,
+                              Object reuse) {
+        return deserializeBuffer(schemaVersionId, buffer, schema, null, reuse);
+    }
+
+    /**
+     * Deserialize the bytes to the original Avro message given the schema retrieved from the schema
+     * registry. When a reader schema is configured for the transport name or the schema name, the
+     * message is projected onto it through Avro schema resolution and the other fields are skipped.
+     *
+     * @param schemaVersionId schema version id for the Avro writer schema
+     * @param buffer          data to be de-serialized
+     * @param schema          Avro schema
+     * @param transportName   name of the transport the data was read from, like the Kafka topic
+     * @param schemaName      name of the schema in the schema registry
+     * @param reuse           record to decode into, or null to create a new one
+     * @return de-serialized object
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    public Object deserialize(@NonNull UUID schemaVersionId, @NonNull ByteBuffer buffer, @NonNull String schema,
+                              String transportName, String schemaName, Object reuse) {
+        return deserializeBuffer(schemaVersionId, buffer, schema, getReaderSchema(transportName, schemaName), reuse);
+    }
+
+    private Object deserializeBuffer(UUID schemaVersionId, ByteBuffer buffer, String schema, Schema readerSchema,
+                                     Object reuse) {
         try {
-            // Validate the data
-            StringBuilder errorMessageBuilder = new StringBuilder();
-            if (!AWSDeserializerDataParser.getInstance().isDataCompatible(buffer, errorMessageBuilder)) {
-                throw new AWSIncompatibleDataException(errorMessageBuilder.toString());
-            }
+            return decode(schemaVersionId, readData(buffer), schema, readerSchema, reuse);
+        } catch (IOException | InstantiationException | IllegalAccessException e) {
+            String message = String.format("Exception occurred while de-serializing Avro message, schema version id: %s",
+                    schemaVersionId);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
 
-            // Skip the schema version id
-            buffer.getLong();
-            // Skip the schema version id
-            buffer.getLong();
+    /**
+     * Gets the Avro encoded data of a message serialized with the schema registry header, without decoding it,
+     * for callers that decode Avro binary themselves.
+     *
+     * @param schemaVersionId schema version id for the Avro writer schema
+     * @param buffer          data to be de-serialized
+     * @return Avro encoded data, decompressed if needed
+     * @throws AWSSchemaRegistryException Exception while reading the data
+     */
+    public byte[] getEncodedData(@NonNull UUID schemaVersionId, @NonNull ByteBuffer buffer) {
+        try {
+            return readData(buffer);
+        } catch (IOException e) {
+            String message = String.format("Exception occurred while reading Avro message, schema version id: %s",
+                    schemaVersionId);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    /**
+     * Gets the Avro encoded data of a message serialized without the schema registry header, given the
+     * compression byte that was transported separately, without decoding it.
+     *
+     * @param schemaVersionId schema version id for the Avro writer schema
+     * @param compressionByte compression byte of the data
+     * @param data            data to be de-serialized
+     * @return Avro encoded data, decompressed if needed
+     * @throws AWSIncompatibleDataException when the compression byte is not a known schema registry value
+     * @throws AWSSchemaRegistryException   Exception while reading the data
+     */
+    public byte[] getEncodedData(@NonNull UUID schemaVersionId, byte compressionByte, @NonNull byte[] data) {
+        try {
+            return decompressData(compressionByte, data);
+        } catch (IOException e) {
+            String message = String.format("Exception occurred while reading Avro message, schema version id: %s",
+                    schemaVersionId);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
 
-            byte[] data = getDeserializedData(buffer);
+    private byte[] readData(ByteBuffer buffer) throws IOException {
+        // Validate the data
+        StringBuilder errorMessageBuilder = new StringBuilder();
+        if (!AWSDeserializerDataParser.getInstance().isDataCompatible(buffer, errorMessageBuilder)) {
+            throw new AWSIncompatibleDataException(errorMessageBuilder.toString());
+        }
 
-            log.debug("Length of actual message: {}, schema version id = {}", data.length, schemaVersionId);
+        // Skip the schema version id
+        buffer.getLong();
+        // Skip the schema version id
+        buffer.getLong();
 
-            Schema schemaDefinition = getSchemaDefinition(schema);
-            DatumReader<Object> datumReader = createDatumReader(schemaDefinition, schemaVersionId);
-            BinaryDecoder binaryDecoder = getBinaryDecoder(data, 0, data.length);
-            Object result = datumReader.read(null, binaryDecoder);
+        return getDeserializedData(buffer);
+    }
 
-            log.debug("Finished de-serializing Avro message, schema version id: {}", schemaVersionId);
+    /**
+     * Deserialize Avro data that carries no schema registry header, given the schema version id
+     * and compression byte that were transported separately.
+     *
+     * @param schemaVersionId schema version id for the Avro writer schema
+     * @param compressionByte compression byte of the data
+     * @param data            data to be de-serialized
+     * @param schema          Avro schema
+     * @return de-serialized object
+     * @throws AWSSchemaRegistryException Exception during de-serialization
+     */
+    public Object deserialize(@NonNull UUID schemaVersionId, byte compressionByte, @NonNull byte[] data,
+                              @NonNull String schema) {
+        return deserialize(schemaVersionId, compressionByte, data, schema, null, null, null);
+    }
 
-            return result;
+    /**
+     * Deserialize Avro data that carries no schema registry header, given the schema version id
+     * and compression byte that were transported separately, projecting it onto the reader schema
+     * configured for the transport name or the schema name if any.
+     *
+     * @param schemaVersionId schema version id for the Avro writer schema
+     * @param compressionByte compression byte of the data
+     * @param data            data to be de-serialized
+     * @param schema          Avro schema
+     * @param transportName   name of the transport the data was read from, like the Kafka topic
+     * @param schemaName      name of the schema in the schema registry
+     * @param reuse           record to decode into, or null to create a new one
+     * @return de-serialized object
+     * @throws AWSIncompatibleDataException when the compression byte is not a known schema registry value
+     * @throws AWSSchemaRegistryException   Exception during de-serialization
+     */
+    public Object deserialize(@NonNull UUID schemaVersionId, byte compressionByte, @NonNull byte[] data,
+                              @NonNull String schema, String transportName, String schemaName, Object reuse) {
+        try {
+            byte[] plainData = decompressData(compressionByte, data);
+            return decode(schemaVersionId, plainData, schema, getReaderSchema(transportName, schemaName), reuse);
         } catch (IOException | InstantiationException | IllegalAccessException e) {
             String message = String.format("Exception occurred while de-serializing Avro message, schema version id: %s",
                     schemaVersionId);
@@ -137,6 +280,164 @@ public class AWSAvroDeserializer implements AWSDataFormatDeserializer {
         }
     }
 
+    private byte[] decompressData(byte compressionByte, byte[] data) throws IOException {
+        if (compressionByte != AWSSchemaRegistryConstants.COMPRESSION_BYTE
+                && compressionByte != AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE) {
+            throw new AWSIncompatibleDataException(AWSIncompatibleDataException.UNKNOWN_COMPRESSION_BYTE_ERROR_MESSAGE);
+        }
+
+        AWSCompressionHandler compressionHandler = compressionFactory.getCompressionHandler(compressionByte);
+        return compressionHandler != null
+                ? compressionHandler.decompress(data, 0, data.length)
+                : data;
+    }
+
+    private Object decode(UUID schemaVersionId, byte[] data, String schema, Schema readerSchema, Object reuse)
+            throws IOException, InstantiationException, IllegalAccessException {
+        log.debug("Length of actual message: {}, schema version id = {}", data.length, schemaVersionId);
+
+        if (readerSchema == null && this.avroRecordType == AvroRecordType.LAZY_GENERIC_RECORD) {
+            Schema writerSchema = getCachedSchemaDefinition(schema);
+            if (writerSchema.getType() == Schema.Type.RECORD) {
+                log.debug("Returning lazy generic record for Avro message, schema version id: {}", schemaVersionId);
+                return new LazyGenericRecord(writerSchema, data, this.avroStringType);
+            }
+        }
+
+        DatumReader<Object> datumReader = readerSchema == null
+                ? getDatumReader(getCachedSchemaDefinition(schema), schemaVersionId)
+                : getProjectionDatumReader(schemaVersionId, schema, readerSchema);
+        BinaryDecoder binaryDecoder = getBinaryDecoder(data, 0, data.length);
+        Object result = datumReader.read(reuse, binaryDecoder);
+
+        log.debug("Finished de-serializing Avro message, schema version id: {}", schemaVersionId);
+
+        return result;
+    }
+
+    /**
+     * Gets the parsed writer schema of a schema definition, parsing each definition only once.
+     *
+     * @param schema Avro schema definition
+     * @return parsed Avro schema
+     * @throws AWSSchemaRegistryException when the schema definition does not parse
+     */
+    public Schema getWriterSchema(@NonNull String schema) {
+        return getCachedSchemaDefinition(schema);
+    }
+
+    /**
+     * Parses the writer schema once per definition. Besides saving the parsing, using the same schema
+     * instance for every message lets Avro reuse its resolving decoders and the records passed for reuse,
+     * which are both matched by schema identity.
+     */
+    private Schema getCachedSchemaDefinition(String schema) {
+        Schema writerSchema = writerSchemas.getIfPresent(schema);
+        if (writerSchema == null) {
+            writerSchema = getSchemaDefinition(schema);
+            writerSchemas.put(schema, writerSchema);
+        }
+        return writerSchema;
+    }
+
+    private DatumReader<Object> getDatumReader(Schema writerSchema, UUID schemaVersionId)
+            throws InstantiationException, IllegalAccessException {
+        if (!usePrecompiledDatumReaders()) {
+            return createDatumReader(writerSchema, schemaVersionId);
+        }
+
+        DatumReader<Object> datumReader = precompiledDatumReaders.getIfPresent(writerSchema);
+        if (datumReader == null) {
+            Schema readerSchema = this.avroRecordType == AvroRecordType.SPECIFIC_RECORD
+                    ? getSpecificReaderSchema(writerSchema)
+                    : writerSchema;
+            datumReader = createPrecompiledDatumReader(writerSchema, readerSchema, schemaVersionId);
+            precompiledDatumReaders.put(writerSchema, datumReader);
+        }
+        return datumReader;
+    }
+
+    /**
+     * Precompiled datum readers resolve the writer schema onto the reader schema once into a tree of readers,
+     * instead of interpreting the resolution for every message. They do not support the string type option,
+     * which only the standard generic datum reader implements.
+     */
+    private boolean usePrecompiledDatumReaders() {
+        return this.precompiledCodecsEnabled && this.avroStringType == null;
+    }
+
+    private DatumReader<Object> createPrecompiledDatumReader(Schema writerSchema, Schema readerSchema,
+                                                             UUID schemaVersionId) {
+        FastReaderBuilder builder = this.avroRecordType == AvroRecordType.SPECIFIC_RECORD
+                ? FastReaderBuilder.getSpecific()
+                : FastReaderBuilder.get();
+        try {
+            log.debug("Using precompiled datum reader for de-serializing Avro message, schema version id: {}",
+                      schemaVersionId);
+            return builder.createDatumReader(writerSchema, readerSchema);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to precompile the datum reader for schema version id: {}, using the standard datum reader",
+                     schemaVersionId, e);
+            return this.avroRecordType == AvroRecordType.SPECIFIC_RECORD
+                    ? new SpecificDatumReader<>(writerSchema, readerSchema)
+                    : StringTypeDatumReader.create(writerSchema, readerSchema, this.avroStringType);
+        }
+    }
+
+    /**
+     * Gets the reader schema configured for the transport name, or else for the schema name.
+     *
+     * @param transportName name of the transport the data was read from, like the Kafka topic
+     * @param schemaName    name of the schema in the schema registry
+     * @return reader schema, or null if none is configured
+     */
+    public Schema getReaderSchema(String transportName, String schemaName) {
+        if (readerSchemas.isEmpty()) {
+            return null;
+        }
+        Schema readerSchema = transportName == null ? null : readerSchemas.get(transportName);
+        if (readerSchema == null && schemaName != null) {
+            readerSchema = readerSchemas.get(schemaName);
+        }
+        return readerSchema;
+    }
+
+    /**
+     * Gets the datum reader resolving the writer schema of the schema version onto the reader schema.
+     * Resolution is done once per pair and cached, as it is the expensive part of a projection.
+     */
+    private DatumReader<Object> getProjectionDatumReader(UUID schemaVersionId, String schema, Schema readerSchema) {
+        ProjectionKey projectionKey = new ProjectionKey(schemaVersionId, readerSchema);
+        DatumReader<Object> datumReader = projectionDatumReaders.getIfPresent(projectionKey);
+
+        if (datumReader == null) {
+            Schema writerSchema = getSchemaDefinition(schema);
+            SchemaCompatibility.SchemaPairCompatibility compatibility =
+                    SchemaCompatibility.checkReaderWriterCompatibility(readerSchema, writerSchema);
+            if (compatibility.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+                String message = String.format("Reader schema %s cannot read schema version id: %s, %s",
+                                               readerSchema.getFullName(), schemaVersionId,
+                                               compatibility.getDescription());
+                throw new AWSSchemaRegistryException(message);
+            }
+
+            datumReader = createDatumReader(writerSchema, readerSchema, schemaVersionId);
+            projectionDatumReaders.put(projectionKey, datumReader);
+        }
+        return datumReader;
+    }
+
+    private DatumReader<Object> createDatumReader(Schema writerSchema, Schema readerSchema, UUID schemaVersionId) {
+        log.debug("Projecting Avro message onto reader schema {}, schema version id: {}", readerSchema.getFullName(),
+                  schemaVersionId);
+        if (usePrecompiledDatumReaders()) {
+            return createPrecompiledDatumReader(writerSchema, readerSchema, schemaVersionId);
+        }
+        return this.avroRecordType == AvroRecordType.SPECIFIC_RECORD
+                ? new SpecificDatumReader<>(writerSchema, readerSchema)
+                : StringTypeDatumReader.create(writerSchema, readerSchema, this.avroStringType);
+    }
+
     public byte[] getDeserializedData(ByteBuffer buffer) throws IOException {
         byte[] data = new byte[buffer.remaining()];
         buffer.get(data);
@@ -201,18 +502,16 @@ public class AWSAvroDeserializer implements AWSDataFormatDeserializer {
 
         switch (this.avroRecordType) {
             case SPECIFIC_RECORD:
-                @SuppressWarnings("unchecked")
-                Class<SpecificRecord> readerClass = SpecificData.get().getClass(writerSchema);
-
-                Schema readerSchema = readerClass.newInstance().getSchema();
+                Schema readerSchema = getSpecificReaderSchema(writerSchema);
                 log.debug("Using SpecificDatumReader for de-serializing Avro message, schema version id: {}, schema: {})",
                         schemaVersionId, readerSchema.toString());
                 return new SpecificDatumReader<>(writerSchema, readerSchema);
 
             case GENERIC_RECORD:
+            case LAZY_GENERIC_RECORD:
                 log.debug("Using GenericDatumReader for de-serializing Avro message, schema version id: {}, schema: {})",
                         schemaVersionId, writerSchema.toString());
-                return new GenericDatumReader<>(writerSchema);
+                return StringTypeDatumReader.create(writerSchema, writerSchema, this.avroStringType);
 
             default:
                 String message = String.format("Data Format in configuration is not supported, Data Format: %s ",
@@ -220,4 +519,17 @@ public class AWSAvroDeserializer implements AWSDataFormatDeserializer {
                 throw new UnsupportedOperationException(message);
         }
     }
+
+    private Schema getSpecificReaderSchema(Schema writerSchema) throws InstantiationException, IllegalAccessException {
+        @SuppressWarnings("unchecked")
+        Class<SpecificRecord> readerClass = SpecificData.get().getClass(writerSchema);
+
+        return readerClass.newInstance().getSchema();
+    }
+
+    @Data
+    private static class ProjectionKey {
+        private final UUID schemaVersionId;
+        private final Schema readerSchema;
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.deserializers.avro;
+
+import lombok.Value;
+import org.apache.avro.Schema;
+
+import java.util.UUID;
+
+/**
+ * De-serialized Avro data together with its parsed writer schema and schema version id.
+ */
+@Value
+public class AWSAvroDeserializerOutput {
+    /**
+     * De-serialized object.
+     */
+    Object data;
+    /**
+     * Parsed writer schema, shared by every message of the same schema version, or the reader schema when
+     * the data is projected onto a configured reader schema.
+     */
+    Schema writerSchema;
+    /**
+     * Schema version id of the writer schema.
+     */
+    UUID schemaVersionId;
+}
@@ -23,12 +23,16 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.UUID;
 
 
 /**
@@ -44,6 +48,7 @@ public class AWSKafkaAvroDeserializer implements Deserializer<Object> {
     private AWSDeserializer awsDeserializer;
 
     private SecondaryDeserializer secondaryDeserializer = SecondaryDeserializer.newInstance();
+    private boolean isKey;
 
     /**
      * Constructor used by Kafka consumer.
@@ -79,6 +84,7 @@ public class AWSKafkaAvroDeserializer implements Deserializer<Object> {
         log.info("Configuring Amazon Glue Schema Registry Service using these properties: {}", configs.toString());
         this.awsDeserializer = AWSDeserializer.builder().credentialProvider(this.credentialProvider).configs(configs)
                 .build();
+        this.isKey = isKey;
 
         if (configs.containsKey(AWSSchemaRegistryConstants.SECONDARY_DESERIALIZER)) {
             configureSecondaryDeser(configs, isKey);
@@ -106,6 +112,125 @@ public class AWSKafkaAvroDeserializer implements Deserializer<Object> {
         return result;
     }
 
+    /**
+     * De-serialize operation for de-serializing the byte array to an Object. The schema version id is
+     * taken from the record headers when present, otherwise from the schema registry header of the data.
+     *
+     * @param topic   Kafka topic name
+     * @param headers Kafka record headers
+     * @param data    serialized data to be de-serialized in byte array
+     * @return de-serialized object instance
+     */
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        Header schemaVersionIdHeader = getSchemaVersionIdHeader(headers);
+        if (schemaVersionIdHeader == null) {
+            return deserialize(topic, data);
+        }
+
+        return this.awsDeserializer.deserialize(topic, getSchemaVersionId(schemaVersionIdHeader),
+                                                getCompressionByte(headers), data, null);
+    }
+
+    /**
+     * De-serializes the byte array and returns it with its parsed writer schema. Unlike {@link #deserialize},
+     * the data must have been serialized by the schema registry serializer.
+     *
+     * @param topic Kafka topic name
+     * @param data  serialized data to be de-serialized in byte array
+     * @return de-serialized object with its writer schema, or null if the data is null
+     */
+    public AWSAvroDeserializerOutput deserializeWithWriterSchema(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return this.awsDeserializer.deserializeWithWriterSchema(prepareInput(data, topic));
+    }
+
+    /**
+     * Reads the Avro encoded data of the byte array without decoding it, and returns it with its parsed writer
+     * schema. The data must have been serialized by the schema registry serializer.
+     *
+     * @param topic Kafka topic name
+     * @param data  serialized data in byte array
+     * @return Avro encoded data as a byte array with its writer schema, or null if the data is null or a reader
+     *         schema is configured for it
+     */
+    public AWSAvroDeserializerOutput readEncodedData(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return this.awsDeserializer.readEncodedData(prepareInput(data, topic));
+    }
+
+    /**
+     * De-serializes the byte array and returns it with its parsed writer schema. The schema version id is taken
+     * from the record headers when present, otherwise from the schema registry header of the data.
+     *
+     * @param topic   Kafka topic name
+     * @param headers Kafka record headers
+     * @param data    serialized data to be de-serialized in byte array
+     * @return de-serialized object with its writer schema, or null if the data is null
+     */
+    public AWSAvroDeserializerOutput deserializeWithWriterSchema(String topic, Headers headers, byte[] data) {
+        Header schemaVersionIdHeader = getSchemaVersionIdHeader(headers);
+        if (data == null || schemaVersionIdHeader == null) {
+            return deserializeWithWriterSchema(topic, data);
+        }
+        return this.awsDeserializer.deserializeWithWriterSchema(topic, getSchemaVersionId(schemaVersionIdHeader),
+                                                                getCompressionByte(headers), data);
+    }
+
+    /**
+     * Reads the Avro encoded data of the byte array without decoding it, and returns it with its parsed writer
+     * schema. The schema version id is taken from the record headers when present, otherwise from the schema
+     * registry header of the data.
+     *
+     * @param topic   Kafka topic name
+     * @param headers Kafka record headers
+     * @param data    serialized data in byte array
+     * @return Avro encoded data as a byte array with its writer schema, or null if the data is null or a reader
+     *         schema is configured for it
+     */
+    public AWSAvroDeserializerOutput readEncodedData(String topic, Headers headers, byte[] data) {
+        Header schemaVersionIdHeader = getSchemaVersionIdHeader(headers);
+        if (data == null || schemaVersionIdHeader == null) {
+            return readEncodedData(topic, data);
+        }
+        return this.awsDeserializer.readEncodedData(topic, getSchemaVersionId(schemaVersionIdHeader),
+                                                    getCompressionByte(headers), data);
+    }
+
+    private Header getSchemaVersionIdHeader(Headers headers) {
+        return headers == null ? null : headers.lastHeader(isKey
+                ? AWSSchemaRegistryConstants.KEY_SCHEMA_VERSION_ID_HEADER
+                : AWSSchemaRegistryConstants.VALUE_SCHEMA_VERSION_ID_HEADER);
+    }
+
+    private byte getCompressionByte(Headers headers) {
+        Header compressionHeader = headers.lastHeader(isKey
+                ? AWSSchemaRegistryConstants.KEY_COMPRESSION_HEADER
+                : AWSSchemaRegistryConstants.VALUE_COMPRESSION_HEADER);
+        return compressionHeader == null || compressionHeader.value().length == 0
+                ? AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE
+                : compressionHeader.value()[0];
+    }
+
+    private UUID getSchemaVersionId(Header schemaVersionIdHeader) {
+        String schemaVersionId = new String(schemaVersionIdHeader.value(), StandardCharsets.UTF_8);
+        try {
+            return UUID.fromString(schemaVersionId);
+        } catch (IllegalArgumentException e) {
+            String message = String.format("Invalid schema version id in record header %s : %s",
+                                           schemaVersionIdHeader.key(), schemaVersionId);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
     /**
      * Resource clean up for Closeable. This method internally shuts down the
      * background thread for publishing cloud watch metrics. After this is called, a
@@ -135,9 +260,10 @@ public class AWSKafkaAvroDeserializer implements Deserializer<Object> {
      * De-serialize operation depend on the value of header version byte.
      */
     private Object deserializeByHeaderVersionByte(String topic, byte[] data, Byte headerVersionByte) {
-        return headerVersionByte.equals(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE)
-                ? this.awsDeserializer.deserialize(prepareInput(data, topic))
-                : secondaryDeserializer.deserialize(topic, data);
+        if (!headerVersionByte.equals(AWSSchemaRegistryConstants.HEADER_VERSION_BYTE)) {
+            return secondaryDeserializer.deserialize(topic, data);
+        }
+        return this.awsDeserializer.deserialize(prepareInput(data, topic));
     }
 
     private Byte getHeaderVersionByte(byte[] data) {
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.deserializers.avro;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AvroStringType;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.DecoderFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Avro generic record backed by the undecoded payload of a message. A field is decoded on its first access;
+ * the fields before it that were not accessed yet are skipped and their offsets remembered, so each byte of
+ * the payload is scanned at most once. Nested values of a field are decoded eagerly. The original payload
+ * stays available for forwarding the message without encoding it again. Like GenericData.Record, instances
+ * are not thread safe.
+ */
+public class LazyGenericRecord implements GenericRecord {
+    private static final Object NOT_DECODED = new Object();
+
+    private final Schema schema;
+    /**
+     * Avro binary encoded payload the record was read from, without the schema registry header. Changes
+     * made with put are not reflected in it.
+     */
+    @Getter
+    private final byte[] payload;
+    /**
+     * True if a field was changed with put since the record was read.
+     */
+    @Getter
+    private boolean modified = false;
+
+    private final AvroStringType stringType;
+    private final Object[] values;
+    private final int[] fieldOffsets;
+    private int knownFieldOffsets = 1;
+
+    /**
+     * @param schema  Avro record schema the payload was written with
+     * @param payload Avro binary encoded record
+     */
+    public LazyGenericRecord(@NonNull Schema schema, @NonNull byte[] payload) {
+        this(schema, payload, null);
+    }
+
+    /**
+     * @param schema     Avro record schema the payload was written with
+     * @param payload    Avro binary encoded record
+     * @param stringType Java type of string values, or null to follow the schema
+     */
+    public LazyGenericRecord(@NonNull Schema schema, @NonNull byte[] payload, AvroStringType stringType) {
+        if (schema.getType() != Schema.Type.RECORD) {
+            throw new AvroRuntimeException("Not a record schema: " + schema);
+        }
+        this.schema = schema;
+        this.payload = payload;
+        this.stringType = stringType;
+        this.values = new Object[schema.getFields().size()];
+        this.fieldOffsets = new int[values.length + 1];
+        Arrays.fill(values, NOT_DECODED);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public Object get(String key) {
+        Schema.Field field = schema.getField(key);
+        return field == null ? null : get(field.pos());
+    }
+
+    @Override
+    public Object get(int i) {
+        Object value = values[i];
+        if (value == NOT_DECODED) {
+            value = decodeField(i);
+            values[i] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void put(String key, Object v) {
+        Schema.Field field = schema.getField(key);
+        if (field == null) {
+            throw new AvroRuntimeException("Not a valid schema field: " + key);
+        }
+        put(field.pos(), v);
+    }
+
+    @Override
+    public void put(int i, Object v) {
+        values[i] = v;
+        modified = true;
+    }
+
+    private Object decodeField(int i) {
+        try {
+            ByteArrayInputStream in = seek(i);
+            Decoder decoder = DecoderFactory.get().directBinaryDecoder(in, null);
+            Schema fieldSchema = schema.getFields().get(i).schema();
+            Object value = StringTypeDatumReader.create(fieldSchema, fieldSchema, stringType).read(null, decoder);
+
+            if (knownFieldOffsets == i + 1) {
+                fieldOffsets[knownFieldOffsets++] = payload.length - in.available();
+            }
+            return value;
+        } catch (IOException | RuntimeException e) {
+            String message = String.format("Exception occurred while decoding field %s of Avro record %s",
+                                           schema.getFields().get(i).name(), schema.getFullName());
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
+
+    /**
+     * Returns a stream over the payload positioned at the start of the field, skipping the fields
+     * before it whose offsets are not known yet.
+     */
+    private ByteArrayInputStream seek(int field) throws IOException {
+        if (field < knownFieldOffsets) {
+            return stream(fieldOffsets[field]);
+        }
+
+        ByteArrayInputStream in = stream(fieldOffsets[knownFieldOffsets - 1]);
+        Decoder decoder = DecoderFactory.get().directBinaryDecoder(in, null);
+        while (knownFieldOffsets <= field) {
+            GenericDatumReader.skip(schema.getFields().get(knownFieldOffsets - 1).schema(), decoder);
+            fieldOffsets[knownFieldOffsets++] = payload.length - in.available();
+        }
+        return in;
+    }
+
+    private ByteArrayInputStream stream(int offset) {
+        return new ByteArrayInputStream(payload, offset, payload.length - offset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof IndexedRecord)) {
+            return false;
+        }
+        IndexedRecord that = (IndexedRecord) o;
+        return schema.equals(that.getSchema()) && GenericData.get().compare(this, that, schema) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return GenericData.get().hashCode(this, schema);
+    }
+
+    @Override
+    public String toString() {
+        return GenericData.get().toString(this);
+    }
+}
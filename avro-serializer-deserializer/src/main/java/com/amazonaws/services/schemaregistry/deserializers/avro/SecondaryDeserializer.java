@@ -16,17 +16,32 @@ package com.amazonaws.services.schemaregistry.deserializers.avro;
 
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Deserializer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Map;
 
+/**
+ * Delegates the records that are not in the schema registry format to a Kafka deserializer. The
+ * deserializer is resolved once in {@link #validate(Map)}. A deserializer implementing the Kafka
+ * Deserializer interface of this class loader is called directly; one implementing it from another
+ * class loader is called through method handles bound once. Runtime exceptions of the deserializer
+ * are wrapped in {@link AWSSchemaRegistryException} either way, while errors are rethrown as is.
+ */
 @Slf4j
 public class SecondaryDeserializer {
-    private Class<?> clz;
+    private static final String KAFKA_DESERIALIZER_INTERFACE = Deserializer.class.getName();
+
     private Object obj;
+    private Deserializer<?> deserializer;
+    private MethodHandle configureHandle;
+    private MethodHandle deserializeHandle;
+    private MethodHandle closeHandle;
 
     private SecondaryDeserializer() {}
 
@@ -36,28 +51,46 @@ public class SecondaryDeserializer {
 
     public void configure(Map<String, ?> configs, boolean isKey) {
         try {
-            Method secConfigure = this.clz.getMethod("configure", Map.class, boolean.class);
-            secConfigure.invoke(this.obj, configs, isKey);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            String message = "Can't find method called configure or invoke it.";
-            throw new AWSSchemaRegistryException(message, e);
+            if (this.deserializer != null) {
+                this.deserializer.configure(configs, isKey);
+            } else {
+                this.configureHandle.invoke(configs, isKey);
+            }
+        } catch (RuntimeException e) {
+            throw new AWSSchemaRegistryException("Secondary deserializer failed to configure.", e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AWSSchemaRegistryException("Can't invoke method called configure.", e);
         }
-
     }
 
     public boolean validate(Map<String, ?> configs) {
         Object className = configs.get(AWSSchemaRegistryConstants.SECONDARY_DESERIALIZER);
         String secDeserializer = String.valueOf(className);
 
+        Class<?> clz;
         try {
-            this.clz = Class.forName(secDeserializer);
-            this.obj = this.clz.newInstance();
-            return Arrays.asList(this.clz.getInterfaces()).contains(Class.forName(
-                    "org.apache.kafka.common.serialization.Deserializer"));
-        } catch (ClassNotFoundException | IllegalAccessException | InstantiationException e) {
+            clz = Class.forName(secDeserializer);
+            this.obj = clz.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InstantiationException
+                | InvocationTargetException e) {
             String message = "Can't find the class or instantiate it.";
             throw new AWSSchemaRegistryException(message, e);
         }
+
+        if (this.obj instanceof Deserializer) {
+            this.deserializer = (Deserializer<?>) this.obj;
+            return true;
+        }
+
+        if (!implementsKafkaDeserializer(clz)) {
+            return false;
+        }
+
+        log.info("Secondary deserializer {} is loaded by a different class loader, binding method handles", clz);
+        bindMethodHandles(clz);
+        return true;
     }
 
     public Object deserialize(String topic, byte[] data) {
@@ -66,13 +99,16 @@ public class SecondaryDeserializer {
         }
 
         try {
-            Method secDeserialize = this.clz.getMethod("deserialize", String.class, byte[].class);
-            return secDeserialize.invoke(this.obj, topic, data);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            String message = "Can't find method called deserialize or invoke it.";
-            throw new AWSSchemaRegistryException(message, e);
+            return this.deserializer != null
+                    ? this.deserializer.deserialize(topic, data)
+                    : this.deserializeHandle.invoke(topic, data);
+        } catch (RuntimeException e) {
+            throw new AWSSchemaRegistryException("Secondary deserializer failed to deserialize the data.", e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AWSSchemaRegistryException("Can't invoke method called deserialize.", e);
         }
-
     }
 
     public void close() {
@@ -81,12 +117,52 @@ public class SecondaryDeserializer {
         }
 
         try {
-            Method close = this.clz.getMethod("close");
-            close.invoke(this.obj);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            String message = "Can't find method called close or invoke it.";
-            throw new AWSSchemaRegistryException(message, e);
+            if (this.deserializer != null) {
+                this.deserializer.close();
+            } else {
+                this.closeHandle.invoke();
+            }
+        } catch (RuntimeException e) {
+            throw new AWSSchemaRegistryException("Secondary deserializer failed to close.", e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AWSSchemaRegistryException("Can't invoke method called close.", e);
+        }
+    }
+
+    /**
+     * Checks by name whether the class implements the Kafka Deserializer interface, directly, through a
+     * super class or through a super interface, so the interface may come from another class loader.
+     */
+    @VisibleForTesting
+    static boolean implementsKafkaDeserializer(Class<?> clz) {
+        for (Class<?> type = clz; type != null; type = type.getSuperclass()) {
+            for (Class<?> implementedInterface : type.getInterfaces()) {
+                if (KAFKA_DESERIALIZER_INTERFACE.equals(implementedInterface.getName())
+                        || implementsKafkaDeserializer(implementedInterface)) {
+                    return true;
+                }
+            }
         }
+        return false;
     }
 
+    private void bindMethodHandles(Class<?> clz) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            this.configureHandle = lookup
+                    .findVirtual(clz, "configure", MethodType.methodType(void.class, Map.class, boolean.class))
+                    .bindTo(this.obj);
+            this.deserializeHandle = lookup
+                    .findVirtual(clz, "deserialize", MethodType.methodType(Object.class, String.class, byte[].class))
+                    .bindTo(this.obj);
+            this.closeHandle = lookup
+                    .findVirtual(clz, "close", MethodType.methodType(void.class))
+                    .bindTo(this.obj);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            String message = "Can't find the methods of the secondary deserializer.";
+            throw new AWSSchemaRegistryException(message, e);
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.deserializers.avro;
+
+import com.amazonaws.services.schemaregistry.utils.AvroStringType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+
+/**
+ * Generic datum reader that reads all string values as the configured Java type, instead of the one
+ * the schema asks for with the avro.java.string property. Utf8 values keep the UTF-8 bytes and are
+ * only decoded to a String when the application asks for one.
+ *
+ * @param <D> type of the datum read
+ */
+final class StringTypeDatumReader<D> extends GenericDatumReader<D> {
+    private final Class<?> stringClass;
+
+    private StringTypeDatumReader(Schema writerSchema, Schema readerSchema, AvroStringType stringType) {
+        super(writerSchema, readerSchema);
+        this.stringClass = stringType == AvroStringType.STRING ? String.class : CharSequence.class;
+    }
+
+    /**
+     * Creates a generic datum reader honoring the string type.
+     *
+     * @param writerSchema schema the data was written with
+     * @param readerSchema schema to read the data into
+     * @param stringType   Java type of string values, or null to follow the schema
+     * @param <D>          type of the datum read
+     * @return generic datum reader
+     */
+    static <D> GenericDatumReader<D> create(Schema writerSchema, Schema readerSchema, AvroStringType stringType) {
+        return stringType == null
+                ? new GenericDatumReader<>(writerSchema, readerSchema)
+                : new StringTypeDatumReader<>(writerSchema, readerSchema, stringType);
+    }
+
+    @Override
+    protected Class findStringClass(Schema schema) {
+        return stringClass;
+    }
+}
@@ -26,6 +26,7 @@ import com.amazonaws.services.schemaregistry.serializers.avro.AvroSerializer;
 import com.amazonaws.services.schemaregistry.utils.AVROUtils;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -34,17 +35,37 @@ import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Slf4j
 public class GlueSchemaRegistrySerializationFacade {
     private AWSSchemaRegistryClient awsSchemaRegistryClient;
     private static final String AVRO_SCHEMA_TYPE = DataFormat.AVRO.name();
+    private static final long SCHEMA_REGISTRATION_THREAD_KEEP_ALIVE_SECONDS = 60;
 
     private SerializationDataEncoder serializationDataEncoder;
     private GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
+    private final ExecutorService schemaRegistrationExecutor;
 
     @Setter
     @Getter
@@ -67,6 +88,24 @@ public class GlueSchemaRegistrySerializationFacade {
         this.serializationDataEncoder = new SerializationDataEncoder(glueSchemaRegistryConfiguration);
 
         cache = AWSSchemaRegistrySerializerCache.getInstance(glueSchemaRegistryConfiguration);
+        schemaRegistrationExecutor = createSchemaRegistrationExecutor(glueSchemaRegistryConfiguration);
+    }
+
+    /**
+     * Creates the pool that gets or registers several schema versions at once, with one thread per configured
+     * batch schema resolution parallelism. Idle threads exit so that facades that do not preload schemas hold
+     * no threads.
+     */
+    private static ExecutorService createSchemaRegistrationExecutor(GlueSchemaRegistryConfiguration configuration) {
+        int parallelism = configuration.getBatchSchemaResolutionParallelism();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+                SCHEMA_REGISTRATION_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("glue-schema-registry-schema-registration-%d")
+                        .setDaemon(true)
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     public UUID getOrRegisterSchemaVersion(@NonNull AWSSerializerInput serializerInput) {
@@ -89,6 +128,103 @@ public class GlueSchemaRegistrySerializationFacade {
         return schemaVersionId;
     }
 
+    /**
+     * Gets or registers the schema versions of several serializer inputs. Schema versions that are not cached
+     * are looked up or registered concurrently, with at most the configured batch schema resolution parallelism
+     * requests in flight, and cached.
+     *
+     * @param serializerInputs serializer inputs to get or register the schema versions of
+     * @return schema version ids by serializer input
+     * @throws AWSSchemaRegistryException on any error while getting or registering a schema version, like an
+     *                                    incompatible schema
+     */
+    public Map<AWSSerializerInput, UUID> getOrRegisterSchemaVersions(
+            @NonNull Collection<AWSSerializerInput> serializerInputs) {
+        Map<AWSSerializerInput, UUID> schemaVersionIds = new ConcurrentHashMap<>();
+        Queue<AWSSerializerInput> pendingInputs = new ConcurrentLinkedQueue<>(new LinkedHashSet<>(serializerInputs));
+
+        int parallelism = Math.min(pendingInputs.size(),
+                                   glueSchemaRegistryConfiguration.getBatchSchemaResolutionParallelism());
+        if (parallelism <= 1) {
+            registerSchemaVersions(pendingInputs, schemaVersionIds);
+            return schemaVersionIds;
+        }
+
+        log.debug("Getting or registering {} schema versions with parallelism {}", pendingInputs.size(), parallelism);
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[parallelism];
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                workers[i] = CompletableFuture.runAsync(() -> registerSchemaVersions(pendingInputs, schemaVersionIds),
+                                                        schemaRegistrationExecutor);
+            }
+        } catch (RejectedExecutionException e) {
+            throw new AWSSchemaRegistryException("Failed to get or register the schema versions, the serializer is closed",
+                                                 e);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AWSSchemaRegistryException) {
+                throw (AWSSchemaRegistryException) e.getCause();
+            }
+            throw new AWSSchemaRegistryException("Failed to get or register the schema versions", e.getCause());
+        }
+        return schemaVersionIds;
+    }
+
+    /**
+     * Gets or registers the schema versions of the configured preload schemas and of the given schemas, for each
+     * of the transport names, so that serializing the first records does not wait on the schema registry.
+     *
+     * @param schemas        Avro schema definitions or SpecificRecord class names to preload besides the
+     *                       configured ones
+     * @param transportNames transport names the schemas are used with; when empty, the schemas are preloaded
+     *                       for a null transport name
+     * @param schemaNames    schema name to register the schemas under, by transport name
+     * @return schema version ids by serializer input
+     * @throws AWSSchemaRegistryException on any error while getting or registering a schema version
+     */
+    public Map<AWSSerializerInput, UUID> preloadSchemas(@NonNull Collection<String> schemas,
+                                                        @NonNull Collection<String> transportNames,
+                                                        @NonNull Function<String, String> schemaNames) {
+        Set<String> schemaDefinitions = new LinkedHashSet<>();
+        for (String schema : glueSchemaRegistryConfiguration.getPreloadSchemas()) {
+            schemaDefinitions.add(AVROUtils.getInstance().getPreloadSchemaDefinition(schema));
+        }
+        for (String schema : schemas) {
+            schemaDefinitions.add(AVROUtils.getInstance().getPreloadSchemaDefinition(schema));
+        }
+        if (schemaDefinitions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<AWSSerializerInput> serializerInputs = new ArrayList<>();
+        for (String transportName : transportNames.isEmpty()
+                ? Collections.<String>singletonList(null)
+                : transportNames) {
+            String schemaName = schemaNames.apply(transportName);
+            for (String schemaDefinition : schemaDefinitions) {
+                serializerInputs.add(AWSSerializerInput.builder()
+                                             .schemaDefinition(schemaDefinition)
+                                             .schemaName(schemaName)
+                                             .transportName(transportName)
+                                             .build());
+            }
+        }
+
+        log.info("Preloading {} schemas for transport names {}", schemaDefinitions.size(), transportNames);
+        return getOrRegisterSchemaVersions(serializerInputs);
+    }
+
+    private void registerSchemaVersions(Queue<AWSSerializerInput> serializerInputs,
+                                        Map<AWSSerializerInput, UUID> schemaVersionIds) {
+        AWSSerializerInput serializerInput;
+        while ((serializerInput = serializerInputs.poll()) != null) {
+            schemaVersionIds.put(serializerInput, getOrRegisterSchemaVersion(serializerInput));
+        }
+    }
+
     private Map<String, String> constructSchemaVersionMetadata(String transportName) {
         Map<String, String> metadata = new HashMap<>();
         metadata.put(AWSSchemaRegistryConstants.TRANSPORT_METADATA_KEY, transportName);
@@ -102,13 +238,64 @@ public class GlueSchemaRegistrySerializationFacade {
 
     public byte[] serialize(DataFormat dataFormat, @NonNull Object data,
         @NonNull UUID schemaVersionId) {
+        return serializationDataEncoder.write(serializeToDataFormat(dataFormat, data), schemaVersionId);
+    }
+
+    /**
+     * Serializes the data without the schema registry header. The schema version id and the
+     * compression byte have to be carried separately, for example in Kafka record headers.
+     *
+     * @param dataFormat data format of the data
+     * @param data       data to serialize
+     * @return serialized data, compressed based on configuration
+     */
+    public byte[] serializeData(DataFormat dataFormat, @NonNull Object data) {
+        return serializationDataEncoder.writeData(serializeToDataFormat(dataFormat, data));
+    }
+
+    /**
+     * Adds the schema registry header to data that is already serialized.
+     *
+     * @param data            serialized data
+     * @param schemaVersionId schema version id of the data
+     * @return data with the schema registry header, compressed based on configuration
+     */
+    public byte[] serializeEncoded(@NonNull byte[] data, @NonNull UUID schemaVersionId) {
+        return serializationDataEncoder.write(data, schemaVersionId);
+    }
+
+    /**
+     * Compresses data that is already serialized, without adding the schema registry header. The schema version
+     * id and the compression byte have to be carried separately, for example in Kafka record headers.
+     *
+     * @param data serialized data
+     * @return data compressed based on configuration
+     */
+    public byte[] serializeEncodedData(@NonNull byte[] data) {
+        return serializationDataEncoder.writeData(data);
+    }
+
+    /**
+     * Writes the schema registry header to the stream, so that the data can be serialized straight behind it.
+     * The data must be compressed when the compression byte is not the default one.
+     *
+     * @param out             stream to write the header to
+     * @param schemaVersionId schema version id of the data
+     */
+    public void writeHeader(@NonNull ByteArrayOutputStream out, @NonNull UUID schemaVersionId) {
+        serializationDataEncoder.writeHeader(out, schemaVersionId);
+    }
+
+    public byte getCompressionByte() {
+        return serializationDataEncoder.getCompressionByte();
+    }
+
+    private byte[] serializeToDataFormat(DataFormat dataFormat, Object data) {
         if (!DataFormat.AVRO.equals(dataFormat)) {
             throw new AWSSchemaRegistryException("Unsupported data format: " + dataFormat);
         }
-        byte[] avroSerializedBytes =
-            new AvroSerializer(AVROUtils.getInstance().getSchema(data)).serialize(data);
-
-        return serializationDataEncoder.write(avroSerializedBytes, schemaVersionId);
+        return new AvroSerializer(AVROUtils.getInstance().getSchema(data),
+                glueSchemaRegistryConfiguration.isAvroPrecompiledCodecsEnabled()).serialize(data);
     }
 
     public byte[] encode(String transportName, Schema schema, byte[] data) {
@@ -123,4 +310,11 @@ public class GlueSchemaRegistrySerializationFacade {
 
         return serializationDataEncoder.write(data, schemaVersionId);
     }
+
+    /**
+     * Shuts down the threads that get or register several schema versions at once.
+     */
+    public void close() {
+        schemaRegistrationExecutor.shutdown();
+    }
 }
@@ -69,9 +69,50 @@ public class SerializationDataEncoder {
         return bytes;
     }
 
+    /**
+     * Encodes the data without the Schema Registry header, for transports that carry the schema version id
+     * and compression byte separately. The data is compressed based on configuration.
+     *
+     * @param objectBytes bytes to encode.
+     * @return encoded data.
+     */
+    public byte[] writeData(final byte[] objectBytes) {
+        try {
+            return this.compressionHandler != null ? compressData(objectBytes) : objectBytes;
+        } catch (Exception e) {
+            throw new AWSSchemaRegistryException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the Schema Registry header to the stream, so that the data can be encoded straight behind it.
+     * The data written after the header must be compressed if the compression byte says so.
+     *
+     * @param out             stream to write the header to.
+     * @param schemaVersionId schema version id of the data.
+     */
+    public void writeHeader(final ByteArrayOutputStream out, UUID schemaVersionId) {
+        try {
+            writeHeaderVersionBytes(out);
+            writeCompressionBytes(out);
+            writeSchemaVersionId(out, schemaVersionId);
+        } catch (IOException e) {
+            throw new AWSSchemaRegistryException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compression byte of the encoded data.
+     *
+     * @return compression byte.
+     */
+    public byte getCompressionByte() {
+        return compressionHandler != null ? AWSSchemaRegistryConstants.COMPRESSION_BYTE
+            : AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE;
+    }
+
     private void writeCompressionBytes(ByteArrayOutputStream out) {
-        out.write(compressionHandler != null ? AWSSchemaRegistryConstants.COMPRESSION_BYTE
-            : AWSSchemaRegistryConstants.COMPRESSION_DEFAULT_BYTE);
+        out.write(getCompressionByte());
     }
 
     private void writeHeaderVersionBytes(ByteArrayOutputStream out) {
@@ -26,9 +26,11 @@ import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Amazon Schema Registry Avro serializer.
@@ -37,12 +39,12 @@ import java.util.UUID;
 @Slf4j
 public class AWSAvroSerializer {
     private GlueSchemaRegistrySerializationFacade glueSchemaRegistrySerializationFacade;
+    private GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
 
     @Builder
     public AWSAvroSerializer(@NonNull AwsCredentialsProvider credentialProvider,
             AWSSchemaRegistryClient schemaRegistryClient, Map<String, ?> configs, Properties properties) {
 
-        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
         if (configs != null) {
             glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(configs);
         } else if (properties != null) {
@@ -59,7 +61,63 @@ public class AWSAvroSerializer {
        return glueSchemaRegistrySerializationFacade.getOrRegisterSchemaVersion(serializerInput);
     }
 
+    /**
+     * Gets or registers the schema versions of the configured preload schemas for each of the configured
+     * preload topics.
+     *
+     * @param schemaNames schema name to register the schemas under, by topic
+     * @return schema version ids by serializer input
+     * @throws AWSSchemaRegistryException on any error while getting or registering a schema version
+     */
+    public Map<AWSSerializerInput, UUID> preloadSchemas(@NonNull Function<String, String> schemaNames) {
+        return glueSchemaRegistrySerializationFacade.preloadSchemas(Collections.emptyList(),
+                                                                    glueSchemaRegistryConfiguration.getPreloadTopics(),
+                                                                    schemaNames);
+    }
+
     public byte[] serialize(@NonNull Object data, @NonNull UUID schemaVersionId) {
         return glueSchemaRegistrySerializationFacade.serialize(DataFormat.AVRO, data, schemaVersionId);
     }
+
+    /**
+     * Serializes the data without the schema registry header.
+     *
+     * @param data data to serialize
+     * @return Avro encoded data, compressed based on configuration
+     */
+    public byte[] serializeData(@NonNull Object data) {
+        return glueSchemaRegistrySerializationFacade.serializeData(DataFormat.AVRO, data);
+    }
+
+    /**
+     * Serializes data that is already Avro encoded, adding the schema registry header.
+     *
+     * @param data            Avro encoded data
+     * @param schemaVersionId schema version id of the data
+     * @return serialized data
+     */
+    public byte[] serializeEncoded(@NonNull byte[] data, @NonNull UUID schemaVersionId) {
+        return glueSchemaRegistrySerializationFacade.serializeEncoded(data, schemaVersionId);
+    }
+
+    /**
+     * Serializes data that is already Avro encoded, without the schema registry header.
+     *
+     * @param data Avro encoded data
+     * @return data compressed based on configuration
+     */
+    public byte[] serializeEncodedData(@NonNull byte[] data) {
+        return glueSchemaRegistrySerializationFacade.serializeEncodedData(data);
+    }
+
+    public byte getCompressionByte() {
+        return glueSchemaRegistrySerializationFacade.getCompressionByte();
+    }
+
+    /**
+     * Shuts down the threads that preload schemas.
+     */
+    public void close() {
+        glueSchemaRegistrySerializationFacade.close();
+    }
 }
@@ -17,26 +17,43 @@ package com.amazonaws.services.schemaregistry.serializers.avro;
 
 import com.amazonaws.services.schemaregistry.common.AWSSchemaNamingStrategy;
 import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AVROUtils;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.Data;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 
 @Slf4j
 @Data
 public class AWSKafkaAvroSerializer implements Serializer<Object> {
+    private static final int SCHEMA_DEFINITIONS_CACHE_SIZE = 1000;
+
     private AWSAvroSerializer avroSerializer;
     private final AwsCredentialsProvider credentialProvider;
     private final UUID schemaVersionId;
     private String schemaName;
     private AWSSchemaNamingStrategy schemaNamingStrategy;
+    private boolean schemaVersionIdInHeaders;
+    private boolean isKey;
+    private boolean recordBasedSchemaName;
+    private final Cache<Schema, String> schemaDefinitions = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(SCHEMA_DEFINITIONS_CACHE_SIZE)
+            .build();
 
     /**
      * Constructor used by Kafka producer when passing as the property.
@@ -75,8 +92,16 @@ public class AWSKafkaAvroSerializer implements Serializer<Object> {
         if (schemaName == null) {
             schemaNamingStrategy = AWSSchemaRegistryUtils.getInstance().configureSchemaNamingStrategy(configs);
         }
+        recordBasedSchemaName = schemaName == null && isRecordBased(schemaNamingStrategy);
+
+        schemaVersionIdInHeaders = AWSSchemaRegistryUtils.getInstance().isSchemaVersionIdInHeaders(configs);
+        this.isKey = isKey;
 
         avroSerializer = AWSAvroSerializer.builder().configs(configs).credentialProvider(credentialProvider).build();
+
+        if (this.schemaVersionId == null) {
+            avroSerializer.preloadSchemas(this::getPreloadSchemaName);
+        }
     }
 
     @Override
@@ -87,13 +112,7 @@ public class AWSKafkaAvroSerializer implements Serializer<Object> {
             return null;
         }
 
-        UUID schemaVersionIdFromRegistry = null;
-        if (this.schemaVersionId == null) {
-            log.debug("Schema Version Id is null. Trying to register the schema.");
-            schemaVersionIdFromRegistry = avroSerializer.registerSchema(prepareInput(data, topic));
-        } else {
-            schemaVersionIdFromRegistry = this.schemaVersionId;
-        }
+        UUID schemaVersionIdFromRegistry = getSchemaVersionId(topic, data);
 
         if (schemaVersionIdFromRegistry != null) {
             log.debug("Schema Version Id received from schema registry: {}", schemaVersionIdFromRegistry);
@@ -103,8 +122,141 @@ public class AWSKafkaAvroSerializer implements Serializer<Object> {
         return result;
     }
 
+    /**
+     * Serializes the data. When schema version ids are put in headers, the schema version id and the
+     * compression byte are added to the record headers and the data is returned as plain Avro, without
+     * the schema registry header.
+     *
+     * @param topic   Kafka topic name
+     * @param headers Kafka record headers
+     * @param data    data to be serialized
+     * @return serialized data
+     */
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (!schemaVersionIdInHeaders || headers == null) {
+            return serialize(topic, data);
+        }
+
+        if (null == data) {
+            return null;
+        }
+
+        UUID schemaVersionIdFromRegistry = getSchemaVersionId(topic, data);
+        if (schemaVersionIdFromRegistry == null) {
+            return null;
+        }
+
+        addSchemaVersionIdHeaders(headers, schemaVersionIdFromRegistry);
+        return avroSerializer.serializeData(data);
+    }
+
+    /**
+     * Whether data that is already Avro encoded can be serialized with {@link #serializeEncoded}, which
+     * requires a schema name that does not depend on the record.
+     *
+     * @return true if encoded data can be serialized
+     */
+    public boolean isEncodedDataSupported() {
+        return !recordBasedSchemaName;
+    }
+
+    /**
+     * Serializes data that is already Avro encoded. The schema definition is derived once per schema instance
+     * and the schema version id comes from the schema version cache, so the data is only framed with the
+     * schema registry header.
+     *
+     * @param topic  Kafka topic name
+     * @param schema Avro schema the data is encoded with
+     * @param data   Avro encoded data
+     * @return serialized data
+     */
+    public byte[] serializeEncoded(String topic, @NonNull Schema schema, @NonNull byte[] data) {
+        return serializeEncoded(topic, null, schema, data);
+    }
+
+    /**
+     * Serializes data that is already Avro encoded. When schema version ids are put in headers, the schema
+     * version id and the compression byte are added to the record headers and the data is returned without
+     * the schema registry header, as {@link #serialize(String, Headers, Object)} does.
+     *
+     * @param topic   Kafka topic name
+     * @param headers Kafka record headers, or null when the record has none
+     * @param schema  Avro schema the data is encoded with
+     * @param data    Avro encoded data
+     * @return serialized data
+     */
+    public byte[] serializeEncoded(String topic, Headers headers, @NonNull Schema schema, @NonNull byte[] data) {
+        if (recordBasedSchemaName) {
+            throw new AWSSchemaRegistryException("The schema naming strategy requires the record to name the schema");
+        }
+
+        UUID schemaVersionIdFromRegistry = this.schemaVersionId;
+        if (schemaVersionIdFromRegistry == null) {
+            schemaVersionIdFromRegistry = avroSerializer.registerSchema(AWSSerializerInput.builder()
+                    .schemaDefinition(getSchemaDefinition(schema))
+                    .schemaName(getPreloadSchemaName(topic))
+                    .transportName(topic)
+                    .build());
+        }
+
+        if (!schemaVersionIdInHeaders || headers == null) {
+            return avroSerializer.serializeEncoded(data, schemaVersionIdFromRegistry);
+        }
+        addSchemaVersionIdHeaders(headers, schemaVersionIdFromRegistry);
+        return avroSerializer.serializeEncodedData(data);
+    }
+
+    private void addSchemaVersionIdHeaders(Headers headers, UUID schemaVersionIdFromRegistry) {
+        String schemaVersionIdHeader = isKey
+                ? AWSSchemaRegistryConstants.KEY_SCHEMA_VERSION_ID_HEADER
+                : AWSSchemaRegistryConstants.VALUE_SCHEMA_VERSION_ID_HEADER;
+        String compressionHeader = isKey
+                ? AWSSchemaRegistryConstants.KEY_COMPRESSION_HEADER
+                : AWSSchemaRegistryConstants.VALUE_COMPRESSION_HEADER;
+
+        headers.remove(schemaVersionIdHeader);
+        headers.add(schemaVersionIdHeader, schemaVersionIdFromRegistry.toString().getBytes(StandardCharsets.UTF_8));
+        headers.remove(compressionHeader);
+        headers.add(compressionHeader, new byte[] { avroSerializer.getCompressionByte() });
+    }
+
+    private String getSchemaDefinition(Schema schema) {
+        try {
+            return schemaDefinitions.get(schema, schema::toString);
+        } catch (ExecutionException e) {
+            throw new AWSSchemaRegistryException("Failed to get the schema definition", e.getCause());
+        }
+    }
+
+    /**
+     * Naming strategies that only implement the topic based method name the schema without the record.
+     */
+    private static boolean isRecordBased(AWSSchemaNamingStrategy schemaNamingStrategy) {
+        try {
+            return !schemaNamingStrategy.getClass().getMethod("getSchemaName", String.class, Object.class).isDefault();
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private UUID getSchemaVersionId(String topic, Object data) {
+        if (this.schemaVersionId == null) {
+            log.debug("Schema Version Id is null. Trying to register the schema.");
+            return avroSerializer.registerSchema(prepareInput(data, topic));
+        }
+        return this.schemaVersionId;
+    }
+
+    /**
+     * Resource clean up for Closeable. Shuts down the threads that preload schemas.
+     */
     @Override
-    public void close() { }
+    public void close() {
+        if (avroSerializer != null) {
+            avroSerializer.close();
+        }
+    }
 
     /**
      * Provide implementation of AWSSchemaNamingStrategy via a dynamic configuration.
@@ -124,6 +276,24 @@ public class AWSKafkaAvroSerializer implements Serializer<Object> {
         return schemaName;
     }
 
+    /**
+     * Names the preloaded schemas of a topic. A record based naming strategy needs the record to name its
+     * schema, so preloading is rejected rather than registering the schemas under names records never use.
+     */
+    private String getPreloadSchemaName(String topic) {
+        if (schemaName != null) {
+            return schemaName;
+        }
+        if (recordBasedSchemaName) {
+            throw new AWSSchemaRegistryException(
+                    "Preloading schemas is not supported with a record based schema naming strategy");
+        }
+        if (topic == null) {
+            throw new AWSSchemaRegistryException("Preloading schemas requires a schema name or preload topics");
+        }
+        return schemaNamingStrategy.getSchemaName(topic);
+    }
+
     private AWSSerializerInput prepareInput(@NonNull Object data,
                                             String topic) {
         return AWSSerializerInput.builder()
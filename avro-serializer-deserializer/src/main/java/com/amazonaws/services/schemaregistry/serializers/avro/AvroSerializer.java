@@ -15,6 +15,8 @@
 package com.amazonaws.services.schemaregistry.serializers.avro;
 
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericDatumWriter;
@@ -22,20 +24,45 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.DatumWriter;
 import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
 import org.apache.avro.specific.SpecificDatumWriter;
 import org.apache.avro.specific.SpecificRecord;
 
 import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Avro serialization helper.
  */
 @Slf4j
 public class AvroSerializer {
+    private static final int PRECOMPILED_WRITERS_CACHE_SIZE = 1000;
+
+    /**
+     * Precompiled writers by schema instance, for generic and specific data. Schemas that cannot be
+     * precompiled map to an empty value so that they are not compiled again.
+     */
+    private static final Cache<org.apache.avro.Schema, Optional<DatumWriter<Object>>> GENERIC_PRECOMPILED_WRITERS =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(PRECOMPILED_WRITERS_CACHE_SIZE).build();
+    private static final Cache<org.apache.avro.Schema, Optional<DatumWriter<Object>>> SPECIFIC_PRECOMPILED_WRITERS =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(PRECOMPILED_WRITERS_CACHE_SIZE).build();
+
     private final org.apache.avro.Schema schema;
+    private final boolean precompiledCodecsEnabled;
 
     public AvroSerializer(org.apache.avro.Schema schema) {
+        this(schema, false);
+    }
+
+    /**
+     * @param schema                   Avro schema of the data
+     * @param precompiledCodecsEnabled write data with a writer precompiled for the schema when the schema
+     *                                 supports it
+     */
+    public AvroSerializer(org.apache.avro.Schema schema, boolean precompiledCodecsEnabled) {
         this.schema = schema;
+        this.precompiledCodecsEnabled = precompiledCodecsEnabled;
     }
 
     public byte[] serialize(Object data) {
@@ -55,15 +82,15 @@ public class AvroSerializer {
      */
     private DatumWriter<Object> createDatumWriter(Object object) {
         if (object instanceof SpecificRecord) {
-            return new SpecificDatumWriter<>(schema);
+            return createDatumWriter(true);
         } else if (object instanceof GenericRecord) {
-            return new GenericDatumWriter<>(schema);
+            return createDatumWriter(false);
         } else if (object instanceof GenericData.EnumSymbol) {
-            return new GenericDatumWriter<>(schema);
+            return createDatumWriter(false);
         } else if (object instanceof GenericData.Array) {
-            return new GenericDatumWriter<>(schema);
+            return createDatumWriter(false);
         } else if (object instanceof GenericData.Fixed) {
-            return new GenericDatumWriter<>(schema);
+            return createDatumWriter(false);
         } else {
             String message =
                 String.format("Unsupported type passed for serialization: %s", object);
@@ -71,6 +98,35 @@ public class AvroSerializer {
         }
     }
 
+    private DatumWriter<Object> createDatumWriter(boolean specific) {
+        if (precompiledCodecsEnabled) {
+            DatumWriter<Object> writer = getPrecompiledDatumWriter(specific);
+            if (writer != null) {
+                return writer;
+            }
+        }
+        return specific ? new SpecificDatumWriter<>(schema) : new GenericDatumWriter<>(schema);
+    }
+
+    /**
+     * Gets the writer precompiled for the schema.
+     *
+     * @param specific whether the data is a specific record
+     * @return precompiled datum writer, or null if the schema cannot be precompiled
+     */
+    private DatumWriter<Object> getPrecompiledDatumWriter(boolean specific) {
+        Cache<org.apache.avro.Schema, Optional<DatumWriter<Object>>> writers =
+                specific ? SPECIFIC_PRECOMPILED_WRITERS : GENERIC_PRECOMPILED_WRITERS;
+        try {
+            return writers.get(schema, () -> Optional.ofNullable(
+                    PrecompiledDatumWriter.compile(schema, specific ? SpecificData.get() : GenericData.get())))
+                    .orElse(null);
+        } catch (ExecutionException e) {
+            log.warn("Failed to precompile the datum writer, using the standard datum writer", e.getCause());
+            return null;
+        }
+    }
+
     /**
      * Serialize the Avro message to bytes
      *
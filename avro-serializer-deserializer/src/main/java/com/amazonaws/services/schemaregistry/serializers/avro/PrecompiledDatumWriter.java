@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.specific.SpecificData;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Avro datum writer compiled once per schema into a tree of value writers, one per schema node, so that
+ * writing a datum does not walk the schema and dispatch on its types for every value. Schemas with logical
+ * types or Java class properties are not compiled, as the standard datum writers apply conversions for them.
+ */
+final class PrecompiledDatumWriter implements DatumWriter<Object> {
+    private final Schema schema;
+    private final ValueWriter writer;
+
+    private PrecompiledDatumWriter(Schema schema, ValueWriter writer) {
+        this.schema = schema;
+        this.writer = writer;
+    }
+
+    /**
+     * Compiles a datum writer for the schema.
+     *
+     * @param schema Avro schema of the data
+     * @param data   data model of the data, used to resolve union branches
+     * @return compiled datum writer, or null if the schema is not supported
+     */
+    static PrecompiledDatumWriter compile(Schema schema, GenericData data) {
+        if (!isSupported(schema, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            return null;
+        }
+        return new PrecompiledDatumWriter(schema, new Compiler(data).compile(schema));
+    }
+
+    @Override
+    public void setSchema(Schema schema) {
+        if (schema != this.schema) {
+            throw new UnsupportedOperationException("Precompiled datum writers cannot change their schema");
+        }
+    }
+
+    @Override
+    public void write(Object datum, Encoder out) throws IOException {
+        writer.write(datum, out);
+    }
+
+    private static boolean isSupported(Schema schema, Set<Schema> visitedRecords) {
+        if (schema.getLogicalType() != null
+            || schema.getProp(SpecificData.CLASS_PROP) != null
+            || schema.getProp(SpecificData.KEY_CLASS_PROP) != null
+            || schema.getProp(SpecificData.ELEMENT_PROP) != null) {
+            return false;
+        }
+
+        switch (schema.getType()) {
+            case RECORD:
+                if (!visitedRecords.add(schema)) {
+                    return true;
+                }
+                for (Schema.Field field : schema.getFields()) {
+                    if (!isSupported(field.schema(), visitedRecords)) {
+                        return false;
+                    }
+                }
+                return true;
+            case ARRAY:
+                return isSupported(schema.getElementType(), visitedRecords);
+            case MAP:
+                return isSupported(schema.getValueType(), visitedRecords);
+            case UNION:
+                for (Schema branch : schema.getTypes()) {
+                    if (!isSupported(branch, visitedRecords)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(Object value, Encoder out) throws IOException;
+    }
+
+    private static final class RecordWriter implements ValueWriter {
+        private int[] positions;
+        private ValueWriter[] fieldWriters;
+
+        @Override
+        public void write(Object value, Encoder out) throws IOException {
+            IndexedRecord record = (IndexedRecord) value;
+            for (int i = 0; i < fieldWriters.length; i++) {
+                fieldWriters[i].write(record.get(positions[i]), out);
+            }
+        }
+    }
+
+    private static final class Compiler {
+        private final GenericData data;
+        private final Map<Schema, RecordWriter> recordWriters = new IdentityHashMap<>();
+
+        Compiler(GenericData data) {
+            this.data = data;
+        }
+
+        ValueWriter compile(Schema schema) {
+            switch (schema.getType()) {
+                case RECORD:
+                    return compileRecord(schema);
+                case ENUM:
+                    return (value, out) -> out.writeEnum(value instanceof Enum
+                            ? ((Enum<?>) value).ordinal()
+                            : schema.getEnumOrdinal(value.toString()));
+                case ARRAY:
+                    return compileArray(compile(schema.getElementType()));
+                case MAP:
+                    return compileMap(compile(schema.getValueType()));
+                case UNION:
+                    return compileUnion(schema);
+                case FIXED:
+                    return (value, out) -> out.writeFixed(((GenericFixed) value).bytes(), 0, schema.getFixedSize());
+                case STRING:
+                    return (value, out) -> out.writeString((CharSequence) value);
+                case BYTES:
+                    return (value, out) -> out.writeBytes((ByteBuffer) value);
+                case INT:
+                    return (value, out) -> out.writeInt(((Number) value).intValue());
+                case LONG:
+                    return (value, out) -> out.writeLong(((Number) value).longValue());
+                case FLOAT:
+                    return (value, out) -> out.writeFloat(((Number) value).floatValue());
+                case DOUBLE:
+                    return (value, out) -> out.writeDouble(((Number) value).doubleValue());
+                case BOOLEAN:
+                    return (value, out) -> out.writeBoolean((Boolean) value);
+                case NULL:
+                    return (value, out) -> out.writeNull();
+                default:
+                    throw new IllegalArgumentException("Unknown Avro type: " + schema.getType());
+            }
+        }
+
+        private ValueWriter compileRecord(Schema schema) {
+            RecordWriter recordWriter = recordWriters.get(schema);
+            if (recordWriter != null) {
+                // Recursive schema, the writer is completed by the enclosing call
+                return recordWriter;
+            }
+
+            recordWriter = new RecordWriter();
+            recordWriters.put(schema, recordWriter);
+
+            List<Schema.Field> fields = schema.getFields();
+            int[] positions = new int[fields.size()];
+            ValueWriter[] fieldWriters = new ValueWriter[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                positions[i] = fields.get(i).pos();
+                fieldWriters[i] = compile(fields.get(i).schema());
+            }
+            recordWriter.positions = positions;
+            recordWriter.fieldWriters = fieldWriters;
+            return recordWriter;
+        }
+
+        private ValueWriter compileArray(ValueWriter elementWriter) {
+            return (value, out) -> {
+                Collection<?> array = (Collection<?>) value;
+                out.writeArrayStart();
+                out.setItemCount(array.size());
+                for (Object element : array) {
+                    out.startItem();
+                    elementWriter.write(element, out);
+                }
+                out.writeArrayEnd();
+            };
+        }
+
+        private ValueWriter compileMap(ValueWriter valueWriter) {
+            return (value, out) -> {
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeMapStart();
+                out.setItemCount(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    out.startItem();
+                    out.writeString(entry.getKey().toString());
+                    valueWriter.write(entry.getValue(), out);
+                }
+                out.writeMapEnd();
+            };
+        }
+
+        private ValueWriter compileUnion(Schema schema) {
+            List<Schema> branches = schema.getTypes();
+            ValueWriter[] branchWriters = new ValueWriter[branches.size()];
+            for (int i = 0; i < branches.size(); i++) {
+                branchWriters[i] = compile(branches.get(i));
+            }
+            return (value, out) -> {
+                int index = data.resolveUnion(schema, value);
+                out.writeIndex(index);
+                branchWriters[index].write(value, out);
+            };
+        }
+    }
+}
@@ -18,8 +18,11 @@ package com.amazonaws.services.schemaregistry.utils;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
 
 @Slf4j
 public final class AVROUtils {
@@ -72,4 +75,51 @@ public final class AVROUtils {
         return null;
     }
 
+    /**
+     * Get the schema definition of a schema to preload, given either as an Avro schema definition or as the
+     * name of a generated SpecificRecord class.
+     *
+     * @param schemaOrClassName Avro schema definition or SpecificRecord class name
+     * @return schema string, as returned for records of the schema
+     */
+    public String getPreloadSchemaDefinition(@NonNull String schemaOrClassName) {
+        return loadSchema(schemaOrClassName).toString();
+    }
+
+    /**
+     * Loads a schema given either as an Avro schema definition or as the name of a generated SpecificRecord class.
+     *
+     * @param schemaOrClassName Avro schema definition or SpecificRecord class name
+     * @return schema Object {@link Schema}.
+     */
+    public Schema loadSchema(@NonNull String schemaOrClassName) {
+        String value = schemaOrClassName.trim();
+        if (isSchemaDefinition(value)) {
+            try {
+                return new Schema.Parser().parse(value);
+            } catch (AvroRuntimeException e) {
+                throw new AWSSchemaRegistryException("Failed to parse the schema: " + value, e);
+            }
+        }
+
+        try {
+            Class<?> recordClass = Class.forName(value);
+            if (!SpecificRecord.class.isAssignableFrom(recordClass)) {
+                throw new AWSSchemaRegistryException("Class is not a SpecificRecord: " + value);
+            }
+            return SpecificData.get().getSchema(recordClass);
+        } catch (ClassNotFoundException | AvroRuntimeException e) {
+            throw new AWSSchemaRegistryException("Failed to load the schema of class: " + value, e);
+        }
+    }
+
+    /**
+     * Tells a schema definition from a SpecificRecord class name.
+     *
+     * @param schemaOrClassName Avro schema definition or SpecificRecord class name
+     * @return true if the value is a schema definition
+     */
+    public boolean isSchemaDefinition(@NonNull String schemaOrClassName) {
+        return schemaOrClassName.trim().startsWith("{");
+    }
 }
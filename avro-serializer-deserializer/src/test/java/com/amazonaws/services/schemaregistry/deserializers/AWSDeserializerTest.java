@@ -21,17 +21,21 @@ import com.amazonaws.services.schemaregistry.common.AWSDeserializerInput;
 import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryClient;
 import com.amazonaws.services.schemaregistry.common.AWSSerializerInput;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.deserializers.avro.AWSAvroDeserializerOutput;
 import com.amazonaws.services.schemaregistry.exception.AWSIncompatibleDataException;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.serializers.avro.AWSAvroSerializer;
 import com.amazonaws.services.schemaregistry.utils.AVROUtils;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
 import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
 import com.amazonaws.services.schemaregistry.utils.SchemaLoader;
 import com.amazonaws.services.schemaregistry.utils.SerializedByteArrayGenerator;
+import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.EncoderFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,6 +56,8 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -62,6 +68,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -369,6 +376,90 @@ public class AWSDeserializerTest {
         assertEquals(genericEmployeeAvroRecord, deserializedEmployeeObject);
     }
 
+    /**
+     * Tests de-serializing with the writer schema returns the record with a writer schema that is parsed once.
+     */
+    @Test
+    public void testDeserializeWithWriterSchema_validData_returnsRecordAndCachedWriterSchema() {
+        this.configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        byte[] serializedUserData = createSerializedUserData(genericUserAvroRecord);
+        AWSDeserializer awsDeserializer = createAwsDeserializer(mockSchemaRegistryClient);
+
+        AWSAvroDeserializerOutput output =
+                awsDeserializer.deserializeWithWriterSchema(prepareDeserializerInput(serializedUserData));
+        AWSAvroDeserializerOutput nextOutput =
+                awsDeserializer.deserializeWithWriterSchema(prepareDeserializerInput(serializedUserData));
+
+        assertEquals(genericUserAvroRecord, output.getData());
+        assertEquals(userAvroSchema, output.getWriterSchema());
+        assertEquals(USER_SCHEMA_VERSION_ID, output.getSchemaVersionId());
+        assertSame(output.getWriterSchema(), nextOutput.getWriterSchema());
+    }
+
+    /**
+     * Tests de-serializing with the writer schema returns the reader schema when the record is projected onto it.
+     */
+    @Test
+    public void testDeserializeWithWriterSchema_readerSchemaConfigured_returnsReaderSchema() {
+        String readerSchemaDefinition = "{\"namespace\": \"com.amazonaws.services.schemaregistry.serializers.avro\", "
+                                        + "\"type\": \"record\", \"name\": \"User\", "
+                                        + "\"fields\": [{\"name\": \"name\", \"type\": \"string\"}]}";
+        Map<String, String> readerSchemas = new HashMap<>();
+        readerSchemas.put("test-topic", readerSchemaDefinition);
+        this.configs.put(AWSSchemaRegistryConstants.READER_SCHEMAS, readerSchemas);
+        this.configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        byte[] serializedUserData = createSerializedUserData(genericUserAvroRecord);
+        AWSDeserializer awsDeserializer = createAwsDeserializer(mockSchemaRegistryClient);
+        AWSDeserializerInput deserializerInput = AWSDeserializerInput.builder()
+                .buffer(ByteBuffer.wrap(serializedUserData))
+                .transportName("test-topic")
+                .build();
+
+        AWSAvroDeserializerOutput output = awsDeserializer.deserializeWithWriterSchema(deserializerInput);
+
+        org.apache.avro.Schema readerSchema = new org.apache.avro.Schema.Parser().parse(readerSchemaDefinition);
+        assertEquals(readerSchema, output.getWriterSchema());
+        assertEquals(readerSchema, ((GenericRecord) output.getData()).getSchema());
+    }
+
+    /**
+     * Tests reading the encoded data returns the Avro binary data of the record with its writer schema.
+     */
+    @Test
+    public void testReadEncodedData_validData_returnsAvroDataAndWriterSchema() throws IOException {
+        this.configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        byte[] serializedUserData = createSerializedUserData(genericUserAvroRecord);
+        AWSDeserializer awsDeserializer = createAwsDeserializer(mockSchemaRegistryClient);
+
+        AWSAvroDeserializerOutput output = awsDeserializer.readEncodedData(prepareDeserializerInput(serializedUserData));
+        byte[] data = (byte[]) output.getData();
+        Object decoded = new GenericDatumReader<>(output.getWriterSchema())
+                .read(null, DecoderFactory.get().binaryDecoder(data, null));
+
+        assertEquals(genericUserAvroRecord, decoded);
+        assertEquals(userAvroSchema, output.getWriterSchema());
+        assertEquals(USER_SCHEMA_VERSION_ID, output.getSchemaVersionId());
+    }
+
+    /**
+     * Tests reading the encoded data returns null when a reader schema is configured for the data.
+     */
+    @Test
+    public void testReadEncodedData_readerSchemaConfigured_returnsNull() {
+        Map<String, String> readerSchemas = new HashMap<>();
+        readerSchemas.put("test-topic", userSchemaDefinition);
+        this.configs.put(AWSSchemaRegistryConstants.READER_SCHEMAS, readerSchemas);
+        this.configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        byte[] serializedUserData = createSerializedUserData(genericUserAvroRecord);
+        AWSDeserializer awsDeserializer = createAwsDeserializer(mockSchemaRegistryClient);
+        AWSDeserializerInput deserializerInput = AWSDeserializerInput.builder()
+                .buffer(ByteBuffer.wrap(serializedUserData))
+                .transportName("test-topic")
+                .build();
+
+        assertNull(awsDeserializer.readEncodedData(deserializerInput));
+    }
+
     /**
      * Tests the de-serialization negative case UnknownDataException.
      */
@@ -478,6 +569,56 @@ public class AWSDeserializerTest {
         assertEquals(DataFormat.AVRO, method.invoke(awsDeserializer, USER_SCHEMA_VERSION_ID));
     }
 
+    /**
+     * Tests de-serializing data whose schema version id and compression byte were transported separately.
+     */
+    @Test
+    public void testDeserialize_dataWithoutSchemaRegistryHeader_succeeds() {
+        this.configs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+        byte[] serializedUserData = createSerializedUserData(genericUserAvroRecord);
+        byte[] serializedEmployeeData = createSerializedCompressedEmployeeData(genericEmployeeAvroRecord);
+        AWSDeserializer awsDeserializer = createAwsDeserializer(mockSchemaRegistryClient);
+
+        assertEquals(genericUserAvroRecord, awsDeserializer.deserialize(USER_SCHEMA_VERSION_ID,
+                serializedUserData[1], Arrays.copyOfRange(serializedUserData, 18, serializedUserData.length)));
+        assertEquals(genericEmployeeAvroRecord, awsDeserializer.deserialize(EMPLOYEE_SCHEMA_VERSION_ID,
+                serializedEmployeeData[1], Arrays.copyOfRange(serializedEmployeeData, 18, serializedEmployeeData.length)));
+    }
+
+    /**
+     * Tests resolving the schemas of a batch fetches every unknown schema version once and caches it.
+     */
+    @Test
+    public void testPrefetchSchemas_batchWithUnknownSchemas_fetchesEachSchemaOnceAndCaches() {
+        byte[] serializedUserData = createSerializedUserData(genericUserAvroRecord);
+        byte[] serializedEmployeeData = createSerializedEmployeeData(genericEmployeeAvroRecord);
+        AWSDeserializer awsDeserializer = createAwsDeserializer(mockSchemaRegistryClient);
+
+        Map<UUID, Schema> schemas = awsDeserializer.prefetchSchemas(Arrays.asList(serializedUserData,
+                serializedEmployeeData, serializedUserData, new byte[] {9, 2, 1}));
+
+        assertEquals(2, schemas.size());
+        assertEquals(userAvroSchema.toString(), schemas.get(USER_SCHEMA_VERSION_ID).getSchemaDefinition());
+        assertEquals(employeeAvroSchema.toString(), schemas.get(EMPLOYEE_SCHEMA_VERSION_ID).getSchemaDefinition());
+        Mockito.verify(mockSchemaRegistryClient, Mockito.times(1)).getSchemaVersionResponse(USER_SCHEMA_VERSION_ID.toString());
+        Mockito.verify(mockSchemaRegistryClient, Mockito.times(1)).getSchemaVersionResponse(EMPLOYEE_SCHEMA_VERSION_ID.toString());
+
+        awsDeserializer.prefetchSchemas(Collections.singletonList(serializedUserData));
+        Mockito.verify(mockSchemaRegistryClient, Mockito.times(1)).getSchemaVersionResponse(USER_SCHEMA_VERSION_ID.toString());
+    }
+
+    /**
+     * Tests resolving the schemas of a batch propagates the failure of a schema lookup.
+     */
+    @Test
+    public void testGetSchemas_clientThrowsException_throwsException() {
+        AWSDeserializer awsDeserializer = createAwsDeserializer(invalidateAndGetCache(), mockClientThatThrowsException);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsDeserializer.getSchemas(Arrays.asList(USER_SCHEMA_VERSION_ID, EMPLOYEE_SCHEMA_VERSION_ID)));
+        assertEquals("some runtime exception", exception.getMessage());
+    }
+
     /**
      * Tests invoking close method.
      */
@@ -487,6 +628,19 @@ public class AWSDeserializerTest {
         assertDoesNotThrow(() -> awsDeserializer.close());
     }
 
+    /**
+     * Tests resolving the schemas of a batch once the de-serializer is closed.
+     */
+    @Test
+    public void testGetSchemas_afterClose_throwsException() {
+        AWSDeserializer awsDeserializer = createAwsDeserializer(invalidateAndGetCache(), mockSchemaRegistryClient);
+        awsDeserializer.close();
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsDeserializer.getSchemas(Arrays.asList(USER_SCHEMA_VERSION_ID, EMPLOYEE_SCHEMA_VERSION_ID)));
+        assertTrue(exception.getMessage().contains("the deserializer is closed"));
+    }
+
     @Test
     public void testCanDeserialize_WhenValidBytesArePassed_ReturnsTrue() {
         byte [] validSchemaRegistryBytes = createSerializedCompressedEmployeeData(genericEmployeeAvroRecord);
@@ -22,8 +22,10 @@ import com.amazonaws.services.schemaregistry.exception.AWSIncompatibleDataExcept
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.serializers.avro.AWSAvroSerializer;
 import com.amazonaws.services.schemaregistry.serializers.avro.User;
+import com.amazonaws.services.schemaregistry.utils.AVROUtils;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
+import com.amazonaws.services.schemaregistry.utils.AvroStringType;
 import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
 import com.amazonaws.services.schemaregistry.utils.SchemaLoader;
 import com.amazonaws.services.schemaregistry.utils.SerializedByteArrayGenerator;
@@ -47,6 +49,7 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -54,6 +57,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -74,7 +79,12 @@ public class AWSAvroDeserializerTest {
     public static final String AVRO_USER_ARRAY_STRING_SCHEMA_FILE = "src/test/java/resources/avro/user_array_String.avsc";
     public static final String AVRO_USER_MAP_SCHEMA_FILE = "src/test/java/resources/avro/user_map.avsc";
     public static final String AVRO_USER_MIXED_TYPE_SCHEMA_FILE = "src/test/java/resources/avro/user3.avsc";
+    public static final String AVRO_PERSON_SCHEMA_FILE = "src/test/java/resources/avro/person.avsc";
     private static final UUID TEST_GENERIC_SCHEMA_VERSION_ID = UUID.fromString("b7b4a7f0-9c96-4e4a-a687-fb5de9ef0c63");
+    private static final String USER_NAME_READER_SCHEMA =
+            "{\"namespace\": \"com.amazonaws.services.schemaregistry.serializers.avro\", "
+            + "\"type\": \"record\", \"name\": \"User\", "
+            + "\"fields\": [{\"name\": \"name\", \"type\": \"string\"}]}";
     private final Map<String, Object> configs = new HashMap<>();
     @Mock
     public AwsCredentialsProvider mockDefaultCredProvider;
@@ -620,7 +630,8 @@ public class AWSAvroDeserializerTest {
                 AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
 
         Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
-        AWSAvroDeserializer awsAvroDeserializerMock = mock(AWSAvroDeserializer.class);
+        AWSAvroDeserializer awsAvroDeserializerMock = mock(AWSAvroDeserializer.class,
+                Mockito.withSettings().useConstructor(new GlueSchemaRegistryConfiguration(this.configs)));
         when(awsAvroDeserializerMock.deserialize(Mockito.any(UUID.class), Mockito.any(ByteBuffer.class),
                 Mockito.anyString())).thenCallRealMethod();
 
@@ -655,7 +666,8 @@ public class AWSAvroDeserializerTest {
                 AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
 
         Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
-        AWSAvroDeserializer awsAvroDeserializerMock = mock(AWSAvroDeserializer.class);
+        AWSAvroDeserializer awsAvroDeserializerMock = mock(AWSAvroDeserializer.class,
+                Mockito.withSettings().useConstructor(new GlueSchemaRegistryConfiguration(this.configs)));
         when(awsAvroDeserializerMock.deserialize(Mockito.any(UUID.class), Mockito.any(ByteBuffer.class),
                 Mockito.anyString())).thenCallRealMethod();
 
@@ -767,6 +779,304 @@ public class AWSAvroDeserializerTest {
         assertThrows((IllegalArgumentException.class), () -> awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedByteBuffer, null));
     }
 
+    /**
+     * Tests the de-serialization in lazy generic record mode returns a record backed by the payload.
+     */
+    @ParameterizedTest
+    @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
+    public void testDeserialize_lazyGenericRecord_equalsOriginal(AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, compressionType.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializer(AvroRecordType.LAZY_GENERIC_RECORD);
+
+        Object deserializedObject = awsAvroDeserializer.deserialize(UUID.randomUUID(), serializedData,
+                schema.toString());
+
+        assertTrue(deserializedObject instanceof LazyGenericRecord);
+        assertEquals(new Utf8("red"), ((GenericRecord) deserializedObject).get("favorite_color"));
+        assertGenericRecord(genericRecord, deserializedObject);
+    }
+
+    /**
+     * Tests the de-serialization decodes into the reuse instance when it has the same schema.
+     */
+    @ParameterizedTest
+    @EnumSource(value = AvroRecordType.class, names = {"GENERIC_RECORD", "SPECIFIC_RECORD"})
+    public void testDeserialize_withReuse_reusesRecord(AvroRecordType avroRecordType) {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializer(avroRecordType);
+
+        Object firstRecord = awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedData,
+                schema.toString(), null);
+        serializedData.rewind();
+        Object secondRecord = awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedData,
+                schema.toString(), firstRecord);
+
+        assertSame(firstRecord, secondRecord);
+        assertEquals(genericRecord.get("name"), ((GenericRecord) secondRecord).get("name").toString());
+    }
+
+    /**
+     * Tests the de-serialization of data without header rejects an unknown compression byte.
+     */
+    @Test
+    public void testDeserialize_withoutHeaderUnknownCompressionByte_throwsException() {
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+        byte[] data = new byte[]{1, 2, 3};
+
+        assertThrows(AWSIncompatibleDataException.class,
+                () -> awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, (byte) 9, data, schema.toString()));
+    }
+
+    /**
+     * Tests the parsed writer schemas are cached per de-serializer instance.
+     */
+    @Test
+    public void testDeserialize_writerSchemas_cachedPerInstance() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer firstDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+        AWSAvroDeserializer secondDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+
+        GenericRecord firstRecord = (GenericRecord) firstDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID,
+                serializedData, schema.toString());
+        serializedData.rewind();
+        GenericRecord secondRecord = (GenericRecord) firstDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID,
+                serializedData, schema.toString());
+        serializedData.rewind();
+        GenericRecord otherRecord = (GenericRecord) secondDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID,
+                serializedData, schema.toString());
+
+        assertSame(firstRecord.getSchema(), secondRecord.getSchema());
+        assertNotSame(firstRecord.getSchema(), otherRecord.getSchema());
+    }
+
+    /**
+     * Tests the de-serialization ignores a reuse instance of another schema.
+     */
+    @Test
+    public void testDeserialize_withReuseOfOtherSchema_createsRecord() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+        GenericRecord employeeRecord = RecordGenerator.createGenericEmpRecord();
+
+        Object deserializedObject = awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedData,
+                schema.toString(), employeeRecord);
+
+        assertNotSame(employeeRecord, deserializedObject);
+        assertGenericRecord(genericRecord, deserializedObject);
+    }
+
+    /**
+     * Tests the de-serialization honors the configured Avro string type over the schema string property.
+     */
+    @Test
+    public void testDeserialize_avroStringType_overridesSchema() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        GenericData.setStringType(schema.getField("name").schema(), GenericData.StringType.String);
+
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializer(AvroRecordType.GENERIC_RECORD);
+        GenericRecord deserializedRecord = (GenericRecord) awsAvroDeserializer.deserialize(UUID.randomUUID(),
+                serializedData, schema.toString());
+        assertEquals("sansa", deserializedRecord.get("name"));
+
+        awsAvroDeserializer.setAvroStringType(AvroStringType.UTF8);
+        serializedData.rewind();
+        deserializedRecord = (GenericRecord) awsAvroDeserializer.deserialize(UUID.randomUUID(), serializedData,
+                schema.toString());
+        assertEquals(new Utf8("sansa"), deserializedRecord.get("name"));
+        assertEquals(new Utf8("red"), deserializedRecord.get("favorite_color"));
+    }
+
+    /**
+     * Tests the de-serialization reads strings as java.lang.String when configured.
+     */
+    @ParameterizedTest
+    @EnumSource(value = AvroRecordType.class, names = {"GENERIC_RECORD", "LAZY_GENERIC_RECORD"})
+    public void testDeserialize_stringAvroStringType_returnsStrings(AvroRecordType avroRecordType) {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializer(avroRecordType);
+        awsAvroDeserializer.setAvroStringType(AvroStringType.STRING);
+        GenericRecord deserializedRecord = (GenericRecord) awsAvroDeserializer.deserialize(UUID.randomUUID(),
+                serializedData, schema.toString());
+
+        assertEquals("sansa", deserializedRecord.get("name"));
+        assertEquals("red", deserializedRecord.get("favorite_color"));
+    }
+
+    /**
+     * Tests the de-serialization projects the record onto the reader schema configured for the topic.
+     */
+    @Test
+    public void testDeserialize_readerSchemaForTopic_projectsRecord() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializerWithReaderSchema("test-topic", USER_NAME_READER_SCHEMA);
+
+        Object deserializedObject = awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedData,
+                schema.toString(), "test-topic", "User", null);
+
+        GenericRecord projectedRecord = (GenericRecord) deserializedObject;
+        assertEquals(1, projectedRecord.getSchema().getFields().size());
+        assertEquals(genericRecord.get("name"), projectedRecord.get("name").toString());
+    }
+
+    /**
+     * Tests the de-serialization falls back to the reader schema configured for the schema name.
+     */
+    @Test
+    public void testDeserialize_readerSchemaForSchemaName_projectsRecord() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.ZLIB.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializerWithReaderSchema("User", USER_NAME_READER_SCHEMA);
+
+        for (int i = 0; i < 2; i++) {
+            serializedData.rewind();
+            GenericRecord projectedRecord = (GenericRecord) awsAvroDeserializer.deserialize(
+                    TEST_GENERIC_SCHEMA_VERSION_ID, serializedData, schema.toString(), "test-topic", "User", null);
+
+            assertEquals(1, projectedRecord.getSchema().getFields().size());
+            assertEquals(genericRecord.get("name"), projectedRecord.get("name").toString());
+        }
+    }
+
+    /**
+     * Tests the de-serialization without a matching reader schema decodes the whole record.
+     */
+    @Test
+    public void testDeserialize_noMatchingReaderSchema_equalsOriginal() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializerWithReaderSchema("other-topic", USER_NAME_READER_SCHEMA);
+
+        Object deserializedObject = awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedData,
+                schema.toString(), "test-topic", "User", null);
+
+        assertGenericRecord(genericRecord, deserializedObject);
+    }
+
+    /**
+     * Tests the de-serialization with a reader schema that cannot read the writer schema.
+     */
+    @Test
+    public void testDeserialize_incompatibleReaderSchema_throwsException() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        String readerSchema = "{\"namespace\": \"com.amazonaws.services.schemaregistry.serializers.avro\", "
+                              + "\"type\": \"record\", \"name\": \"User\", "
+                              + "\"fields\": [{\"name\": \"age\", \"type\": \"int\"}]}";
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializerWithReaderSchema("test-topic", readerSchema);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> awsAvroDeserializer.deserialize(
+                TEST_GENERIC_SCHEMA_VERSION_ID, serializedData, schema.toString(), "test-topic", "User", null));
+    }
+
+    /**
+     * Tests the precompiled datum readers decode generic records of the fixtures like the standard ones.
+     */
+    @Test
+    public void testDeserialize_precompiledGenericRecords_equalStandardRecords() {
+        GenericRecord person = new GenericData.Record(SchemaLoader.loadSchema(AVRO_PERSON_SCHEMA_FILE));
+        person.put("firstName", "Arya");
+        person.put("lastName", "Stark");
+        person.put("age", 18);
+        person.put("height", 155.5f);
+        person.put("employed", false);
+
+        GenericRecord unionRecord = new GenericData.Record(SchemaLoader.loadSchema(AVRO_USER_UNION_SCHEMA_FILE));
+        unionRecord.put("experience", null);
+        unionRecord.put("age", 30);
+
+        GenericRecord mapRecord = new GenericData.Record(SchemaLoader.loadSchema(AVRO_USER_MAP_SCHEMA_FILE));
+        Map<String, Long> map = new HashMap<>();
+        map.put("test", 1L);
+        mapRecord.put("meta", map);
+
+        Schema arraySchema = SchemaLoader.loadSchema(AVRO_USER_ARRAY_SCHEMA_FILE);
+        Schema enumSchema = SchemaLoader.loadSchema(AVRO_USER_ENUM_SCHEMA_FILE);
+        Schema fixedSchema = SchemaLoader.loadSchema(AVRO_USER_FIXED_SCHEMA_FILE);
+
+        for (Object record : Arrays.asList(RecordGenerator.createGenericAvroRecord(),
+                                           RecordGenerator.createGenericEmpRecord(), person, unionRecord, mapRecord,
+                                           new GenericData.Array<>(arraySchema, Arrays.asList(1, 2, 3)),
+                                           new GenericData.EnumSymbol(enumSchema, "TWO"),
+                                           new GenericData.Fixed(fixedSchema, "byte array".getBytes()))) {
+            assertPrecompiledEqualsStandard(record, AvroRecordType.GENERIC_RECORD);
+        }
+    }
+
+    /**
+     * Tests the precompiled datum readers decode specific records like the standard ones.
+     */
+    @Test
+    public void testDeserialize_precompiledSpecificRecord_equalsStandardRecord() {
+        assertPrecompiledEqualsStandard(RecordGenerator.createSpecificAvroRecord(), AvroRecordType.SPECIFIC_RECORD);
+    }
+
+    /**
+     * Tests the precompiled datum readers project records onto the configured reader schema.
+     */
+    @Test
+    public void testDeserialize_precompiledWithReaderSchema_projectsRecord() {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        ByteBuffer serializedData = createBasicSerializedData(genericRecord, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        Schema schema = SchemaLoader.loadSchema(AVRO_USER_SCHEMA_FILE);
+        AWSAvroDeserializer awsAvroDeserializer = createAvroDeserializerWithReaderSchema("test-topic", USER_NAME_READER_SCHEMA);
+        awsAvroDeserializer.setPrecompiledCodecsEnabled(true);
+
+        GenericRecord projectedRecord = (GenericRecord) awsAvroDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID,
+                serializedData, schema.toString(), "test-topic", "User", null);
+
+        assertEquals(1, projectedRecord.getSchema().getFields().size());
+        assertEquals(genericRecord.get("name"), projectedRecord.get("name").toString());
+    }
+
+    private void assertPrecompiledEqualsStandard(Object record, AvroRecordType avroRecordType) {
+        ByteBuffer serializedData = createBasicSerializedData(record, AWSSchemaRegistryConstants.COMPRESSION.NONE.name());
+        String schema = AVROUtils.getInstance().getSchema(record).toString();
+        AWSAvroDeserializer standardDeserializer = createAvroDeserializer(avroRecordType);
+        AWSAvroDeserializer precompiledDeserializer = createAvroDeserializer(avroRecordType);
+        precompiledDeserializer.setPrecompiledCodecsEnabled(true);
+
+        Object standardObject = standardDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedData, schema);
+        for (int i = 0; i < 2; i++) {
+            serializedData.rewind();
+            Object precompiledObject =
+                    precompiledDeserializer.deserialize(TEST_GENERIC_SCHEMA_VERSION_ID, serializedData, schema);
+            assertEquals(standardObject.getClass(), precompiledObject.getClass());
+            assertEquals(standardObject, precompiledObject);
+        }
+    }
+
+    private AWSAvroDeserializer createAvroDeserializerWithReaderSchema(String name, String readerSchema) {
+        Map<String, String> readerSchemas = new HashMap<>();
+        readerSchemas.put(name, readerSchema);
+        Map<String, Object> readerConfigs = new HashMap<>(this.configs);
+        readerConfigs.put(AWSSchemaRegistryConstants.READER_SCHEMAS, readerSchemas);
+        readerConfigs.put(AWSSchemaRegistryConstants.AVRO_RECORD_TYPE, AvroRecordType.GENERIC_RECORD.name());
+
+        return AWSAvroDeserializer
+                .builder()
+                .configs(new GlueSchemaRegistryConfiguration(readerConfigs))
+                .build();
+    }
+
     /**
      * Helper method to get SerializedByteBuffer Data for test
      */
@@ -18,16 +18,22 @@ import static com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConst
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import com.amazonaws.services.schemaregistry.deserializers.AWSDeserializer;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -127,6 +133,83 @@ public class AWSKafkaAvroDeserializerTest {
         assertEquals(expectedObject, deserializedObject);
     }
 
+    /**
+     * Test AWSKafkaDeserializer takes the schema version id from the record headers when present.
+     */
+    @Test
+    public void test_Deserialize_SchemaVersionIdInHeaders() {
+        Object expectedObject = new Object();
+        UUID schemaVersionId = UUID.randomUUID();
+        byte[] data = new byte[] { 2, 4 };
+        AWSDeserializer awsDeserializer = mock(AWSDeserializer.class);
+        when(awsDeserializer.deserialize("TestTopic", schemaVersionId, AWSSchemaRegistryConstants.COMPRESSION_BYTE, data,
+                                         null))
+                .thenReturn(expectedObject);
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer(this.mockCredProvider, null);
+        awsKafkaAvroDeserializer.setAwsDeserializer(awsDeserializer);
+
+        Headers headers = new RecordHeaders();
+        headers.add(AWSSchemaRegistryConstants.VALUE_SCHEMA_VERSION_ID_HEADER,
+                    schemaVersionId.toString().getBytes(StandardCharsets.UTF_8));
+        headers.add(AWSSchemaRegistryConstants.VALUE_COMPRESSION_HEADER,
+                    new byte[] { AWSSchemaRegistryConstants.COMPRESSION_BYTE });
+
+        assertEquals(expectedObject, awsKafkaAvroDeserializer.deserialize("TestTopic", headers, data));
+    }
+
+    /**
+     * Test AWSKafkaDeserializer never decodes a record into a previously returned one, since a consumer
+     * de-serializes a whole batch before returning it.
+     */
+    @Test
+    public void test_Deserialize_NeverReusesPreviousRecord() {
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer(this.mockCredProvider, configs);
+        AWSDeserializer awsDeserializer = mock(AWSDeserializer.class);
+        when(awsDeserializer.deserialize(Mockito.any(AWSDeserializerInput.class)))
+                .thenReturn(new Object(), new Object());
+        awsKafkaAvroDeserializer.setAwsDeserializer(awsDeserializer);
+
+        byte[] data = new byte[] { AWSSchemaRegistryConstants.HEADER_VERSION_BYTE };
+        Object firstRecord = awsKafkaAvroDeserializer.deserialize("TestTopic", data);
+        Object secondRecord = awsKafkaAvroDeserializer.deserialize("TestTopic", data);
+
+        assertNotSame(firstRecord, secondRecord);
+        Mockito.verify(awsDeserializer, Mockito.never())
+                .deserialize(Mockito.any(AWSDeserializerInput.class), Mockito.any());
+    }
+
+    /**
+     * Test AWSKafkaDeserializer falls back to the schema registry header of the data without record headers.
+     */
+    @Test
+    public void test_Deserialize_NoSchemaVersionIdInHeaders_UsesDataHeader() {
+        Object expectedObject = new Object();
+        AWSDeserializer awsDeserializer = mock(AWSDeserializer.class);
+        when(awsDeserializer.deserialize(Mockito.any(AWSDeserializerInput.class))).thenReturn(expectedObject);
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer(this.mockCredProvider, null);
+        awsKafkaAvroDeserializer.setAwsDeserializer(awsDeserializer);
+
+        Object deserializedObject = awsKafkaAvroDeserializer.deserialize("TestTopic", new RecordHeaders(),
+                new byte[] { AWSSchemaRegistryConstants.HEADER_VERSION_BYTE });
+        assertEquals(expectedObject, deserializedObject);
+    }
+
+    /**
+     * Test AWSKafkaDeserializer rejects a malformed schema version id header.
+     */
+    @Test
+    public void test_Deserialize_InvalidSchemaVersionIdHeader_ThrowsException() {
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer(this.mockCredProvider, null);
+        awsKafkaAvroDeserializer.setAwsDeserializer(mock(AWSDeserializer.class));
+
+        Headers headers = new RecordHeaders();
+        headers.add(AWSSchemaRegistryConstants.VALUE_SCHEMA_VERSION_ID_HEADER,
+                    "not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> awsKafkaAvroDeserializer.deserialize("TestTopic", headers, new byte[] { 2 }));
+    }
+
     /**
      * Tests invoking shutdown invokes the internal AWSDeserializer.close method.
      */
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.deserializers.avro;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the lazily decoded generic record.
+ */
+public class LazyGenericRecordTest {
+
+    private static byte[] encode(GenericRecord record) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testGet_fieldsInAnyOrder_matchOriginal() throws IOException {
+        GenericRecord genericRecord = RecordGenerator.createGenericEmpRecord();
+        LazyGenericRecord lazyRecord = new LazyGenericRecord(genericRecord.getSchema(), encode(genericRecord));
+
+        assertEquals(new Utf8("abc"), lazyRecord.get("address"));
+        assertEquals(30000, lazyRecord.get("salary"));
+        assertEquals(new Utf8("xyz"), lazyRecord.get(0));
+        assertEquals(1, lazyRecord.get("id"));
+        assertEquals(25, lazyRecord.get("age"));
+        assertNull(lazyRecord.get("unknown"));
+    }
+
+    @Test
+    public void testEquals_sameContent_equalsOriginal() throws IOException {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        LazyGenericRecord lazyRecord = new LazyGenericRecord(genericRecord.getSchema(), encode(genericRecord));
+
+        assertEquals(lazyRecord, genericRecord);
+        assertEquals(new LazyGenericRecord(genericRecord.getSchema(), encode(genericRecord)), lazyRecord);
+        assertEquals(genericRecord.toString(), lazyRecord.toString());
+    }
+
+    @Test
+    public void testPut_changesField_keepsPayload() throws IOException {
+        GenericRecord genericRecord = RecordGenerator.createGenericAvroRecord();
+        byte[] payload = encode(genericRecord);
+        LazyGenericRecord lazyRecord = new LazyGenericRecord(genericRecord.getSchema(), payload);
+        assertFalse(lazyRecord.isModified());
+
+        lazyRecord.put("favorite_number", 7);
+
+        assertTrue(lazyRecord.isModified());
+        assertEquals(7, lazyRecord.get("favorite_number"));
+        assertEquals(new Utf8("red"), lazyRecord.get("favorite_color"));
+        assertArrayEquals(payload, lazyRecord.getPayload());
+        assertThrows(AvroRuntimeException.class, () -> lazyRecord.put("unknown", 1));
+    }
+
+    @Test
+    public void testGet_truncatedPayload_throwsException() throws IOException {
+        GenericRecord genericRecord = RecordGenerator.createGenericEmpRecord();
+        byte[] payload = encode(genericRecord);
+        LazyGenericRecord lazyRecord = new LazyGenericRecord(genericRecord.getSchema(),
+                                                             Arrays.copyOf(payload, payload.length - 2));
+
+        assertEquals(new Utf8("xyz"), lazyRecord.get("name"));
+        assertThrows(AWSSchemaRegistryException.class, () -> lazyRecord.get("address"));
+    }
+
+    @Test
+    public void testCreate_notARecordSchema_throwsException() {
+        assertThrows(AvroRuntimeException.class,
+                     () -> new LazyGenericRecord(Schema.create(Schema.Type.STRING), new byte[0]));
+    }
+}
@@ -16,8 +16,14 @@ package com.amazonaws.services.schemaregistry.deserializers.avro;
 
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.deserializers.AWSDeserializer;
+import com.amazonaws.services.schemaregistry.deserializers.external.InheritedThirdPartyDeserializer;
+import com.amazonaws.services.schemaregistry.deserializers.external.NotKafkaDeserializer;
+import com.amazonaws.services.schemaregistry.deserializers.external.SubInterfaceThirdPartyDeserializer;
+import com.amazonaws.services.schemaregistry.deserializers.external.ThirdPartyDeserializer;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.IntegerDeserializer;
 import org.apache.kafka.common.serialization.IntegerSerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -30,10 +36,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -47,6 +55,10 @@ public class SecondaryDeserializerTest {
             "com.amazonaws.services.schemaregistry.deserializers.external.ThirdPartyDeserializer";
     private static final String NON_KAFKA_SECONDARY_DESERIALIZER =
             "com.amazonaws.services.schemaregistry.deserializers.external.NotKafkaDeserializer";
+    private static final String INHERITED_SECONDARY_DESERIALIZER =
+            "com.amazonaws.services.schemaregistry.deserializers.external.InheritedThirdPartyDeserializer";
+    private static final String SUB_INTERFACE_SECONDARY_DESERIALIZER =
+            "com.amazonaws.services.schemaregistry.deserializers.external.SubInterfaceThirdPartyDeserializer";
     private static final String EMPTY_SECONDARY_DESERIALIZER = "";
     private static final String NON_KAFKA_SECONDARY_DESERIALIZER_EXCEPTION_MSG =
             "The secondary deserializer is not from Kafka";
@@ -137,6 +149,95 @@ public class SecondaryDeserializerTest {
         assertEquals(objectToSerialize, deserializedObject);
     }
 
+    /**
+     * Tests the SecondaryDeserializer by importing a deserializer that inherits the Kafka deserializer interface.
+     */
+    @Test
+    public void testSecondaryDeserializer_inheritedDeserializer_deserializesSuccessfully() {
+        Map<String, Object> configs = getConfigsWithSecondaryDeserializer(INHERITED_SECONDARY_DESERIALIZER);
+        Object deserializedObject = deserialize(configs, new byte[] { 0 });
+
+        assertNotNull(deserializedObject);
+    }
+
+    /**
+     * Tests the SecondaryDeserializer by importing a deserializer that implements the Kafka deserializer interface
+     * through a super interface.
+     */
+    @Test
+    public void testSecondaryDeserializer_subInterfaceDeserializer_deserializesSuccessfully() {
+        Map<String, Object> configs = getConfigsWithSecondaryDeserializer(SUB_INTERFACE_SECONDARY_DESERIALIZER);
+        Object deserializedObject = deserialize(configs, new byte[] { 0 });
+
+        assertNotNull(deserializedObject);
+    }
+
+    /**
+     * Tests the Kafka deserializer interface is found through super classes and super interfaces.
+     */
+    @Test
+    public void testImplementsKafkaDeserializer_inheritedInterfaces_returnsTrue() {
+        assertTrue(SecondaryDeserializer.implementsKafkaDeserializer(ThirdPartyDeserializer.class));
+        assertTrue(SecondaryDeserializer.implementsKafkaDeserializer(InheritedThirdPartyDeserializer.class));
+        assertTrue(SecondaryDeserializer.implementsKafkaDeserializer(SubInterfaceThirdPartyDeserializer.class));
+        assertFalse(SecondaryDeserializer.implementsKafkaDeserializer(NotKafkaDeserializer.class));
+    }
+
+    /**
+     * Tests the SecondaryDeserializer wraps the exceptions of the delegated deserializer.
+     */
+    @Test
+    public void testSecondaryDeserializer_delegateThrowsException_wrapsException() {
+        Map<String, Object> configs = getConfigsWithSecondaryDeserializer(IntegerDeserializer.class.getName());
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> deserialize(configs, new byte[] { 0 }));
+
+        assertEquals("Secondary deserializer failed to deserialize the data.", exception.getMessage());
+        assertTrue(exception.getCause() instanceof SerializationException);
+    }
+
+    /**
+     * Tests the SecondaryDeserializer rethrows the errors of the delegated deserializer without wrapping them.
+     */
+    @Test
+    public void testSecondaryDeserializer_delegateThrowsError_rethrowsError() {
+        Map<String, Object> configs = getConfigsWithSecondaryDeserializer(ErrorThrowingDeserializer.class.getName());
+
+        assertThrows(AssertionError.class, () -> deserialize(configs, new byte[] { 0 }));
+    }
+
+    /**
+     * Tests the SecondaryDeserializer by importing a deserializer whose constructor throws - negative case.
+     */
+    @Test
+    public void testSecondaryDeserializer_constructorThrowsException_throwsException() {
+        Map<String, Object> configs =
+                getConfigsWithSecondaryDeserializer(FailingConstructorDeserializer.class.getName());
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer();
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsKafkaAvroDeserializer.configure(configs, true));
+
+        assertEquals(EMPTY_SECONDARY_DESERIALIZER_EXCEPTION_MSG, exception.getMessage());
+        assertTrue(exception.getCause() instanceof InvocationTargetException);
+    }
+
+    /**
+     * Tests the SecondaryDeserializer by importing a deserializer without a no-arg constructor - negative case.
+     */
+    @Test
+    public void testSecondaryDeserializer_noDefaultConstructor_throwsException() {
+        Map<String, Object> configs =
+                getConfigsWithSecondaryDeserializer(NoDefaultConstructorDeserializer.class.getName());
+        AWSKafkaAvroDeserializer awsKafkaAvroDeserializer = new AWSKafkaAvroDeserializer();
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsKafkaAvroDeserializer.configure(configs, true));
+
+        assertEquals(EMPTY_SECONDARY_DESERIALIZER_EXCEPTION_MSG, exception.getMessage());
+        assertTrue(exception.getCause() instanceof NoSuchMethodException);
+    }
+
     /**
      * Tests the SecondaryDeserializer by importing deserializer not from Kafka - negative case.
      */
@@ -194,4 +295,31 @@ public class SecondaryDeserializerTest {
         return awsKafkaAvroDeserializer.deserialize(TEST_TOPIC, serializedBytes);
     }
 
+    public static class ErrorThrowingDeserializer implements Deserializer<Object> {
+        @Override
+        public Object deserialize(String topic, byte[] data) {
+            throw new AssertionError("deserializer error");
+        }
+    }
+
+    public static class FailingConstructorDeserializer implements Deserializer<Object> {
+        public FailingConstructorDeserializer() {
+            throw new IllegalStateException("constructor failure");
+        }
+
+        @Override
+        public Object deserialize(String topic, byte[] data) {
+            return data;
+        }
+    }
+
+    public static class NoDefaultConstructorDeserializer implements Deserializer<Object> {
+        public NoDefaultConstructorDeserializer(String name) {
+        }
+
+        @Override
+        public Object deserialize(String topic, byte[] data) {
+            return data;
+        }
+    }
 }
@@ -24,7 +24,12 @@ import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
 import com.amazonaws.services.schemaregistry.utils.SchemaLoader;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,17 +39,24 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -122,6 +134,42 @@ public class AWSKafkaAvroSerializerTest extends AWSSchemaRegistryValidationUtil
                 awsKafkaAvroSerializer.getSchemaNamingStrategy().getClass().getName());
     }
 
+    @Test
+    public void testConfigure_preloadSchemasWithoutSchemaNameOrTopics_throwsException() {
+        Map<String, Object> configs = new HashMap<>();
+
+        configs.put(AWSSchemaRegistryConstants.AWS_ENDPOINT, "https://test");
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, User.class.getName());
+
+        AwsCredentialsProvider cred = mock(AwsCredentialsProvider.class);
+
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = new AWSKafkaAvroSerializer(cred, null);
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> awsKafkaAvroSerializer.configure(configs, false));
+        assertEquals("Preloading schemas requires a schema name or preload topics", exception.getMessage());
+    }
+
+    @Test
+    public void testConfigure_preloadSchemasWithRecordBasedNamingStrategy_throwsException() {
+        Map<String, Object> configs = new HashMap<>();
+
+        configs.put(AWSSchemaRegistryConstants.AWS_ENDPOINT, "https://test");
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.SCHEMA_NAMING_GENERATION_CLASS,
+                "com.amazonaws.services.schemaregistry.serializers.avro.CustomerProvidedSchemaNamingStrategy");
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, User.class.getName());
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_TOPICS, "User-Topic");
+
+        AwsCredentialsProvider cred = mock(AwsCredentialsProvider.class);
+
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = new AWSKafkaAvroSerializer(cred, null);
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> awsKafkaAvroSerializer.configure(configs, false));
+        assertEquals("Preloading schemas is not supported with a record based schema naming strategy",
+                     exception.getMessage());
+    }
+
     @Test
     public void testConfigure_customerProvidedStrategy_schemaNamingStrategyMatches() {
         Map<String, Object> configs = new HashMap<>();
@@ -282,6 +330,36 @@ public class AWSKafkaAvroSerializerTest extends AWSSchemaRegistryValidationUtil
         testForSerializedData(serialize, USER_SCHEMA_VERSION_ID, compressionType);
     }
 
+    @ParameterizedTest
+    @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
+    public void testSerialize_schemaVersionIdInHeaders_addsHeadersAndOmitsDataHeader(
+            AWSSchemaRegistryConstants.COMPRESSION compressionType) {
+        configs.put(AWSSchemaRegistryConstants.COMPRESSION_TYPE, compressionType.name());
+        byte[] serializedWithDataHeader = initialize(configs, USER_SCHEMA_VERSION_ID)
+                .serialize("test-topic", genericUserAvroRecord);
+
+        configs.put(AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_IN_HEADERS, "true");
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = initialize(configs, USER_SCHEMA_VERSION_ID);
+        Headers headers = new RecordHeaders();
+        byte[] serialized = awsKafkaAvroSerializer.serialize("test-topic", headers, genericUserAvroRecord);
+
+        assertArrayEquals(Arrays.copyOfRange(serializedWithDataHeader, 18, serializedWithDataHeader.length), serialized);
+        assertEquals(USER_SCHEMA_VERSION_ID.toString(), new String(headers
+                .lastHeader(AWSSchemaRegistryConstants.KEY_SCHEMA_VERSION_ID_HEADER).value(), StandardCharsets.UTF_8));
+        assertArrayEquals(new byte[] { serializedWithDataHeader[1] },
+                          headers.lastHeader(AWSSchemaRegistryConstants.KEY_COMPRESSION_HEADER).value());
+    }
+
+    @Test
+    public void testSerialize_schemaVersionIdInHeadersDisabled_prependsDataHeader() {
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = initialize(configs, USER_SCHEMA_VERSION_ID);
+        Headers headers = new RecordHeaders();
+        byte[] serialized = awsKafkaAvroSerializer.serialize("test-topic", headers, genericUserAvroRecord);
+
+        testForSerializedData(serialized, USER_SCHEMA_VERSION_ID, AWSSchemaRegistryConstants.COMPRESSION.NONE);
+        assertEquals(0, headers.toArray().length);
+    }
+
     @ParameterizedTest
     @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
     public void testSerialize_multipleRecords_succeeds(AWSSchemaRegistryConstants.COMPRESSION compressionType) {
@@ -347,6 +425,75 @@ public class AWSKafkaAvroSerializerTest extends AWSSchemaRegistryValidationUtil
         assertNull(awsKafkaAvroSerializer.getSchemaVersionId());
     }
 
+    @ParameterizedTest
+    @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
+    public void testSerializeEncoded_encodedRecord_matchesSerializedRecord(
+            AWSSchemaRegistryConstants.COMPRESSION compressionType) throws IOException {
+        configs.put(AWSSchemaRegistryConstants.COMPRESSION_TYPE, compressionType.name());
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = initialize(configs, userSchemaDefinition, mockClient,
+                                                                   USER_SCHEMA_VERSION_ID);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        new GenericDatumWriter<>(genericUserAvroRecord.getSchema()).write(genericUserAvroRecord, encoder);
+
+        assertTrue(awsKafkaAvroSerializer.isEncodedDataSupported());
+        byte[] serialized = awsKafkaAvroSerializer.serializeEncoded("test-topic", genericUserAvroRecord.getSchema(),
+                                                                    out.toByteArray());
+
+        testForSerializedData(serialized, USER_SCHEMA_VERSION_ID, compressionType);
+        assertArrayEquals(awsKafkaAvroSerializer.serialize("test-topic", genericUserAvroRecord), serialized);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AWSSchemaRegistryConstants.COMPRESSION.class)
+    public void testSerializeEncoded_schemaVersionIdInHeaders_matchesSerializedRecord(
+            AWSSchemaRegistryConstants.COMPRESSION compressionType) throws IOException {
+        configs.put(AWSSchemaRegistryConstants.COMPRESSION_TYPE, compressionType.name());
+        configs.put(AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_IN_HEADERS, "true");
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = initialize(configs, userSchemaDefinition, mockClient,
+                                                                   USER_SCHEMA_VERSION_ID);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        new GenericDatumWriter<>(genericUserAvroRecord.getSchema()).write(genericUserAvroRecord, encoder);
+
+        Headers headers = new RecordHeaders();
+        byte[] serialized = awsKafkaAvroSerializer.serializeEncoded("test-topic", headers,
+                                                                    genericUserAvroRecord.getSchema(),
+                                                                    out.toByteArray());
+        Headers expectedHeaders = new RecordHeaders();
+        byte[] expected = awsKafkaAvroSerializer.serialize("test-topic", expectedHeaders, genericUserAvroRecord);
+
+        assertArrayEquals(expected, serialized);
+        assertEquals(expectedHeaders, headers);
+        assertEquals(USER_SCHEMA_VERSION_ID.toString(), new String(headers
+                .lastHeader(AWSSchemaRegistryConstants.KEY_SCHEMA_VERSION_ID_HEADER).value(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testClose_notConfigured_succeeds() {
+        assertDoesNotThrow(() -> new AWSKafkaAvroSerializer().close());
+    }
+
+    @Test
+    public void testSerializeEncoded_recordBasedNamingStrategy_throwsException() {
+        Map<String, Object> configs = new HashMap<>();
+
+        configs.put(AWSSchemaRegistryConstants.AWS_ENDPOINT, "https://test");
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        configs.put(AWSSchemaRegistryConstants.SCHEMA_NAMING_GENERATION_CLASS,
+                "com.amazonaws.services.schemaregistry.serializers.avro.CustomerProvidedSchemaNamingStrategy");
+
+        AWSKafkaAvroSerializer awsKafkaAvroSerializer = new AWSKafkaAvroSerializer(mock(AwsCredentialsProvider.class),
+                                                                                   null);
+        awsKafkaAvroSerializer.configure(configs, true);
+
+        assertFalse(awsKafkaAvroSerializer.isEncodedDataSupported());
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> awsKafkaAvroSerializer.serializeEncoded("test-topic", userAvroSchema, new byte[0]));
+    }
+
     @Test
     public void testPrepareInput_nullDefinitionData_throwsException() throws NoSuchMethodException {
         AWSKafkaAvroSerializer awsKafkaAvroSerializer = new AWSKafkaAvroSerializer();
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.serializers.avro;
+
+import com.amazonaws.services.schemaregistry.utils.RecordGenerator;
+import com.amazonaws.services.schemaregistry.utils.SchemaLoader;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for Avro serialization with precompiled datum writers.
+ */
+public class AvroSerializerTest {
+    private static final String AVRO_PERSON_SCHEMA_FILE = "src/test/java/resources/avro/person.avsc";
+    private static final String AVRO_USER_UNION_SCHEMA_FILE = "src/test/java/resources/avro/user_union.avsc";
+    private static final String AVRO_USER_MAP_SCHEMA_FILE = "src/test/java/resources/avro/user_map.avsc";
+    private static final String AVRO_USER_ARRAY_SCHEMA_FILE = "src/test/java/resources/avro/user_array.avsc";
+    private static final String AVRO_USER_ENUM_SCHEMA_FILE = "src/test/java/resources/avro/user_enum.avsc";
+    private static final String AVRO_USER_FIXED_SCHEMA_FILE = "src/test/java/resources/avro/user_fixed.avsc";
+    private static final String NODE_SCHEMA = "{\"type\": \"record\", \"name\": \"Node\", \"fields\": ["
+            + "{\"name\": \"label\", \"type\": \"string\"},"
+            + "{\"name\": \"weight\", \"type\": \"double\"},"
+            + "{\"name\": \"payload\", \"type\": \"bytes\"},"
+            + "{\"name\": \"attributes\", \"type\": {\"type\": \"map\", \"values\": [\"null\", \"long\", \"string\"]}},"
+            + "{\"name\": \"children\", \"type\": {\"type\": \"array\", \"items\": \"Node\"}},"
+            + "{\"name\": \"next\", \"type\": [\"null\", \"Node\"]}]}";
+
+    /**
+     * Tests the precompiled datum writers encode the fixtures like the standard ones.
+     */
+    @Test
+    public void testSerialize_precompiledGenericRecords_equalStandardBytes() {
+        GenericRecord person = new GenericData.Record(SchemaLoader.loadSchema(AVRO_PERSON_SCHEMA_FILE));
+        person.put("firstName", "Arya");
+        person.put("lastName", new Utf8("Stark"));
+        person.put("age", 18);
+        person.put("height", 155.5f);
+        person.put("employed", false);
+
+        GenericRecord unionRecord = new GenericData.Record(SchemaLoader.loadSchema(AVRO_USER_UNION_SCHEMA_FILE));
+        unionRecord.put("experience", 5);
+        unionRecord.put("age", 30);
+
+        GenericRecord mapRecord = new GenericData.Record(SchemaLoader.loadSchema(AVRO_USER_MAP_SCHEMA_FILE));
+        Map<String, Long> map = new HashMap<>();
+        map.put("one", 1L);
+        map.put("two", 2L);
+        mapRecord.put("meta", map);
+
+        Schema arraySchema = SchemaLoader.loadSchema(AVRO_USER_ARRAY_SCHEMA_FILE);
+        Schema enumSchema = SchemaLoader.loadSchema(AVRO_USER_ENUM_SCHEMA_FILE);
+        Schema fixedSchema = SchemaLoader.loadSchema(AVRO_USER_FIXED_SCHEMA_FILE);
+
+        for (Object record : Arrays.asList(RecordGenerator.createGenericAvroRecord(),
+                                           RecordGenerator.createGenericEmpRecord(), person, unionRecord, mapRecord,
+                                           new GenericData.Array<>(arraySchema, Arrays.asList(1, 2, 3)),
+                                           new GenericData.EnumSymbol(enumSchema, "THREE"),
+                                           new GenericData.Fixed(fixedSchema, "byte array".getBytes()))) {
+            assertPrecompiledEqualsStandard(record);
+        }
+    }
+
+    /**
+     * Tests the precompiled datum writers encode specific records like the standard ones.
+     */
+    @Test
+    public void testSerialize_precompiledSpecificRecord_equalsStandardBytes() {
+        assertPrecompiledEqualsStandard(RecordGenerator.createSpecificAvroRecord());
+    }
+
+    /**
+     * Tests the precompiled datum writers encode recursive schemas like the standard ones.
+     */
+    @Test
+    public void testSerialize_precompiledRecursiveRecord_equalsStandardBytes() {
+        Schema schema = new Schema.Parser().parse(NODE_SCHEMA);
+        GenericRecord leaf = createNode(schema, "leaf", null);
+        leaf.put("children", Collections.emptyList());
+        GenericRecord root = createNode(schema, "root", leaf);
+        root.put("children", Arrays.asList(createNode(schema, "first", null), createNode(schema, "second", leaf)));
+
+        assertPrecompiledEqualsStandard(root);
+    }
+
+    /**
+     * Tests schemas with logical types are not precompiled.
+     */
+    @Test
+    public void testCompile_logicalType_returnsNull() {
+        Schema schema = Schema.createRecord("Event", null, "test", false, Collections.singletonList(
+                new Schema.Field("timestamp", LogicalTypes.timestampMillis().addToSchema(Schema.create(Schema.Type.LONG)),
+                                 null, null)));
+
+        assertNull(PrecompiledDatumWriter.compile(schema, GenericData.get()));
+        assertNotNull(PrecompiledDatumWriter.compile(new Schema.Parser().parse(NODE_SCHEMA), SpecificData.get()));
+    }
+
+    private GenericRecord createNode(Schema schema, String label, GenericRecord next) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("count", 3L);
+        attributes.put("owner", label);
+        attributes.put("removed", null);
+
+        GenericRecord node = new GenericData.Record(schema);
+        node.put("label", label);
+        node.put("weight", 0.5);
+        node.put("payload", ByteBuffer.wrap(label.getBytes()));
+        node.put("attributes", attributes);
+        node.put("children", Collections.emptyList());
+        node.put("next", next);
+        return node;
+    }
+
+    private void assertPrecompiledEqualsStandard(Object record) {
+        Schema schema = ((GenericContainer) record).getSchema();
+        byte[] standardBytes = new AvroSerializer(schema).serialize(record);
+
+        assertArrayEquals(standardBytes, new AvroSerializer(schema, true).serialize(record));
+        assertArrayEquals(standardBytes, new AvroSerializer(schema, true).serialize(record));
+    }
+}
@@ -47,6 +47,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -61,12 +63,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class GlueSchemaRegistrySerializationFacadeTest extends AWSSchemaRegistryValidationUtil {
@@ -808,6 +814,92 @@ public class GlueSchemaRegistrySerializationFacadeTest extends AWSSchemaRegistry
         Assertions.assertThrows(IllegalArgumentException.class, () -> glueSerializationFacade.getOrRegisterSchemaVersion(null));
     }
 
+    /**
+     * Tests preloading the configured schemas gets or registers them once per topic and caches them.
+     */
+    @Test
+    public void testPreloadSchemas_classNamesAndDefinitions_registersEachSchemaForEachTopic() {
+        String empDefinition = "{\"namespace\": \"com.amazonaws.services.schemaregistry.serializers.avro\", "
+                               + "\"type\": \"record\", \"name\": \"emp\", "
+                               + "\"fields\": [{\"name\": \"name\", \"type\": \"string\"}]}";
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, Arrays.asList(User.class.getName(), empDefinition));
+        GlueSchemaRegistrySerializationFacade glueSerializationFacade = createGlueSerializationFacade(configs, mockClient);
+        String userDefinition = User.getClassSchema().toString();
+        String normalizedEmpDefinition = new Schema.Parser().parse(empDefinition).toString();
+        when(mockClient.getORRegisterSchemaVersionId(anyString(), anyString(), eq(AVRO_SCHEMA_TYPE), anyMap()))
+                .thenReturn(SCHEMA_VERSION_ID_FOR_TESTING);
+
+        Map<AWSSerializerInput, UUID> schemaVersionIds = glueSerializationFacade.preloadSchemas(
+                Collections.emptyList(), Arrays.asList("users", "orders"), topic -> topic + "-value");
+
+        assertEquals(4, schemaVersionIds.size());
+        for (String topic : Arrays.asList("users", "orders")) {
+            for (String schemaDefinition : Arrays.asList(userDefinition, normalizedEmpDefinition)) {
+                verify(mockClient).getORRegisterSchemaVersionId(eq(schemaDefinition), eq(topic + "-value"),
+                                                                eq(AVRO_SCHEMA_TYPE), anyMap());
+            }
+        }
+
+        assertEquals(SCHEMA_VERSION_ID_FOR_TESTING, glueSerializationFacade.getOrRegisterSchemaVersion(
+                AWSSerializerInput.builder().schemaDefinition(userDefinition).schemaName("users-value")
+                        .transportName("users").build()));
+        verify(mockClient, times(4)).getORRegisterSchemaVersionId(anyString(), anyString(), anyString(), anyMap());
+    }
+
+    /**
+     * Tests preloading fails when a schema cannot be registered, like an incompatible schema.
+     */
+    @Test
+    public void testPreloadSchemas_registrationFails_throwsException() {
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, User.class.getName());
+        GlueSchemaRegistrySerializationFacade glueSerializationFacade = createGlueSerializationFacade(configs, mockClient);
+        when(mockClient.getORRegisterSchemaVersionId(anyString(), anyString(), eq(AVRO_SCHEMA_TYPE), anyMap()))
+                .thenThrow(new AWSSchemaRegistryException("Schema evolution check failed"));
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> glueSerializationFacade
+                .preloadSchemas(Collections.emptyList(), Arrays.asList("users", "orders"), topic -> topic));
+        assertEquals("Schema evolution check failed", exception.getMessage());
+    }
+
+    /**
+     * Tests preloading once the facade is closed.
+     */
+    @Test
+    public void testPreloadSchemas_afterClose_throwsException() {
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, User.class.getName());
+        GlueSchemaRegistrySerializationFacade glueSerializationFacade = createGlueSerializationFacade(configs, mockClient);
+        glueSerializationFacade.close();
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> glueSerializationFacade
+                .preloadSchemas(Collections.emptyList(), Arrays.asList("users", "orders"), topic -> topic));
+        assertTrue(exception.getMessage().contains("the serializer is closed"));
+        verifyNoInteractions(mockClient);
+    }
+
+    /**
+     * Tests preloading without configured schemas does not call the schema registry.
+     */
+    @Test
+    public void testPreloadSchemas_noSchemas_returnsEmptyMap() {
+        GlueSchemaRegistrySerializationFacade glueSerializationFacade = createGlueSerializationFacade(configs, mockClient);
+
+        assertTrue(glueSerializationFacade.preloadSchemas(Collections.emptyList(), Collections.singletonList("users"),
+                                                          topic -> topic).isEmpty());
+        verifyNoInteractions(mockClient);
+    }
+
+    /**
+     * Tests preloading a class that is not a SpecificRecord.
+     */
+    @Test
+    public void testPreloadSchemas_notSpecificRecordClass_throwsException() {
+        configs.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, String.class.getName());
+        GlueSchemaRegistrySerializationFacade glueSerializationFacade = createGlueSerializationFacade(configs, mockClient);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> glueSerializationFacade
+                .preloadSchemas(Collections.emptyList(), Collections.emptyList(), topic -> "User-Topic"));
+    }
+
     private Map<String, String> getMetadata() {
         Map<String, String> metadata = new HashMap<>();
         metadata.put("event-source-1", "topic1");
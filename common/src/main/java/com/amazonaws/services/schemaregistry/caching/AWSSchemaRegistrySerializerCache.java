@@ -17,7 +17,9 @@ package com.amazonaws.services.schemaregistry.caching;
 
 import com.amazonaws.services.schemaregistry.common.Schema;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.utils.SchemaFingerprint;
 import lombok.NonNull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
@@ -30,13 +32,14 @@ import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
 
 /**
- * AWSSchemaRegistrySerializerCache is implementation for the AWS Cache.
+ * AWSSchemaRegistrySerializerCache is implementation for the AWS Cache. Schemas are keyed by the fingerprint of
+ * their definition, so equivalent definitions share a single entry.
  */
 @Slf4j
 public final class AWSSchemaRegistrySerializerCache implements AWSCache<Schema, UUID, CacheStats> {
 
     private static GlueSchemaRegistryConfiguration serDeConfigs = null;
-    private Cache<Schema, UUID> cache;
+    private Cache<SchemaKey, UUID> cache;
 
     /**
      * Private constructor.
@@ -48,7 +51,7 @@ public final class AWSSchemaRegistrySerializerCache implements AWSCache<Schema,
      *
      * @param cache Cache instance
      */
-    private AWSSchemaRegistrySerializerCache(Cache<Schema, UUID> cache) {
+    private AWSSchemaRegistrySerializerCache(Cache<SchemaKey, UUID> cache) {
         this.cache = cache;
     }
 
@@ -80,18 +83,18 @@ public final class AWSSchemaRegistrySerializerCache implements AWSCache<Schema,
 
     @Override
     public UUID get(Schema key) {
-        return cache.getIfPresent(key);
+        return cache.getIfPresent(SchemaKey.of(key));
     }
 
     @Override
     public void put(Schema key, UUID value) {
         log.debug("Associating key {} with value {}", key, value);
-        cache.put(key, value);
+        cache.put(SchemaKey.of(key), value);
     }
 
     @Override
     public void delete(Schema key) {
-        cache.invalidate(key);
+        cache.invalidate(SchemaKey.of(key));
     }
 
     @Override
@@ -120,9 +123,24 @@ public final class AWSSchemaRegistrySerializerCache implements AWSCache<Schema,
         }
     }
 
-    private static class AWSCacheRemovalListener implements RemovalListener<Schema, UUID> {
+    /**
+     * Cache key made of the schema definition fingerprint, data format and schema name.
+     */
+    @Value
+    private static class SchemaKey {
+        long fingerprint;
+        String dataFormat;
+        String schemaName;
+
+        static SchemaKey of(Schema schema) {
+            return new SchemaKey(SchemaFingerprint.of(schema.getSchemaDefinition(), schema.getDataFormat()),
+                    schema.getDataFormat(), schema.getSchemaName());
+        }
+    }
+
+    private static class AWSCacheRemovalListener implements RemovalListener<SchemaKey, UUID> {
         @Override
-        public void onRemoval(RemovalNotification<Schema, UUID> notification) {
+        public void onRemoval(RemovalNotification<SchemaKey, UUID> notification) {
             log.debug(" key {} and value {} from cache cause {}", notification.getKey(), notification.getValue(),
                     notification.getCause());
         }
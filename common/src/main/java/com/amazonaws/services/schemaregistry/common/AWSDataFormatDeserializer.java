@@ -51,4 +51,19 @@ public interface AWSDataFormatDeserializer {
      * @return de-serialized object
      */
     Object deserialize(@NonNull UUID schemaVersionId, @NonNull ByteBuffer data, @NonNull String schema);
+
+    /**
+     * De-serializes the given ByteBuffer to an Object, decoding into the reuse instance when the implementation
+     * supports it. The default implementation ignores the reuse instance.
+     *
+     * @param schemaVersionId schema version id
+     * @param data            data to de-serialize as byte array
+     * @param schema          schema for the data
+     * @param reuse           object to decode into, or null to create a new one
+     * @return de-serialized object
+     */
+    default Object deserialize(@NonNull UUID schemaVersionId, @NonNull ByteBuffer data, @NonNull String schema,
+                               Object reuse) {
+        return deserialize(schemaVersionId, data, schema);
+    }
 }
@@ -18,24 +18,32 @@ package com.amazonaws.services.schemaregistry.common;
 import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import com.google.common.annotations.VisibleForTesting;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.GlueClientBuilder;
 import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
+import software.amazon.awssdk.services.glue.model.Compatibility;
 import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
 import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.GetTagsRequest;
 import software.amazon.awssdk.services.glue.model.GetTagsResponse;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
 import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataResponse;
@@ -45,11 +53,22 @@ import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
 import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 /**
  * Handles all the requests related to the schema management.
@@ -60,8 +79,21 @@ public class AWSSchemaRegistryClient {
     private static final int MAX_ATTEMPTS = 10;
     private static final long MAX_WAIT_INTERVAL = 3000;
 
+    private static final String GET_SCHEMA_BY_DEFINITION = "GetSchemaByDefinition";
+    private static final String GET_SCHEMA_VERSION = "GetSchemaVersion";
+    private static final String GET_SCHEMA = "GetSchema";
+    private static final String LIST_SCHEMA_VERSIONS = "ListSchemaVersions";
+    private static final String CREATE_SCHEMA = "CreateSchema";
+    private static final String REGISTER_SCHEMA_VERSION = "RegisterSchemaVersion";
+    private static final String PUT_SCHEMA_VERSION_METADATA = "PutSchemaVersionMetadata";
+    private static final String QUERY_SCHEMA_VERSION_METADATA = "QuerySchemaVersionMetadata";
+    private static final String GET_TAGS = "GetTags";
+
     private final GlueClient client;
     private GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration;
+    private AWSSchemaRegistryHedgedRequestExecutor hedgedRequestExecutor;
+    private AWSSchemaRegistryReadRouter readRouter;
+    private volatile AWSSchemaRegistryCompatibilityPreCheck compatibilityPreCheck;
 
     /**
      * Create Amazon Schema Registry Client.
@@ -78,23 +110,42 @@ public class AWSSchemaRegistryClient {
                 .build();
 
         this.glueSchemaRegistryConfiguration = glueSchemaRegistryConfiguration;
+        this.client = buildGlueClient(credentialsProvider, overrideConfiguration,
+                                      glueSchemaRegistryConfiguration.getRegion(),
+                                      glueSchemaRegistryConfiguration.getEndPoint());
+        this.hedgedRequestExecutor = createHedgedRequestExecutor(glueSchemaRegistryConfiguration);
+
+        if (!glueSchemaRegistryConfiguration.getReadRegions().isEmpty()) {
+            Map<String, GlueClient> readClients = new LinkedHashMap<>();
+            readClients.put(glueSchemaRegistryConfiguration.getRegion(), this.client);
+            glueSchemaRegistryConfiguration.getReadRegions().forEach((readRegion, readEndpoint) -> readClients
+                    .computeIfAbsent(readRegion, region -> buildGlueClient(credentialsProvider, overrideConfiguration,
+                                                                           region, readEndpoint)));
+            this.readRouter = new AWSSchemaRegistryReadRouter(readClients,
+                                                              glueSchemaRegistryConfiguration.getReadRegionSelection());
+        }
+    }
 
+    private static GlueClient buildGlueClient(AwsCredentialsProvider credentialsProvider,
+                                              ClientOverrideConfiguration overrideConfiguration,
+                                              String region,
+                                              String endPoint) {
         GlueClientBuilder glueClientBuilder = GlueClient
                 .builder()
                 .credentialsProvider(credentialsProvider)
                 .overrideConfiguration(overrideConfiguration)
-                .region(Region.of(glueSchemaRegistryConfiguration.getRegion()));
+                .region(Region.of(region));
 
-        if (glueSchemaRegistryConfiguration.getEndPoint() != null) {
+        if (endPoint != null) {
             try {
-                glueClientBuilder.endpointOverride(new URI(glueSchemaRegistryConfiguration.getEndPoint()));
+                glueClientBuilder.endpointOverride(new URI(endPoint));
             } catch (URISyntaxException e) {
                 String message = String.format("Malformed uri, please pass the valid uri for creating the client",
-                                               glueSchemaRegistryConfiguration.getEndPoint());
+                                               endPoint);
                 throw new AWSSchemaRegistryException(message, e);
             }
         }
-        this.client = glueClientBuilder.build();
+        return glueClientBuilder.build();
     }
 
     /**
@@ -113,6 +164,31 @@ public class AWSSchemaRegistryClient {
         this.client = glueClient;
     }
 
+    @VisibleForTesting
+    AWSSchemaRegistryClient(@NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration,
+                            @NonNull GlueClient glueClient) {
+        this(glueSchemaRegistryConfiguration, glueClient, null);
+    }
+
+    @VisibleForTesting
+    AWSSchemaRegistryClient(@NonNull GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration,
+                            @NonNull GlueClient glueClient,
+                            AWSSchemaRegistryReadRouter readRouter) {
+        this.client = glueClient;
+        this.glueSchemaRegistryConfiguration = glueSchemaRegistryConfiguration;
+        this.hedgedRequestExecutor = createHedgedRequestExecutor(glueSchemaRegistryConfiguration);
+        this.readRouter = readRouter;
+    }
+
+    private static AWSSchemaRegistryHedgedRequestExecutor createHedgedRequestExecutor(
+            GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration) {
+        if (glueSchemaRegistryConfiguration.getHedgedRequestsPercentile() <= 0) {
+            return null;
+        }
+        return new AWSSchemaRegistryHedgedRequestExecutor(glueSchemaRegistryConfiguration.getHedgedRequestsPercentile(),
+                                                          glueSchemaRegistryConfiguration.getHedgedRequestsDefaultDelayMillis());
+    }
+
     /**
      * Get Schema Version ID by passing the schema definition.
      * @param schemaDefinition Schema Definition
@@ -129,7 +205,8 @@ public class AWSSchemaRegistryClient {
                     schemaDefinition, schemaName, dataFormat);
             log.debug(message);
             GetSchemaByDefinitionResponse response = null;
-            response = client.getSchemaByDefinition(buildGetSchemaByDefinitionRequest(schemaDefinition, schemaName));
+            response = callGlue(GET_SCHEMA_BY_DEFINITION, startDeadline(GlueSchemaRegistryConfiguration::getLookupDeadlineMillis),
+                                buildGetSchemaByDefinitionRequest(schemaDefinition, schemaName), client::getSchemaByDefinition);
             return returnSchemaVersionIdIfAvailable(response);
         } catch (Exception e) {
             String message = String.format("Failed to get schemaVersionId by schema definition for schema name = %s ", schemaName);
@@ -149,6 +226,10 @@ public class AWSSchemaRegistryClient {
      *              else if schema does not exist
      *              then
      *              2.2) create schema and register schema version
+     * <p>
+     * When the compatibility pre-check is enabled, Avro schema definitions are checked against the known versions of
+     * the schema before a new version is registered, and definitions that failed the check fail without calling the
+     * schema registry until the check expires.
      *
      * @param schemaDefinition Schema Definition
      * @param schemaName       Schema Name
@@ -162,6 +243,10 @@ public class AWSSchemaRegistryClient {
                                              @NonNull String dataFormat,
                                              @NonNull Map<String, String> metadata) throws AWSSchemaRegistryException {
         UUID schemaVersionId = null;
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = getCompatibilityPreCheck(dataFormat);
+        if (preCheck != null) {
+            preCheck.checkNotRejected(schemaName, schemaDefinition);
+        }
 
         try {
             schemaVersionId = getSchemaVersionIdByDefinition(schemaDefinition, schemaName, dataFormat);
@@ -174,7 +259,13 @@ public class AWSSchemaRegistryClient {
                 if (!this.glueSchemaRegistryConfiguration.isSchemaAutoRegistrationEnabled()) {
                     throw new AWSSchemaRegistryException(AWSSchemaRegistryConstants.AUTO_REGISTRATION_IS_DISABLED_MSG, e);
                 }
+                if (preCheck != null) {
+                    preCheck.check(schemaName, schemaDefinition);
+                }
                 schemaVersionId = registerSchemaVersion(schemaDefinition, schemaName, dataFormat, metadata);
+                if (preCheck != null) {
+                    preCheck.recordRegistered(schemaName, schemaDefinition);
+                }
             } else if (exceptionCauseMessage.contains(AWSSchemaRegistryConstants.SCHEMA_NOT_FOUND_MSG)) {
                 log.debug(exceptionCauseMessage);
 
@@ -193,8 +284,104 @@ public class AWSSchemaRegistryClient {
         return schemaVersionId;
     }
 
+    private AWSSchemaRegistryCompatibilityPreCheck getCompatibilityPreCheck(String dataFormat) {
+        if (glueSchemaRegistryConfiguration == null || !glueSchemaRegistryConfiguration.isCompatibilityPreCheckEnabled()
+            || !DataFormat.AVRO.name().equals(dataFormat)) {
+            return null;
+        }
+        if (compatibilityPreCheck == null) {
+            synchronized (this) {
+                if (compatibilityPreCheck == null) {
+                    compatibilityPreCheck = new AWSSchemaRegistryCompatibilityPreCheck(this::loadKnownSchemaVersions,
+                                                                                     glueSchemaRegistryConfiguration.getTimeToLiveMillis(),
+                                                                                     glueSchemaRegistryConfiguration.getCacheSize());
+                }
+            }
+        }
+        return compatibilityPreCheck;
+    }
+
+    /**
+     * Loads the compatibility of the schema and the versions its compatibility checks against, or returns null
+     * if they cannot be loaded.
+     */
+    private AWSSchemaRegistryCompatibilityPreCheck.KnownSchemaVersions loadKnownSchemaVersions(String schemaName) {
+        SchemaId schemaId = getSchemaIdRequestObject(schemaName, glueSchemaRegistryConfiguration.getRegistryName());
+        AWSSchemaRegistryDeadline deadline = startDeadline(GlueSchemaRegistryConfiguration::getLookupDeadlineMillis);
+        try {
+            GetSchemaResponse getSchemaResponse = callGlue(GET_SCHEMA, deadline,
+                                                           GetSchemaRequest.builder().schemaId(schemaId).build(),
+                                                           client::getSchema);
+            Compatibility compatibility = getSchemaResponse.compatibility();
+
+            List<String> schemaDefinitions = new ArrayList<>();
+            if (AWSSchemaRegistryCompatibilityPreCheck.requiresAllVersions(compatibility)) {
+                for (Long versionNumber : listAvailableVersionNumbers(schemaId, deadline)) {
+                    schemaDefinitions.add(getSchemaVersionDefinition(schemaId, SchemaVersionNumber.builder()
+                            .versionNumber(versionNumber)
+                            .build(), deadline));
+                }
+            } else if (AWSSchemaRegistryCompatibilityPreCheck.requiresVersions(compatibility)) {
+                schemaDefinitions.add(getSchemaVersionDefinition(schemaId, SchemaVersionNumber.builder()
+                        .latestVersion(true)
+                        .build(), deadline));
+            }
+            return AWSSchemaRegistryCompatibilityPreCheck.KnownSchemaVersions.parse(compatibility, schemaDefinitions);
+        } catch (Exception e) {
+            log.warn("Failed to load the schema versions for the compatibility pre-check of schema name = {}, "
+                     + "leaving the check to the schema registry", schemaName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Version numbers of the available versions of the schema, latest version first.
+     */
+    private List<Long> listAvailableVersionNumbers(SchemaId schemaId, AWSSchemaRegistryDeadline deadline) {
+        List<SchemaVersionListItem> schemaVersions = new ArrayList<>();
+        String nextToken = null;
+        do {
+            ListSchemaVersionsRequest listSchemaVersionsRequest = ListSchemaVersionsRequest.builder()
+                    .schemaId(schemaId)
+                    .nextToken(nextToken)
+                    .build();
+            ListSchemaVersionsResponse listSchemaVersionsResponse = callGlue(LIST_SCHEMA_VERSIONS, deadline,
+                                                                             listSchemaVersionsRequest,
+                                                                             client::listSchemaVersions);
+            schemaVersions.addAll(listSchemaVersionsResponse.schemas());
+            nextToken = listSchemaVersionsResponse.nextToken();
+        } while (nextToken != null);
+
+        return schemaVersions.stream()
+                .filter(schemaVersion -> AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString()
+                        .equals(schemaVersion.statusAsString()))
+                .map(SchemaVersionListItem::versionNumber)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+    }
+
+    private String getSchemaVersionDefinition(SchemaId schemaId, SchemaVersionNumber schemaVersionNumber,
+                                              AWSSchemaRegistryDeadline deadline) {
+        GetSchemaVersionRequest getSchemaVersionRequest = GetSchemaVersionRequest.builder()
+                .schemaId(schemaId)
+                .schemaVersionNumber(schemaVersionNumber)
+                .build();
+        GetSchemaVersionResponse getSchemaVersionResponse = callGlue(GET_SCHEMA_VERSION, deadline, getSchemaVersionRequest,
+                                                                     client::getSchemaVersion);
+        if (!AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString()
+                .equals(getSchemaVersionResponse.statusAsString())) {
+            throw new AWSSchemaRegistryException(String.format("Schema version %s is in %s status",
+                                                               getSchemaVersionResponse.schemaVersionId(),
+                                                               getSchemaVersionResponse.statusAsString()));
+        }
+        return getSchemaVersionResponse.schemaDefinition();
+    }
+
     /**
-     * Get the schema definition by passing the schema id.
+     * Get the schema definition by passing the schema id. When hedged requests are enabled, an identical
+     * request is sent if the first one has not returned within the configured latency percentile, and the
+     * first response wins. When read regions are configured, the lookup goes to the preferred healthy
+     * region and fails over to the other regions on errors.
      *
      * @param schemaVersionId schema version id
      * @return                schema definition returns the schema definition corresponding to the
@@ -207,7 +394,15 @@ public class AWSSchemaRegistryClient {
         GetSchemaVersionResponse schemaVersionResponse = null;
 
         try {
-            schemaVersionResponse = client.getSchemaVersion(getSchemaVersionRequest(schemaVersionId));
+            AWSSchemaRegistryDeadline deadline = startDeadline(GlueSchemaRegistryConfiguration::getLookupDeadlineMillis);
+            Function<GlueClient, GetSchemaVersionResponse> lookup = glueClient -> callGlue(GET_SCHEMA_VERSION, deadline,
+                    getSchemaVersionRequest(schemaVersionId), glueClient::getSchemaVersion);
+            Supplier<GetSchemaVersionResponse> request = readRouter != null
+                    ? () -> readRouter.execute(lookup)
+                    : () -> lookup.apply(client);
+            schemaVersionResponse = hedgedRequestExecutor != null
+                    ? hedgedRequestExecutor.execute(request, deadline)
+                    : request.get();
             validateSchemaVersionResponse(schemaVersionResponse, schemaVersionId);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to get schema version Id = %s", schemaVersionId);
@@ -217,6 +412,56 @@ public class AWSSchemaRegistryClient {
         return schemaVersionResponse;
     }
 
+    /**
+     * Calls Glue within the client side rate and in-flight limits configured for the operation. Waiting for the
+     * limits and the call itself only get the time left until the deadline of the operation.
+     */
+    private <R extends GlueRequest, T> T callGlue(String operation, AWSSchemaRegistryDeadline deadline, R request,
+                                                  Function<R, T> call) {
+        return AWSSchemaRegistryGlueClientRateLimiter.execute(operation, glueSchemaRegistryConfiguration,
+                                                              deadline.remainingTimeoutMillis(),
+                                                              () -> call.apply(withTimeouts(request, deadline)));
+    }
+
+    /**
+     * Applies the configured API call timeouts to the request. The API call timeout is bounded by the time left until
+     * the deadline of the operation the request belongs to.
+     */
+    @SuppressWarnings("unchecked")
+    private <R extends GlueRequest> R withTimeouts(R request, AWSSchemaRegistryDeadline deadline) {
+        long apiCallTimeoutMillis = getDeadlineMillis(GlueSchemaRegistryConfiguration::getApiCallTimeoutMillis);
+        long apiCallAttemptTimeoutMillis = getDeadlineMillis(GlueSchemaRegistryConfiguration::getApiCallAttemptTimeoutMillis);
+        long deadlineMillis = deadline.remainingTimeoutMillis();
+
+        if (deadlineMillis > 0 && (apiCallTimeoutMillis == 0 || deadlineMillis < apiCallTimeoutMillis)) {
+            apiCallTimeoutMillis = deadlineMillis;
+        }
+        if (apiCallTimeoutMillis == 0 && apiCallAttemptTimeoutMillis == 0) {
+            return request;
+        }
+
+        AwsRequestOverrideConfiguration.Builder overrideConfiguration = AwsRequestOverrideConfiguration.builder();
+        if (apiCallTimeoutMillis > 0) {
+            overrideConfiguration.apiCallTimeout(Duration.ofMillis(apiCallTimeoutMillis));
+        }
+        if (apiCallAttemptTimeoutMillis > 0) {
+            overrideConfiguration.apiCallAttemptTimeout(Duration.ofMillis(apiCallAttemptTimeoutMillis));
+        }
+
+        return (R) request.toBuilder().overrideConfiguration(overrideConfiguration.build()).build();
+    }
+
+    private long getDeadlineMillis(ToLongFunction<GlueSchemaRegistryConfiguration> deadline) {
+        return glueSchemaRegistryConfiguration == null ? 0 : deadline.applyAsLong(glueSchemaRegistryConfiguration);
+    }
+
+    /**
+     * Starts the deadline of an operation, computed once so that all the calls and waits of the operation share it.
+     */
+    private AWSSchemaRegistryDeadline startDeadline(ToLongFunction<GlueSchemaRegistryConfiguration> deadline) {
+        return AWSSchemaRegistryDeadline.after(getDeadlineMillis(deadline));
+    }
+
     private GetSchemaVersionRequest getSchemaVersionRequest(String schemaVersionId) {
         GetSchemaVersionRequest getSchemaVersionRequest = GetSchemaVersionRequest.builder()
                 .schemaVersionId(schemaVersionId).build();
@@ -280,17 +525,27 @@ public class AWSSchemaRegistryClient {
                              String dataFormat,
                              String schemaDefinition,
                              Map<String, String> metadata) throws AWSSchemaRegistryException {
+        return createSchema(schemaName, dataFormat, schemaDefinition, metadata,
+                            startDeadline(GlueSchemaRegistryConfiguration::getRegistrationDeadlineMillis));
+    }
+
+    private UUID createSchema(String schemaName,
+                              String dataFormat,
+                              String schemaDefinition,
+                              Map<String, String> metadata,
+                              AWSSchemaRegistryDeadline deadline) throws AWSSchemaRegistryException {
         UUID schemaVersionId = null;
         try {
             log.info("Auto Creating schema with schemaName: {} and schemaDefinition : {}", schemaName,
                       schemaDefinition);
             CreateSchemaResponse createSchemaResponse =
-                    client.createSchema(getCreateSchemaRequestObject(schemaName, dataFormat, schemaDefinition));
+                    callGlue(CREATE_SCHEMA, deadline, getCreateSchemaRequestObject(schemaName, dataFormat, schemaDefinition),
+                             client::createSchema);
             schemaVersionId = UUID.fromString(createSchemaResponse.schemaVersionId());
         } catch (AlreadyExistsException e) {
             log.warn("Schema is already created, this could be caused by multiple producers racing to "
                      + "auto-create schema.");
-            schemaVersionId = registerSchemaVersion(schemaDefinition, schemaName, dataFormat, metadata);
+            schemaVersionId = registerSchemaVersion(schemaDefinition, schemaName, dataFormat, metadata, deadline);
         } catch (Exception e) {
             String errorMessage = String.format(
                     "Create schema :: Call failed when creating the schema with the schema registry for"
@@ -320,6 +575,16 @@ public class AWSSchemaRegistryClient {
         return schemaVersionId;
     }
 
+    private UUID registerSchemaVersion(String schemaDefinition, String schemaName, String dataFormat,
+                                       Map<String, String> metadata, AWSSchemaRegistryDeadline deadline) {
+        GetSchemaVersionResponse getSchemaVersionResponse =
+                registerSchemaVersion(schemaDefinition, schemaName, dataFormat, deadline);
+        UUID schemaVersionId = UUID.fromString(getSchemaVersionResponse.schemaVersionId());
+        putSchemaVersionMetadata(schemaVersionId, metadata);
+
+        return schemaVersionId;
+    }
+
     /**
      * Register the schema and return get schema version response once it is available.
      * @param schemaDefinition Schema Definition
@@ -329,12 +594,19 @@ public class AWSSchemaRegistryClient {
      * @throws AWSSchemaRegistryException on any error during the registration and fetching of schema version
      */
     public GetSchemaVersionResponse registerSchemaVersion(String schemaDefinition, String schemaName, String dataFormat) throws AWSSchemaRegistryException {
+        return registerSchemaVersion(schemaDefinition, schemaName, dataFormat,
+                                     startDeadline(GlueSchemaRegistryConfiguration::getRegistrationDeadlineMillis));
+    }
+
+    private GetSchemaVersionResponse registerSchemaVersion(String schemaDefinition, String schemaName, String dataFormat,
+                                                           AWSSchemaRegistryDeadline deadline) throws AWSSchemaRegistryException {
 
         GetSchemaVersionResponse schemaVersionResponse = null;
 
         try {
             RegisterSchemaVersionResponse registerSchemaVersionResponse =
-                    client.registerSchemaVersion(getRegisterSchemaVersionRequest(schemaDefinition, schemaName));
+                    callGlue(REGISTER_SCHEMA_VERSION, deadline, getRegisterSchemaVersionRequest(schemaDefinition, schemaName),
+                             client::registerSchemaVersion);
 
             log.info("Registered the schema version with schema version id = {} and with version number = {} and "
                      + "status {}", registerSchemaVersionResponse.schemaVersionId(),
@@ -346,7 +618,7 @@ public class AWSSchemaRegistryClient {
             }
 
             schemaVersionResponse = waitForSchemaEvolutionCheckToComplete(
-                    getGetSchemaVersionRequest(registerSchemaVersionResponse.schemaVersionId()));
+                    getGetSchemaVersionRequest(registerSchemaVersionResponse.schemaVersionId()), deadline);
 
         } catch (Exception e) {
             String errorMessage = String.format("Register schema :: Call failed when registering the schema with the schema registry for schema name = %s",
@@ -403,21 +675,31 @@ public class AWSSchemaRegistryClient {
     }
 
     /**
-     * Get schema version response of asynchronous operation.
+     * Get schema version response of asynchronous operation. The wait is bounded by the evolution wait deadline and by
+     * the deadline of the registration it belongs to.
      *
      * @return Schema version.
      */
-    private GetSchemaVersionResponse waitForSchemaEvolutionCheckToComplete(GetSchemaVersionRequest getSchemaVersionRequest) {
+    private GetSchemaVersionResponse waitForSchemaEvolutionCheckToComplete(GetSchemaVersionRequest getSchemaVersionRequest,
+                                                                           AWSSchemaRegistryDeadline registrationDeadline) {
 
         GetSchemaVersionResponse response;
 
         try {
             int retries = 0;
+            AWSSchemaRegistryDeadline deadline = registrationDeadline
+                    .earliest(startDeadline(GlueSchemaRegistryConfiguration::getEvolutionWaitDeadlineMillis));
 
-            Thread.sleep(MAX_WAIT_INTERVAL);
+            Thread.sleep(Math.min(MAX_WAIT_INTERVAL, deadline.remainingMillis()));
 
             do {
-                response = client.getSchemaVersion(getSchemaVersionRequest);
+                if (deadline.hasPassed()) {
+                    throw new AWSSchemaRegistryException(String.format("Schema evolution check for schemaVersionId = %s "
+                                                                       + "did not complete within %d ms",
+                                                                       getSchemaVersionRequest.schemaVersionId(),
+                                                                       deadline.getTimeoutMillis()));
+                }
+                response = callGlue(GET_SCHEMA_VERSION, deadline, getSchemaVersionRequest, client::getSchemaVersion);
 
                 if (AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString()
                         .equals(response.statusAsString())) {
@@ -453,12 +735,13 @@ public class AWSSchemaRegistryClient {
      * @param metadata Metadata Map
      */
     public void putSchemaVersionMetadata(UUID schemaVersionId, Map<String, String> metadata) {
+        AWSSchemaRegistryDeadline deadline = startDeadline(GlueSchemaRegistryConfiguration::getMetadataDeadlineMillis);
         metadata.entrySet()
                 .parallelStream()
                 .map(this::createMetadataKeyValuePair)
                 .forEach((metadataKeyValuePair -> {
                     try {
-                        putSchemaVersionMetadata(schemaVersionId, metadataKeyValuePair);
+                        putSchemaVersionMetadata(schemaVersionId, metadataKeyValuePair, deadline);
                     } catch (AWSSchemaRegistryException e) {
                         log.warn(e.getMessage());
                     }
@@ -474,10 +757,20 @@ public class AWSSchemaRegistryClient {
      */
     public PutSchemaVersionMetadataResponse putSchemaVersionMetadata(UUID schemaVersionId, MetadataKeyValuePair metadataKeyValuePair)
             throws AWSSchemaRegistryException {
+        return putSchemaVersionMetadata(schemaVersionId, metadataKeyValuePair,
+                                        startDeadline(GlueSchemaRegistryConfiguration::getMetadataDeadlineMillis));
+    }
+
+    private PutSchemaVersionMetadataResponse putSchemaVersionMetadata(UUID schemaVersionId,
+                                                                      MetadataKeyValuePair metadataKeyValuePair,
+                                                                      AWSSchemaRegistryDeadline deadline)
+            throws AWSSchemaRegistryException {
         PutSchemaVersionMetadataResponse response = null;
         try {
             response =
-                    client.putSchemaVersionMetadata(createPutSchemaVersionMetadataRequest(schemaVersionId, metadataKeyValuePair));
+                    callGlue(PUT_SCHEMA_VERSION_METADATA, deadline,
+                             createPutSchemaVersionMetadataRequest(schemaVersionId, metadataKeyValuePair),
+                             client::putSchemaVersionMetadata);
         } catch (Exception e) {
             String errorMessage =
                     String.format("Put schema version metadata :: Call failed when put metadata key = %s value = %s to schema for schema version id = %s",
@@ -513,7 +806,10 @@ public class AWSSchemaRegistryClient {
     public QuerySchemaVersionMetadataResponse querySchemaVersionMetadata(UUID schemaVersionId) {
         QuerySchemaVersionMetadataResponse response = null;
         try {
-            response = client.querySchemaVersionMetadata(createQuerySchemaVersionMetadataRequest(schemaVersionId));
+            response = callGlue(QUERY_SCHEMA_VERSION_METADATA,
+                                startDeadline(GlueSchemaRegistryConfiguration::getMetadataDeadlineMillis),
+                                createQuerySchemaVersionMetadataRequest(schemaVersionId),
+                                client::querySchemaVersionMetadata);
         } catch (Exception e) {
             String errorMessage = String.format("Query schema version metadata :: Call failed when query metadata for schema version id = %s",
                     schemaVersionId.toString());
@@ -539,13 +835,15 @@ public class AWSSchemaRegistryClient {
     public GetTagsResponse querySchemaTags(String schemaDefinition, String schemaName) {
         GetTagsResponse getTagsResponse = null;
         try {
-            GetSchemaByDefinitionResponse getSchemaByDefinitionResponse = client.getSchemaByDefinition(
-                    buildGetSchemaByDefinitionRequest(schemaDefinition, schemaName));
+            AWSSchemaRegistryDeadline deadline = startDeadline(GlueSchemaRegistryConfiguration::getMetadataDeadlineMillis);
+            GetSchemaByDefinitionResponse getSchemaByDefinitionResponse =
+                    callGlue(GET_SCHEMA_BY_DEFINITION, deadline, buildGetSchemaByDefinitionRequest(schemaDefinition, schemaName),
+                             client::getSchemaByDefinition);
             GetTagsRequest getTagsRequest = GetTagsRequest.builder()
                     .resourceArn(getSchemaByDefinitionResponse.schemaArn())
                     .build();
 
-            getTagsResponse = client.getTags(getTagsRequest);
+            getTagsResponse = callGlue(GET_TAGS, deadline, getTagsRequest, client::getTags);
         } catch (Exception e) {
             String errorMessage = String.format("Query schema tags:: Call failed while querying tags for schema = %s", schemaName);
             throw new AWSSchemaRegistryException(errorMessage, e);
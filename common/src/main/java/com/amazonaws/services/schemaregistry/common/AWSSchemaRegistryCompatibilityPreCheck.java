@@ -0,0 +1,266 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaParseException;
+import org.apache.avro.SchemaValidationException;
+import org.apache.avro.SchemaValidator;
+import org.apache.avro.SchemaValidatorBuilder;
+import software.amazon.awssdk.services.glue.model.Compatibility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Checks Avro schema definitions against the known versions of their schema before they are registered, so that
+ * incompatible definitions fail without a round trip to the schema registry. The versions and compatibility of a
+ * schema are loaded from the registry on first use. A definition that fails against cached versions is checked
+ * again against freshly loaded versions before it is rejected, and rejected definitions fail straight away until
+ * they expire. Rejections expire sooner than the known versions, so that a definition rejected against versions or a
+ * compatibility that has since changed in the registry is checked against freshly loaded versions again.
+ */
+@Slf4j
+final class AWSSchemaRegistryCompatibilityPreCheck {
+    private static final long REJECTED_DEFINITION_TIME_TO_LIVE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Function<String, KnownSchemaVersions> versionsLoader;
+    private final Cache<String, KnownSchemaVersions> knownVersions;
+    private final Cache<List<String>, String> rejectedDefinitions;
+
+    /**
+     * @param versionsLoader loads the known versions of a schema name, returning null when they cannot be loaded
+     * @param timeToLiveMillis time after which known versions are reloaded; rejected definitions are checked again
+     *                         after at most 30 seconds
+     * @param cacheSize maximum number of schema names and rejected definitions to remember
+     */
+    AWSSchemaRegistryCompatibilityPreCheck(Function<String, KnownSchemaVersions> versionsLoader,
+                                           long timeToLiveMillis,
+                                           long cacheSize) {
+        this(versionsLoader, timeToLiveMillis, Math.min(timeToLiveMillis, REJECTED_DEFINITION_TIME_TO_LIVE_MILLIS),
+             cacheSize);
+    }
+
+    @VisibleForTesting
+    AWSSchemaRegistryCompatibilityPreCheck(Function<String, KnownSchemaVersions> versionsLoader,
+                                           long timeToLiveMillis,
+                                           long rejectedDefinitionTimeToLiveMillis,
+                                           long cacheSize) {
+        this.versionsLoader = versionsLoader;
+        this.knownVersions = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(timeToLiveMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.rejectedDefinitions = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(rejectedDefinitionTimeToLiveMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Fails if the schema definition was rejected by an earlier check.
+     *
+     * @param schemaName       schema name
+     * @param schemaDefinition Avro schema definition
+     * @throws AWSSchemaRegistryException if the definition was rejected
+     */
+    void checkNotRejected(String schemaName, String schemaDefinition) {
+        String message = rejectedDefinitions.getIfPresent(Arrays.asList(schemaName, schemaDefinition));
+        if (message != null) {
+            throw new AWSSchemaRegistryException(message);
+        }
+    }
+
+    /**
+     * Checks the schema definition against the known versions of the schema, using the compatibility of the schema.
+     * Definitions are let through when the known versions cannot be loaded or parsed, leaving the decision to the
+     * schema registry.
+     *
+     * @param schemaName       schema name
+     * @param schemaDefinition Avro schema definition to be registered
+     * @throws AWSSchemaRegistryException if the definition is not compatible with the known versions
+     */
+    void check(String schemaName, String schemaDefinition) {
+        KnownSchemaVersions versions = knownVersions.getIfPresent(schemaName);
+        boolean cached = versions != null;
+        if (!cached) {
+            versions = load(schemaName);
+        }
+        if (versions == null) {
+            return;
+        }
+
+        String failure = validate(schemaName, schemaDefinition, versions);
+        if (failure != null && cached) {
+            versions = load(schemaName);
+            failure = versions == null ? null : validate(schemaName, schemaDefinition, versions);
+        }
+        if (failure != null) {
+            rejectedDefinitions.put(Arrays.asList(schemaName, schemaDefinition), failure);
+            throw new AWSSchemaRegistryException(failure);
+        }
+    }
+
+    /**
+     * Records a newly registered schema version as the latest known version of its schema.
+     *
+     * @param schemaName       schema name
+     * @param schemaDefinition Avro schema definition of the registered version
+     */
+    void recordRegistered(String schemaName, String schemaDefinition) {
+        knownVersions.asMap().computeIfPresent(schemaName, (name, versions) -> {
+            try {
+                return versions.withLatest(new Schema.Parser().parse(schemaDefinition));
+            } catch (SchemaParseException e) {
+                return null;
+            }
+        });
+    }
+
+    private KnownSchemaVersions load(String schemaName) {
+        KnownSchemaVersions versions = versionsLoader.apply(schemaName);
+        if (versions != null) {
+            knownVersions.put(schemaName, versions);
+        } else {
+            knownVersions.invalidate(schemaName);
+        }
+        return versions;
+    }
+
+    private static String validate(String schemaName, String schemaDefinition, KnownSchemaVersions versions) {
+        Compatibility compatibility = versions.compatibility;
+        if (compatibility == Compatibility.DISABLED) {
+            return String.format("Schema evolution is disabled for schema name = %s", schemaName);
+        }
+
+        SchemaValidator validator = getValidator(compatibility);
+        if (validator == null || versions.schemas.isEmpty()) {
+            return null;
+        }
+
+        Schema schema;
+        try {
+            schema = new Schema.Parser().parse(schemaDefinition);
+        } catch (SchemaParseException e) {
+            return null;
+        }
+
+        try {
+            validator.validate(schema, versions.schemas);
+            return null;
+        } catch (SchemaValidationException e) {
+            log.debug("Schema definition failed the {} compatibility check for schema name = {}", compatibility,
+                      schemaName, e);
+            return String.format("Schema definition is not %s compatible with the existing schema versions for "
+                                 + "schema name = %s", compatibility, schemaName);
+        }
+    }
+
+    /**
+     * Validator for the compatibility, or null if the compatibility does not restrict new versions.
+     */
+    private static SchemaValidator getValidator(Compatibility compatibility) {
+        if (compatibility == null) {
+            return null;
+        }
+        switch (compatibility) {
+            case BACKWARD:
+                return new SchemaValidatorBuilder().canReadStrategy().validateLatest();
+            case BACKWARD_ALL:
+                return new SchemaValidatorBuilder().canReadStrategy().validateAll();
+            case FORWARD:
+                return new SchemaValidatorBuilder().canBeReadStrategy().validateLatest();
+            case FORWARD_ALL:
+                return new SchemaValidatorBuilder().canBeReadStrategy().validateAll();
+            case FULL:
+                return new SchemaValidatorBuilder().mutualReadStrategy().validateLatest();
+            case FULL_ALL:
+                return new SchemaValidatorBuilder().mutualReadStrategy().validateAll();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Whether checks under the compatibility need every schema version, or only the latest one.
+     *
+     * @param compatibility compatibility of the schema
+     * @return true for the transitive compatibilities
+     */
+    static boolean requiresAllVersions(Compatibility compatibility) {
+        return compatibility == Compatibility.BACKWARD_ALL
+               || compatibility == Compatibility.FORWARD_ALL
+               || compatibility == Compatibility.FULL_ALL;
+    }
+
+    /**
+     * Whether checks under the compatibility need any schema version at all.
+     *
+     * @param compatibility compatibility of the schema
+     * @return false if the compatibility does not restrict new versions or does not allow any
+     */
+    static boolean requiresVersions(Compatibility compatibility) {
+        return getValidator(compatibility) != null;
+    }
+
+    /**
+     * Compatibility and parsed definitions of the known versions of a schema, latest version first.
+     */
+    static final class KnownSchemaVersions {
+        private final Compatibility compatibility;
+        private final List<Schema> schemas;
+
+        /**
+         * @param compatibility compatibility of the schema
+         * @param schemas       schema versions, latest version first
+         */
+        KnownSchemaVersions(Compatibility compatibility, List<Schema> schemas) {
+            this.compatibility = compatibility;
+            this.schemas = Collections.unmodifiableList(new ArrayList<>(schemas));
+        }
+
+        /**
+         * @param compatibility     compatibility of the schema
+         * @param schemaDefinitions definitions of the schema versions, latest version first
+         * @return known versions with the parsed definitions
+         * @throws SchemaParseException if a definition is not a valid Avro schema
+         */
+        static KnownSchemaVersions parse(Compatibility compatibility, List<String> schemaDefinitions) {
+            List<Schema> schemas = new ArrayList<>(schemaDefinitions.size());
+            for (String schemaDefinition : schemaDefinitions) {
+                schemas.add(new Schema.Parser().parse(schemaDefinition));
+            }
+            return new KnownSchemaVersions(compatibility, schemas);
+        }
+
+        KnownSchemaVersions withLatest(Schema latest) {
+            List<Schema> schemas = new ArrayList<>(this.schemas.size() + 1);
+            schemas.add(latest);
+            if (requiresAllVersions(compatibility)) {
+                schemas.addAll(this.schemas);
+            }
+            return new KnownSchemaVersions(compatibility, schemas);
+        }
+    }
+}
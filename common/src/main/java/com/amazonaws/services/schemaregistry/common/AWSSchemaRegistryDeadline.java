@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Absolute deadline of a schema registry operation. It is computed once when the operation starts and
+ * shared by every wait and Glue call the operation makes, so that together they do not exceed it.
+ */
+final class AWSSchemaRegistryDeadline {
+    private static final AWSSchemaRegistryDeadline NONE = new AWSSchemaRegistryDeadline(0, 0);
+
+    private final long timeoutMillis;
+    private final long deadlineNanos;
+
+    private AWSSchemaRegistryDeadline(long timeoutMillis, long deadlineNanos) {
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Starts a deadline.
+     *
+     * @param timeoutMillis time from now until the deadline, 0 for no deadline
+     * @return deadline
+     */
+    static AWSSchemaRegistryDeadline after(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            return NONE;
+        }
+        return new AWSSchemaRegistryDeadline(timeoutMillis,
+                                             System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    boolean isBounded() {
+        return timeoutMillis > 0;
+    }
+
+    long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    boolean hasPassed() {
+        return isBounded() && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Time left until the deadline, for waits that must not outlast it.
+     *
+     * @return remaining time in milliseconds, 0 once the deadline has passed and Long.MAX_VALUE when not bounded
+     */
+    long remainingMillis() {
+        if (!isBounded()) {
+            return Long.MAX_VALUE;
+        }
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(remainingNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+    }
+
+    /**
+     * Time left until the deadline as a timeout, where 0 means no timeout.
+     *
+     * @return remaining time in milliseconds, at least 1, or 0 when not bounded
+     * @throws AWSSchemaRegistryException when the deadline has passed
+     */
+    long remainingTimeoutMillis() {
+        if (!isBounded()) {
+            return 0;
+        }
+        long remainingMillis = remainingMillis();
+        if (remainingMillis == 0) {
+            throw new AWSSchemaRegistryException(String.format("Deadline of %d ms exceeded", timeoutMillis));
+        }
+        return remainingMillis;
+    }
+
+    /**
+     * @param other another deadline
+     * @return whichever of the two deadlines comes first
+     */
+    AWSSchemaRegistryDeadline earliest(AWSSchemaRegistryDeadline other) {
+        if (!other.isBounded()) {
+            return this;
+        }
+        if (!isBounded()) {
+            return other;
+        }
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Client side throttling of Glue API calls. Every Glue operation gets its own token bucket and
+ * in-flight limit for each limit configuration, shared by all the schema registry clients of the JVM
+ * that are configured with the same limits. Clients configured with different limits do not share
+ * limiters. Waiting callers are released in the order they arrived.
+ */
+@Slf4j
+public final class AWSSchemaRegistryGlueClientRateLimiter {
+
+    private static final ConcurrentHashMap<List<Object>, OperationLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private AWSSchemaRegistryGlueClientRateLimiter() {
+    }
+
+    /**
+     * Executes the Glue call once the rate and in-flight limits for the operation allow it.
+     * Limits are created on first use of the operation with a limit configuration and shared for
+     * the lifetime of the JVM.
+     *
+     * @param operation                       Glue operation name
+     * @param glueSchemaRegistryConfiguration schema registry configuration elements, limits are
+     *                                        disabled when null
+     * @param timeoutMillis                   maximum time to wait for the limits to allow the call,
+     *                                        0 waits without bound
+     * @param call                            Glue call to execute
+     * @param <T>                             response type
+     * @return response of the Glue call
+     * @throws AWSSchemaRegistryException when the limits do not allow the call within the timeout, or
+     *                                    when interrupted while waiting for a permit
+     */
+    public static <T> T execute(@NonNull String operation,
+                                GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration,
+                                long timeoutMillis,
+                                @NonNull Supplier<T> call) {
+        if (glueSchemaRegistryConfiguration == null || !isLimited(glueSchemaRegistryConfiguration)) {
+            return call.get();
+        }
+
+        List<Object> key = Arrays.asList(operation, glueSchemaRegistryConfiguration.getGlueApiRequestsPerSecond(),
+                                         glueSchemaRegistryConfiguration.getGlueApiMaxInFlightRequests());
+        OperationLimiter limiter = LIMITERS.computeIfAbsent(key,
+                ignored -> createLimiter(operation, glueSchemaRegistryConfiguration));
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        if (limiter.rateLimiter != null) {
+            if (timeoutMillis <= 0) {
+                limiter.rateLimiter.acquire();
+            } else if (!limiter.rateLimiter.tryAcquire(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                throw timedOut(operation, timeoutMillis);
+            }
+        }
+
+        if (limiter.inFlight == null) {
+            return call.get();
+        }
+
+        try {
+            if (timeoutMillis <= 0) {
+                limiter.inFlight.acquire();
+            } else if (!limiter.inFlight.tryAcquire(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                throw timedOut(operation, timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            String message = String.format("Interrupted while waiting to call Glue operation %s", operation);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+
+        try {
+            return call.get();
+        } finally {
+            limiter.inFlight.release();
+        }
+    }
+
+    @VisibleForTesting
+    static void reset() {
+        LIMITERS.clear();
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    private static AWSSchemaRegistryException timedOut(String operation, long timeoutMillis) {
+        String message = String.format("Glue operation %s was not allowed by the client side limits within %d ms",
+                                       operation, timeoutMillis);
+        return new AWSSchemaRegistryException(message);
+    }
+
+    private static boolean isLimited(GlueSchemaRegistryConfiguration configuration) {
+        return configuration.getGlueApiRequestsPerSecond() > 0 || configuration.getGlueApiMaxInFlightRequests() > 0;
+    }
+
+    private static OperationLimiter createLimiter(String operation, GlueSchemaRegistryConfiguration configuration) {
+        log.info("Limiting Glue operation {} to {} requests per second and {} requests in flight", operation,
+                 configuration.getGlueApiRequestsPerSecond(), configuration.getGlueApiMaxInFlightRequests());
+
+        RateLimiter rateLimiter = configuration.getGlueApiRequestsPerSecond() > 0
+                ? RateLimiter.create(configuration.getGlueApiRequestsPerSecond())
+                : null;
+        Semaphore inFlight = configuration.getGlueApiMaxInFlightRequests() > 0
+                ? new Semaphore(configuration.getGlueApiMaxInFlightRequests(), true)
+                : null;
+
+        return new OperationLimiter(rateLimiter, inFlight);
+    }
+
+    private static class OperationLimiter {
+        private final RateLimiter rateLimiter;
+        private final Semaphore inFlight;
+
+        OperationLimiter(RateLimiter rateLimiter, Semaphore inFlight) {
+            this.rateLimiter = rateLimiter;
+            this.inFlight = inFlight;
+        }
+    }
+}
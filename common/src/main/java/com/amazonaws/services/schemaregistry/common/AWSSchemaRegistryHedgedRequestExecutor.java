@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executes idempotent read requests with hedging. Both attempts run on a small pool owned by the executor while
+ * the calling thread waits for them. When the first attempt has not completed within the configured percentile
+ * of recently observed latencies, an identical second attempt is sent, and the calling thread returns the first
+ * response that succeeds. The other attempt is cancelled and, if it does not respond to interrupts, left to
+ * finish on its pool thread without holding up the caller.
+ */
+@Slf4j
+final class AWSSchemaRegistryHedgedRequestExecutor {
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    private static final int MAX_REQUEST_THREADS = 16;
+    private static final long REQUEST_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadPoolExecutor requestExecutor;
+    private final double percentile;
+    private final long defaultDelayMillis;
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount = 0;
+    private int nextLatencyIndex = 0;
+
+    /**
+     * @param percentile         percentile of the observed latencies to wait before hedging, between 0 and 100
+     * @param defaultDelayMillis delay to wait before hedging until enough latencies are observed
+     */
+    AWSSchemaRegistryHedgedRequestExecutor(double percentile, long defaultDelayMillis) {
+        this.percentile = percentile;
+        this.defaultDelayMillis = defaultDelayMillis;
+        // At most MAX_REQUEST_THREADS attempts run at once. Attempts are never queued: when every thread is busy,
+        // requests run unhedged on the calling thread and hedged attempts are not sent. Idle threads exit so that
+        // unused executors hold no threads.
+        this.requestExecutor = new ThreadPoolExecutor(0, MAX_REQUEST_THREADS, REQUEST_THREAD_KEEP_ALIVE_SECONDS,
+                                                      TimeUnit.SECONDS, new SynchronousQueue<>(),
+                                                      new ThreadFactoryBuilder()
+                                                              .setNameFormat("glue-schema-registry-hedged-request-%d")
+                                                              .setDaemon(true)
+                                                              .build());
+    }
+
+    /**
+     * Executes the request, sending a hedged attempt if the first one is slow. No attempt is hedged when the
+     * deadline of the request comes before the hedging delay, and waiting for the attempts does not outlast
+     * the deadline.
+     *
+     * @param request  idempotent request to execute
+     * @param deadline deadline of the request
+     * @param <T>      response type
+     * @return response of the first attempt that succeeded
+     * @throws AWSSchemaRegistryException when no attempt succeeded before the deadline
+     */
+    <T> T execute(Supplier<T> request, AWSSchemaRegistryDeadline deadline) {
+        long delayMillis = getHedgingDelayMillis();
+        if (deadline.remainingMillis() <= delayMillis) {
+            return executeUnhedged(request);
+        }
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(requestExecutor);
+        Map<Future<T>, Long> pendingAttempts = new HashMap<>();
+        try {
+            if (!submit(completionService, request, pendingAttempts)) {
+                log.debug("No thread available for hedged requests, sending request without hedging");
+                return executeUnhedged(request);
+            }
+
+            Future<T> completedAttempt = completionService.poll(delayMillis, TimeUnit.MILLISECONDS);
+            if (completedAttempt == null) {
+                log.debug("Request did not complete within {} ms, sending hedged request", delayMillis);
+                submit(completionService, request, pendingAttempts);
+            }
+
+            Throwable failure = null;
+            while (!pendingAttempts.isEmpty()) {
+                if (completedAttempt == null) {
+                    completedAttempt = completionService.poll(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+                    if (completedAttempt == null) {
+                        abandon(pendingAttempts, delayMillis);
+                        throw new AWSSchemaRegistryException(String.format("Request did not complete within %d ms",
+                                                                           deadline.getTimeoutMillis()));
+                    }
+                }
+
+                long startNanos = pendingAttempts.remove(completedAttempt);
+                try {
+                    T response = completedAttempt.get();
+                    recordLatency(elapsedMillis(startNanos));
+                    abandon(pendingAttempts, delayMillis);
+                    return response;
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                }
+                completedAttempt = null;
+            }
+            throw propagate(failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(pendingAttempts, delayMillis);
+            throw new AWSSchemaRegistryException("Interrupted while waiting for hedged request", e);
+        }
+    }
+
+    private <T> T executeUnhedged(Supplier<T> request) {
+        long startNanos = System.nanoTime();
+        T response = request.get();
+        recordLatency(elapsedMillis(startNanos));
+        return response;
+    }
+
+    /**
+     * Sends an attempt on the pool.
+     *
+     * @return false when every thread of the pool is busy and the attempt was not sent
+     */
+    private <T> boolean submit(CompletionService<T> completionService, Supplier<T> request,
+                               Map<Future<T>, Long> pendingAttempts) {
+        try {
+            pendingAttempts.put(completionService.submit(request::get), System.nanoTime());
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Cancels the attempts that are still running. An abandoned attempt took at least the hedging delay, which
+     * is recorded so that the observed latencies are not biased towards the attempts that completed.
+     */
+    private <T> void abandon(Map<Future<T>, Long> pendingAttempts, long delayMillis) {
+        for (Map.Entry<Future<T>, Long> pendingAttempt : pendingAttempts.entrySet()) {
+            recordLatency(Math.max(elapsedMillis(pendingAttempt.getValue()), delayMillis));
+            pendingAttempt.getKey().cancel(true);
+        }
+        pendingAttempts.clear();
+    }
+
+    /**
+     * Delay to wait for the first attempt before sending the hedged one.
+     *
+     * @return delay in milliseconds
+     */
+    @VisibleForTesting
+    synchronized long getHedgingDelayMillis() {
+        if (latencyCount < MIN_LATENCY_SAMPLES) {
+            return defaultDelayMillis;
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * latencyCount) - 1;
+        return sorted[Math.max(0, Math.min(index, latencyCount - 1))];
+    }
+
+    @VisibleForTesting
+    synchronized void recordLatency(long latencyMillis) {
+        latencies[nextLatencyIndex] = latencyMillis;
+        nextLatencyIndex = (nextLatencyIndex + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+    }
+
+    @VisibleForTesting
+    synchronized int getLatencyCount() {
+        return latencyCount;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new AWSSchemaRegistryException(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants.ReadRegionSelection;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Routes read requests across the primary region and the configured read regions. Healthy regions are
+ * tried first, either in the configured order or by lowest observed latency. A region that fails is
+ * skipped for a cool down period and the request fails over to the next region. Observed latencies age
+ * out, so that a region that was slow once is tried again and can win back its rank.
+ */
+@Slf4j
+final class AWSSchemaRegistryReadRouter {
+    private static final long UNHEALTHY_COOL_DOWN_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long LATENCY_TIME_TO_LIVE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+    private final List<ReadRegion> regions;
+    private final ReadRegionSelection readRegionSelection;
+    private final long latencyTimeToLiveNanos;
+
+    /**
+     * @param clients             Glue clients by region, in order of preference with the primary region first
+     * @param readRegionSelection how to pick between the healthy regions
+     */
+    AWSSchemaRegistryReadRouter(Map<String, GlueClient> clients, ReadRegionSelection readRegionSelection) {
+        this(clients, readRegionSelection, LATENCY_TIME_TO_LIVE_NANOS);
+    }
+
+    @VisibleForTesting
+    AWSSchemaRegistryReadRouter(Map<String, GlueClient> clients, ReadRegionSelection readRegionSelection,
+                                long latencyTimeToLiveNanos) {
+        this.regions = clients.entrySet()
+                .stream()
+                .map(entry -> new ReadRegion(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        this.readRegionSelection = readRegionSelection;
+        this.latencyTimeToLiveNanos = latencyTimeToLiveNanos;
+    }
+
+    /**
+     * Executes the read request against the preferred region, failing over to the other regions on errors.
+     * A schema version not being found does not mark the region unhealthy, as it may not be replicated yet.
+     *
+     * @param request read request to execute with the Glue client of a region
+     * @param <T>     response type
+     * @return response of the first region that succeeded
+     */
+    <T> T execute(Function<GlueClient, T> request) {
+        RuntimeException failure = null;
+
+        for (ReadRegion region : getOrderedRegions()) {
+            long start = System.nanoTime();
+            try {
+                T response = request.apply(region.client);
+                region.recordLatency(System.nanoTime() - start, latencyTimeToLiveNanos);
+                return response;
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                if (!(e instanceof EntityNotFoundException)) {
+                    region.markUnhealthy();
+                }
+                log.warn("Read request failed in region {}, failing over to the next region", region.name, e);
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    @VisibleForTesting
+    List<String> getRegionOrder() {
+        return getOrderedRegions().stream().map(region -> region.name).collect(Collectors.toList());
+    }
+
+    private List<ReadRegion> getOrderedRegions() {
+        long now = System.nanoTime();
+        Comparator<ReadRegion> comparator = Comparator.comparing(region -> !region.isHealthy(now));
+        if (readRegionSelection == ReadRegionSelection.LATENCY) {
+            // A region without a recent latency ranks first, so the next request measures it again.
+            comparator = comparator.thenComparingLong(region -> region.getLatencyNanos(now, latencyTimeToLiveNanos));
+        }
+
+        List<ReadRegion> orderedRegions = new ArrayList<>(regions);
+        orderedRegions.sort(comparator);
+        return orderedRegions;
+    }
+
+    private static final class ReadRegion {
+        private final String name;
+        private final GlueClient client;
+        private volatile long latencyNanos = 0;
+        private volatile long latencyRecordedNanos;
+        private volatile long unhealthyUntilNanos = System.nanoTime();
+
+        ReadRegion(String name, GlueClient client) {
+            this.name = name;
+            this.client = client;
+        }
+
+        boolean isHealthy(long now) {
+            return now - unhealthyUntilNanos >= 0;
+        }
+
+        void markUnhealthy() {
+            unhealthyUntilNanos = System.nanoTime() + UNHEALTHY_COOL_DOWN_NANOS;
+        }
+
+        /**
+         * @return smoothed latency, or 0 when the region has no latency observed within the time to live
+         */
+        long getLatencyNanos(long now, long latencyTimeToLiveNanos) {
+            return now - latencyRecordedNanos > latencyTimeToLiveNanos ? 0 : latencyNanos;
+        }
+
+        void recordLatency(long elapsedNanos, long latencyTimeToLiveNanos) {
+            long now = System.nanoTime();
+            long currentLatencyNanos = getLatencyNanos(now, latencyTimeToLiveNanos);
+            latencyNanos = currentLatencyNanos == 0
+                    ? elapsedNanos
+                    : (long) (LATENCY_SMOOTHING_FACTOR * elapsedNanos
+                              + (1 - LATENCY_SMOOTHING_FACTOR) * currentLatencyNanos);
+            latencyRecordedNanos = now;
+        }
+    }
+}
@@ -19,12 +19,18 @@ import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryExceptio
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryUtils;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
+import com.amazonaws.services.schemaregistry.utils.AvroStringType;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.EnumUtils;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -43,12 +49,32 @@ public class GlueSchemaRegistryConfiguration {
     private long timeToLiveMillis = 24 * 60 * 60 * 1000L;
     private int cacheSize = 200;
     private AvroRecordType avroRecordType;
+    private AvroStringType avroStringType;
+    private Map<String, String> readerSchemas = new HashMap<>();
+    private boolean avroPrecompiledCodecsEnabled = false;
+    private List<String> preloadSchemas = new ArrayList<>();
+    private List<String> preloadTopics = new ArrayList<>();
     private String registryName;
     private Compatibility compatibilitySetting;
     private String description;
     private boolean schemaAutoRegistrationEnabled = false;
+    private boolean compatibilityPreCheckEnabled = false;
     private Map<String, String> tags = new HashMap<>();
     private Map<String, String> metadata;
+    private double glueApiRequestsPerSecond = 0;
+    private int glueApiMaxInFlightRequests = 0;
+    private double hedgedRequestsPercentile = 0;
+    private long hedgedRequestsDefaultDelayMillis = 100;
+    private long apiCallTimeoutMillis = 0;
+    private long apiCallAttemptTimeoutMillis = 0;
+    private long lookupDeadlineMillis = 0;
+    private long registrationDeadlineMillis = 0;
+    private long evolutionWaitDeadlineMillis = 0;
+    private long metadataDeadlineMillis = 0;
+    private Map<String, String> readRegions = new LinkedHashMap<>();
+    private AWSSchemaRegistryConstants.ReadRegionSelection readRegionSelection =
+            AWSSchemaRegistryConstants.ReadRegionSelection.LATENCY;
+    private int batchSchemaResolutionParallelism = 8;
 
     private static final String DELIMITER = "-";
 
@@ -69,6 +95,10 @@ public class GlueSchemaRegistryConfiguration {
     private void buildConfigs(Map<String, ?> configs) {
         buildSchemaRegistryConfigs(configs);
         buildCacheConfigs(configs);
+        buildGlueApiLimitConfigs(configs);
+        buildHedgedRequestsConfigs(configs);
+        buildTimeoutConfigs(configs);
+        buildReadRegionConfigs(configs);
     }
 
     private void buildSchemaRegistryConfigs(Map<String, ?> configs) {
@@ -77,16 +107,49 @@ public class GlueSchemaRegistryConfiguration {
         validateAndSetRegistryName(configs);
         validateAndSetDescription(configs);
         validateAndSetAvroRecordType(configs);
+        validateAndSetAvroStringType(configs);
+        validateAndSetReaderSchemas(configs);
+        validateAndSetAvroPrecompiledCodecsSetting(configs);
         validateAndSetCompatibility(configs);
         validateAndSetCompressionType(configs);
         validateAndSetSchemaAutoRegistrationSetting(configs);
+        validateAndSetCompatibilityPreCheckSetting(configs);
         validateAndSetTags(configs);
         validateAndSetMetadata(configs);
+        validateAndSetPreloadSchemas(configs);
     }
 
     private void buildCacheConfigs(Map<String, ?> configs) {
         validateAndSetCacheSize(configs);
         validateAndSetCacheTTL(configs);
+        validateAndSetBatchSchemaResolutionParallelism(configs);
+    }
+
+    private void buildGlueApiLimitConfigs(Map<String, ?> configs) {
+        validateAndSetGlueApiRequestsPerSecond(configs);
+        validateAndSetGlueApiMaxInFlightRequests(configs);
+    }
+
+    private void buildHedgedRequestsConfigs(Map<String, ?> configs) {
+        validateAndSetHedgedRequestsPercentile(configs);
+        validateAndSetHedgedRequestsDefaultDelay(configs);
+    }
+
+    private void buildTimeoutConfigs(Map<String, ?> configs) {
+        this.apiCallTimeoutMillis = validateAndGetTimeout(configs, AWSSchemaRegistryConstants.API_CALL_TIMEOUT_MILLIS);
+        this.apiCallAttemptTimeoutMillis =
+                validateAndGetTimeout(configs, AWSSchemaRegistryConstants.API_CALL_ATTEMPT_TIMEOUT_MILLIS);
+        this.lookupDeadlineMillis = validateAndGetTimeout(configs, AWSSchemaRegistryConstants.LOOKUP_DEADLINE_MILLIS);
+        this.registrationDeadlineMillis =
+                validateAndGetTimeout(configs, AWSSchemaRegistryConstants.REGISTRATION_DEADLINE_MILLIS);
+        this.evolutionWaitDeadlineMillis =
+                validateAndGetTimeout(configs, AWSSchemaRegistryConstants.EVOLUTION_WAIT_DEADLINE_MILLIS);
+        this.metadataDeadlineMillis = validateAndGetTimeout(configs, AWSSchemaRegistryConstants.METADATA_DEADLINE_MILLIS);
+    }
+
+    private void buildReadRegionConfigs(Map<String, ?> configs) {
+        validateAndSetReadRegions(configs);
+        validateAndSetReadRegionSelection(configs);
     }
 
     private void validateAndSetCompressionType(Map<String, ?> configs) {
@@ -181,6 +244,167 @@ public class GlueSchemaRegistryConfiguration {
         }
     }
 
+    private void validateAndSetBatchSchemaResolutionParallelism(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.BATCH_SCHEMA_RESOLUTION_PARALLELISM)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.BATCH_SCHEMA_RESOLUTION_PARALLELISM));
+            try {
+                this.batchSchemaResolutionParallelism = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                String message = String.format("Batch schema resolution parallelism is not a valid number : %s", value);
+                throw new AWSSchemaRegistryException(message, e);
+            }
+
+            if (this.batchSchemaResolutionParallelism <= 0) {
+                String message = String.format("Batch schema resolution parallelism must be positive : %s", value);
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetGlueApiRequestsPerSecond(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.GLUE_API_REQUESTS_PER_SECOND)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.GLUE_API_REQUESTS_PER_SECOND));
+            try {
+                this.glueApiRequestsPerSecond = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                String message = String.format("Glue API requests per second is not a valid rate : %s", value);
+                throw new AWSSchemaRegistryException(message, e);
+            }
+
+            if (this.glueApiRequestsPerSecond < 0) {
+                String message = String.format("Glue API requests per second cannot be negative : %s", value);
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetGlueApiMaxInFlightRequests(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.GLUE_API_MAX_IN_FLIGHT_REQUESTS)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.GLUE_API_MAX_IN_FLIGHT_REQUESTS));
+            try {
+                this.glueApiMaxInFlightRequests = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                String message = String.format("Glue API max in flight requests is not a valid number : %s", value);
+                throw new AWSSchemaRegistryException(message, e);
+            }
+
+            if (this.glueApiMaxInFlightRequests < 0) {
+                String message = String.format("Glue API max in flight requests cannot be negative : %s", value);
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetHedgedRequestsPercentile(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.HEDGED_REQUESTS_PERCENTILE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.HEDGED_REQUESTS_PERCENTILE));
+            try {
+                this.hedgedRequestsPercentile = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                String message = String.format("Hedged requests percentile is not a valid percentile : %s", value);
+                throw new AWSSchemaRegistryException(message, e);
+            }
+
+            if (this.hedgedRequestsPercentile < 0 || this.hedgedRequestsPercentile > 100) {
+                String message = String.format("Hedged requests percentile must be between 0 and 100 : %s", value);
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private void validateAndSetHedgedRequestsDefaultDelay(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.HEDGED_REQUESTS_DEFAULT_DELAY_MILLIS)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.HEDGED_REQUESTS_DEFAULT_DELAY_MILLIS));
+            try {
+                this.hedgedRequestsDefaultDelayMillis = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                String message = String.format("Hedged requests default delay is not a valid time : %s", value);
+                throw new AWSSchemaRegistryException(message, e);
+            }
+
+            if (this.hedgedRequestsDefaultDelayMillis < 0) {
+                String message = String.format("Hedged requests default delay cannot be negative : %s", value);
+                throw new AWSSchemaRegistryException(message);
+            }
+        }
+    }
+
+    private long validateAndGetTimeout(Map<String, ?> configs, String key) {
+        if (!isPresent(configs, key)) {
+            return 0;
+        }
+
+        String value = String.valueOf(configs.get(key));
+        long timeoutMillis;
+        try {
+            timeoutMillis = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            String message = String.format("%s is not a valid time : %s", key, value);
+            throw new AWSSchemaRegistryException(message, e);
+        }
+
+        if (timeoutMillis < 0) {
+            String message = String.format("%s cannot be negative : %s", key, value);
+            throw new AWSSchemaRegistryException(message);
+        }
+        return timeoutMillis;
+    }
+
+    private void validateAndSetReadRegions(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.READ_REGIONS)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.READ_REGIONS));
+            for (String entry : value.split(",")) {
+                String[] regionAndEndpoint = entry.trim().split("=", 2);
+                String readRegion = regionAndEndpoint[0].trim();
+                if (readRegion.isEmpty()) {
+                    String message = String.format("Read regions contain an empty region : %s", value);
+                    throw new AWSSchemaRegistryException(message);
+                }
+                this.readRegions.put(readRegion, regionAndEndpoint.length > 1 ? regionAndEndpoint[1].trim() : null);
+            }
+        }
+    }
+
+    private void validateAndSetReadRegionSelection(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.READ_REGION_SELECTION)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.READ_REGION_SELECTION));
+            try {
+                this.readRegionSelection = AWSSchemaRegistryConstants.ReadRegionSelection.valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                String message = String.format("Invalid read region selection : %s, Accepted values are : %s", value,
+                                               Arrays.toString(AWSSchemaRegistryConstants.ReadRegionSelection.values()));
+                throw new AWSSchemaRegistryException(message, e);
+            }
+        }
+    }
+
+    private void validateAndSetPreloadSchemas(Map<String, ?> configs) {
+        this.preloadSchemas = getListConfig(configs, AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, "Preload schemas");
+        this.preloadTopics = getListConfig(configs, AWSSchemaRegistryConstants.PRELOAD_TOPICS, "Preload topics");
+    }
+
+    /**
+     * Gets a list config, given either as a collection or as a comma separated string.
+     */
+    private List<String> getListConfig(Map<String, ?> configs, String key, String name) {
+        List<String> values = new ArrayList<>();
+        if (isPresent(configs, key)) {
+            Object value = configs.get(key);
+            Collection<?> entries = value instanceof Collection
+                    ? (Collection<?>) value
+                    : Arrays.asList(String.valueOf(value).split(","));
+            for (Object entry : entries) {
+                String trimmedEntry = entry == null ? "" : entry.toString().trim();
+                if (trimmedEntry.isEmpty()) {
+                    String message = String.format("%s contain an empty entry : %s", name, value);
+                    throw new AWSSchemaRegistryException(message);
+                }
+                values.add(trimmedEntry);
+            }
+        }
+        return values;
+    }
+
     private void validateAndSetAvroRecordType(Map<String, ?> configs) {
         if (isPresent(configs, AWSSchemaRegistryConstants.AVRO_RECORD_TYPE)) {
             this.avroRecordType =
@@ -188,6 +412,43 @@ public class GlueSchemaRegistryConfiguration {
         }
     }
 
+    private void validateAndSetAvroStringType(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.AVRO_STRING_TYPE)) {
+            String value = String.valueOf(configs.get(AWSSchemaRegistryConstants.AVRO_STRING_TYPE));
+            try {
+                this.avroStringType = AvroStringType.valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                String message = String.format("Invalid Avro string type : %s, Accepted values are : %s", value,
+                                               Arrays.toString(AvroStringType.values()));
+                throw new AWSSchemaRegistryException(message, e);
+            }
+        }
+    }
+
+    private void validateAndSetReaderSchemas(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.READER_SCHEMAS)) {
+            if (!(configs.get(AWSSchemaRegistryConstants.READER_SCHEMAS) instanceof Map)) {
+                throw new AWSSchemaRegistryException("The reader schemas config is not a map of topic or schema name "
+                                                     + "to reader schema definition");
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) configs.get(AWSSchemaRegistryConstants.READER_SCHEMAS)).entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    String message = String.format("Reader schemas contain an empty entry : %s=%s", entry.getKey(),
+                                                   entry.getValue());
+                    throw new AWSSchemaRegistryException(message);
+                }
+                this.readerSchemas.put(entry.getKey().toString(), entry.getValue().toString());
+            }
+        }
+    }
+
+    private void validateAndSetAvroPrecompiledCodecsSetting(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.AVRO_PRECOMPILED_CODECS_ENABLED)) {
+            this.avroPrecompiledCodecsEnabled = Boolean.parseBoolean(
+                    configs.get(AWSSchemaRegistryConstants.AVRO_PRECOMPILED_CODECS_ENABLED).toString());
+        }
+    }
+
     private void validateAndSetSchemaAutoRegistrationSetting(Map<String, ?> configs) {
         if (isPresent(configs, AWSSchemaRegistryConstants.SCHEMA_AUTO_REGISTRATION_SETTING)) {
             this.schemaAutoRegistrationEnabled = Boolean.parseBoolean(configs.get(AWSSchemaRegistryConstants.SCHEMA_AUTO_REGISTRATION_SETTING).toString());
@@ -197,6 +458,13 @@ public class GlueSchemaRegistryConfiguration {
         }
     }
 
+    private void validateAndSetCompatibilityPreCheckSetting(Map<String, ?> configs) {
+        if (isPresent(configs, AWSSchemaRegistryConstants.COMPATIBILITY_PRE_CHECK_ENABLED)) {
+            this.compatibilityPreCheckEnabled = Boolean.parseBoolean(
+                    configs.get(AWSSchemaRegistryConstants.COMPATIBILITY_PRE_CHECK_ENABLED).toString());
+        }
+    }
+
     private void validateAndSetTags(Map<String, ?> configs) throws AWSSchemaRegistryException {
         if (isPresent(configs, AWSSchemaRegistryConstants.TAGS)) {
             Map<String, String> tagsMap;
@@ -131,6 +131,11 @@ public final class AWSSchemaRegistryConstants {
      * Config to allow auto registrations of Schema.
      */
     public static final String SCHEMA_AUTO_REGISTRATION_SETTING = "schemaAutoRegistrationEnabled";
+    /**
+     * Check Avro schema definitions against the known versions of their schema before auto-registering them,
+     * failing incompatible definitions without calling the schema registry.
+     */
+    public static final String COMPATIBILITY_PRE_CHECK_ENABLED = "compatibilityPreCheckEnabled";
     /**
      * Tags for schema and registry.
      */
@@ -143,6 +148,117 @@ public final class AWSSchemaRegistryConstants {
      * Default transport name metadata key.
      */
     public static final String TRANSPORT_METADATA_KEY = "x-amz-meta-transport";
+    /**
+     * Maximum number of requests per second sent to each Glue operation from this JVM, shared by the clients
+     * configured with the same limits.
+     */
+    public static final String GLUE_API_REQUESTS_PER_SECOND = "glueApiRequestsPerSecond";
+    /**
+     * Maximum number of concurrent requests in flight to each Glue operation from this JVM, shared by the clients
+     * configured with the same limits.
+     */
+    public static final String GLUE_API_MAX_IN_FLIGHT_REQUESTS = "glueApiMaxInFlightRequests";
+    /**
+     * Percentile of recent GetSchemaVersion latencies after which a hedged request is sent.
+     */
+    public static final String HEDGED_REQUESTS_PERCENTILE = "hedgedRequestsPercentile";
+    /**
+     * Delay before sending a hedged request, used until enough latencies are observed.
+     */
+    public static final String HEDGED_REQUESTS_DEFAULT_DELAY_MILLIS = "hedgedRequestsDefaultDelayMillis";
+    /**
+     * Time allowed for a single Glue API call, including all of its retries.
+     */
+    public static final String API_CALL_TIMEOUT_MILLIS = "apiCallTimeoutMillis";
+    /**
+     * Time allowed for each HTTP attempt of a Glue API call.
+     */
+    public static final String API_CALL_ATTEMPT_TIMEOUT_MILLIS = "apiCallAttemptTimeoutMillis";
+    /**
+     * Deadline for schema lookups by definition or by schema version id, including waiting for the client side limits
+     * and hedged lookups.
+     */
+    public static final String LOOKUP_DEADLINE_MILLIS = "lookupDeadlineMillis";
+    /**
+     * Deadline for schema creation and schema version registration, including the wait for the schema evolution check.
+     */
+    public static final String REGISTRATION_DEADLINE_MILLIS = "registrationDeadlineMillis";
+    /**
+     * Deadline for waiting on the schema evolution check of a newly registered schema version, within the registration
+     * deadline.
+     */
+    public static final String EVOLUTION_WAIT_DEADLINE_MILLIS = "evolutionWaitDeadlineMillis";
+    /**
+     * Deadline for schema version metadata and tags calls.
+     */
+    public static final String METADATA_DEADLINE_MILLIS = "metadataDeadlineMillis";
+    /**
+     * Comma separated list of additional regions to read schema versions from. An entry can be a region,
+     * or a region and endpoint in the form region=endpoint.
+     */
+    public static final String READ_REGIONS = "readRegions";
+    /**
+     * How the read path picks between the configured region and the read regions.
+     */
+    public static final String READ_REGION_SELECTION = "readRegionSelection";
+    /**
+     * Maximum number of schema versions fetched concurrently when resolving the schemas of a batch of records,
+     * or looked up and registered concurrently when preloading schemas.
+     */
+    public static final String BATCH_SCHEMA_RESOLUTION_PARALLELISM = "batchSchemaResolutionParallelism";
+    /**
+     * Put the schema version id and compression byte in Kafka record headers instead of prepending them to the data.
+     */
+    public static final String SCHEMA_VERSION_ID_IN_HEADERS = "schemaVersionIdInHeaders";
+    /**
+     * Kafka record header holding the schema version id of the record key.
+     */
+    public static final String KEY_SCHEMA_VERSION_ID_HEADER = "glue.key.schemaVersionId";
+    /**
+     * Kafka record header holding the compression byte of the record key.
+     */
+    public static final String KEY_COMPRESSION_HEADER = "glue.key.compression";
+    /**
+     * Kafka record header holding the schema version id of the record value.
+     */
+    public static final String VALUE_SCHEMA_VERSION_ID_HEADER = "glue.value.schemaVersionId";
+    /**
+     * Kafka record header holding the compression byte of the record value.
+     */
+    public static final String VALUE_COMPRESSION_HEADER = "glue.value.compression";
+    /**
+     * Java type that generic Avro records de-serialize string values to.
+     */
+    public static final String AVRO_STRING_TYPE = "avroStringType";
+    /**
+     * Avro reader schemas by topic or schema name. Records are decoded into the reader schema,
+     * skipping the writer schema fields that it does not contain.
+     */
+    public static final String READER_SCHEMAS = "readerSchemas";
+    /**
+     * Compile Avro readers and writers once per schema instead of interpreting the schema for every record.
+     */
+    public static final String AVRO_PRECOMPILED_CODECS_ENABLED = "avroPrecompiledCodecsEnabled";
+    /**
+     * Avro schema definitions or SpecificRecord class names that serializers look up or register when they are
+     * configured, so that the first records do not wait on the schema registry. A string value is a comma separated
+     * list of class names.
+     */
+    public static final String PRELOAD_SCHEMAS = "preloadSchemas";
+    /**
+     * Comma separated list of topics the Kafka serializer preloads the schemas for.
+     */
+    public static final String PRELOAD_TOPICS = "preloadTopics";
+    /**
+     * Schema of the keys in Kafka Streams state stores, as an Avro schema definition or a SpecificRecord class name.
+     * Changing it makes the keys already in the stores and their changelog topics unreadable.
+     */
+    public static final String STORE_KEY_SCHEMA = "storeKeySchema";
+    /**
+     * Schema of the values in Kafka Streams state stores, as an Avro schema definition or a SpecificRecord class
+     * name. Changing it makes the values already in the stores and their changelog topics unreadable.
+     */
+    public static final String STORE_VALUE_SCHEMA = "storeValueSchema";
     /**
      * Private constructor to avoid initialization of the class.
      */
@@ -174,6 +290,20 @@ public final class AWSSchemaRegistryConstants {
         DELETING
     }
 
+    /**
+     * Strategies for picking the region to read schema versions from.
+     */
+    public enum ReadRegionSelection {
+        /**
+         * Try the regions in the configured order, starting with the primary region.
+         */
+        ORDERED,
+        /**
+         * Try the regions with the lowest observed lookup latency first.
+         */
+        LATENCY
+    }
+
     public enum COMPRESSION {
         /**
          * default no compression.
@@ -76,6 +76,17 @@ public final class AWSSchemaRegistryUtils {
                String.valueOf(configs.get(AWSSchemaRegistryConstants.SCHEMA_NAME)) : null;
     }
 
+    /**
+     * Returns whether the schema version id is put in Kafka record headers.
+     *
+     * @param configs map of configuration elements
+     * @return true if the schema version id is put in record headers, false if it is prepended to the data.
+     */
+    public boolean isSchemaVersionIdInHeaders(Map<String, ?> configs) {
+        return checkIfPresentInMap(configs, AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_IN_HEADERS)
+               && Boolean.parseBoolean(String.valueOf(configs.get(AWSSchemaRegistryConstants.SCHEMA_VERSION_ID_IN_HEADERS)));
+    }
+
     /**
      * Instantiates classes provided in the kafka properties.
      *
@@ -34,7 +34,12 @@ public enum AvroRecordType {
     /**
      * Generic record type.
      */
-    GENERIC_RECORD("GENERIC_RECORD", 2);
+    GENERIC_RECORD("GENERIC_RECORD", 2),
+
+    /**
+     * Generic record type that decodes its fields on first access.
+     */
+    LAZY_GENERIC_RECORD("LAZY_GENERIC_RECORD", 3);
 
     /**
      * Name of the Data Format.
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.utils;
+
+/**
+ * Defines the Java types Avro string values can be de-serialized to.
+ */
+public enum AvroStringType {
+    /**
+     * org.apache.avro.util.Utf8, holding the undecoded UTF-8 bytes.
+     */
+    UTF8,
+
+    /**
+     * java.lang.String, decoded from UTF-8 when the value is read.
+     */
+    STRING,
+
+    /**
+     * java.lang.CharSequence, read as org.apache.avro.util.Utf8.
+     */
+    CHARSEQUENCE
+}
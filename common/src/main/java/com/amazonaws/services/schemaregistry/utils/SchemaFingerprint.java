@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.NonNull;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaParseException;
+import org.apache.avro.SchemaNormalization;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 64-bit fingerprints of schema definitions. Avro definitions are normalized before they are fingerprinted, so
+ * definitions that only differ in whitespace, schema or field docs or the order of the attributes share a
+ * fingerprint. Unlike the Avro Parsing Canonical Form, the normalized form keeps defaults, aliases, logical types
+ * and custom properties, as they matter to schema evolution and to the readers of the schema.
+ */
+public final class SchemaFingerprint {
+    private static final int MAXIMUM_CACHED_DEFINITIONS = 1000;
+    private static final String DOC = "doc";
+    private static final String TYPE = "type";
+    private static final String FIELDS = "fields";
+    private static final String ITEMS = "items";
+    private static final String VALUES = "values";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // Keyed by definition identity, so callers passing the same definition instance skip hashing it
+    private static final Cache<String, Long> AVRO_FINGERPRINTS_BY_INSTANCE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(MAXIMUM_CACHED_DEFINITIONS)
+            .build();
+    private static final Cache<String, Long> AVRO_FINGERPRINTS = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_DEFINITIONS)
+            .build();
+
+    /**
+     * Position of a JSON node in an Avro schema, which decides whether its doc attribute is documentation.
+     */
+    private enum Position {
+        SCHEMA,
+        FIELD,
+        VALUE
+    }
+
+    /**
+     * Private constructor to avoid initialization of the class.
+     */
+    private SchemaFingerprint() {
+    }
+
+    /**
+     * Fingerprints a schema definition. Avro definitions are parsed once and their fingerprints are cached, by
+     * definition instance and by definition. Definitions of other data formats, and Avro definitions that do not
+     * parse, are fingerprinted as they are.
+     *
+     * @param schemaDefinition schema definition
+     * @param dataFormat       data format of the schema definition
+     * @return 64-bit fingerprint
+     */
+    public static long of(@NonNull String schemaDefinition, String dataFormat) {
+        if (!DataFormat.AVRO.name().equals(dataFormat)) {
+            return fingerprint(schemaDefinition);
+        }
+        try {
+            return AVRO_FINGERPRINTS_BY_INSTANCE.get(schemaDefinition, () ->
+                    AVRO_FINGERPRINTS.get(schemaDefinition, () -> fingerprintAvro(schemaDefinition)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            return fingerprint(schemaDefinition);
+        }
+    }
+
+    /**
+     * Normalized form of an Avro schema: its full JSON form with sorted attributes and without the docs of the
+     * schemas and fields. Doc attributes inside defaults and custom properties are kept.
+     *
+     * @param schema Avro schema
+     * @return normalized JSON form of the schema
+     */
+    public static String normalize(@NonNull Schema schema) {
+        try {
+            return normalize(OBJECT_MAPPER.readTree(schema.toString()), Position.SCHEMA).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to normalize the schema: " + schema.getFullName(), e);
+        }
+    }
+
+    private static long fingerprintAvro(String schemaDefinition) {
+        try {
+            return fingerprint(normalize(new Schema.Parser().parse(schemaDefinition)));
+        } catch (SchemaParseException e) {
+            return fingerprint(schemaDefinition);
+        }
+    }
+
+    private static long fingerprint(String value) {
+        return SchemaNormalization.fingerprint64(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JsonNode normalize(JsonNode node, Position position) {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+
+            ObjectNode normalized = JsonNodeFactory.instance.objectNode();
+            for (String name : names) {
+                if (position != Position.VALUE && DOC.equals(name)) {
+                    continue;
+                }
+                normalized.set(name, normalize(node.get(name), childPosition(position, name)));
+            }
+            return normalized;
+        }
+        if (node.isArray()) {
+            // The elements of a union are schemas and those of the fields array are fields
+            ArrayNode normalized = JsonNodeFactory.instance.arrayNode();
+            node.forEach(element -> normalized.add(normalize(element, position)));
+            return normalized;
+        }
+        return node;
+    }
+
+    private static Position childPosition(Position position, String name) {
+        if (position == Position.SCHEMA) {
+            if (FIELDS.equals(name)) {
+                return Position.FIELD;
+            }
+            if (TYPE.equals(name) || ITEMS.equals(name) || VALUES.equals(name)) {
+                return Position.SCHEMA;
+            }
+        } else if (position == Position.FIELD && TYPE.equals(name)) {
+            return Position.SCHEMA;
+        }
+        return Position.VALUE;
+    }
+}
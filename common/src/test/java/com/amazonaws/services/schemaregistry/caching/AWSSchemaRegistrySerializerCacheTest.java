@@ -93,6 +93,20 @@ public class AWSSchemaRegistrySerializerCacheTest {
         assertNull(awsSchemaRegistrySerializerCache.get(keyObjToTest));
     }
 
+    @Test
+    public void testPut_equivalentSchemaDefinition_sharesCacheEntry() throws Exception {
+        org.apache.avro.Schema schema = getSchema(AVRO_USER_SCHEMA_FILE);
+        Schema compactKey = new Schema(schema.toString(), DataFormat.AVRO.name(), "test-schema");
+        Schema prettyKey = new Schema(schema.toString(true), DataFormat.AVRO.name(), "test-schema");
+
+        awsSchemaRegistrySerializerCache.put(compactKey, TEST_GENERIC_SCHEMA_VERSION_ID);
+
+        assertEquals(TEST_GENERIC_SCHEMA_VERSION_ID, awsSchemaRegistrySerializerCache.get(prettyKey));
+        assertNull(awsSchemaRegistrySerializerCache.get(
+                new Schema(schema.toString(true), DataFormat.AVRO.name(), "other-schema")));
+        assertEquals(1, awsSchemaRegistrySerializerCache.getCacheSize());
+    }
+
     @Test
     public void testCacheSize_exceedCacheSizeLimit_cacheSizeInLimit() throws Exception {
         int cacheSizeLimit = serdeConfigs.getCacheSize();
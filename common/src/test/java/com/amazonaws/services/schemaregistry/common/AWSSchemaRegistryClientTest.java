@@ -28,17 +28,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
+import software.amazon.awssdk.services.glue.model.Compatibility;
 import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
 import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
 import software.amazon.awssdk.services.glue.model.DataFormat;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.GetTagsRequest;
@@ -52,18 +58,23 @@ import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
 import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -71,6 +82,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -293,6 +305,126 @@ public class AWSSchemaRegistryClientTest {
         assertEquals(SCHEMA_ID_FOR_TESTING.toString(), awsSchemaRegistryClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString()).schemaVersionId());
     }
 
+    @Test
+    public void testGetSchemaVersionResponse_hedgedRequestsEnabled_returnsResponseSchemaVersionId() {
+        configs.put(AWSSchemaRegistryConstants.HEDGED_REQUESTS_PERCENTILE, "99");
+        awsSchemaRegistryClient = new AWSSchemaRegistryClient(new GlueSchemaRegistryConfiguration(configs), mockGlueClient);
+
+        GetSchemaVersionResponse getSchemaVersionResponse = GetSchemaVersionResponse.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build();
+        GetSchemaVersionRequest getSchemaVersionRequest = GetSchemaVersionRequest.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build();
+        when(mockGlueClient.getSchemaVersion(getSchemaVersionRequest)).thenReturn(getSchemaVersionResponse);
+
+        assertEquals(SCHEMA_ID_FOR_TESTING.toString(), awsSchemaRegistryClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString()).schemaVersionId());
+    }
+
+    @Test
+    public void testGetSchemaVersionResponse_hedgedRequestsEnabled_clientExceptionResponse_throwsAWSSchemaRegistryException() {
+        configs.put(AWSSchemaRegistryConstants.HEDGED_REQUESTS_PERCENTILE, "99");
+        awsSchemaRegistryClient = new AWSSchemaRegistryClient(new GlueSchemaRegistryConfiguration(configs), mockGlueClient);
+
+        GetSchemaVersionRequest getSchemaVersionRequest = GetSchemaVersionRequest.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build();
+        when(mockGlueClient.getSchemaVersion(getSchemaVersionRequest)).thenThrow(EntityNotFoundException.builder().build());
+
+        AWSSchemaRegistryException awsSchemaRegistryException = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsSchemaRegistryClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString()));
+        assertEquals(EntityNotFoundException.class, awsSchemaRegistryException.getCause().getClass());
+    }
+
+    @Test
+    public void testGetSchemaVersionResponse_readRegionsConfigured_failsOverToReadRegion() {
+        GlueClient readRegionGlueClient = mock(GlueClient.class);
+        Map<String, GlueClient> readClients = new LinkedHashMap<>();
+        readClients.put("us-west-2", mockGlueClient);
+        readClients.put("us-east-1", readRegionGlueClient);
+        awsSchemaRegistryClient = new AWSSchemaRegistryClient(new GlueSchemaRegistryConfiguration(configs), mockGlueClient,
+                new AWSSchemaRegistryReadRouter(readClients, AWSSchemaRegistryConstants.ReadRegionSelection.ORDERED));
+
+        GetSchemaVersionResponse getSchemaVersionResponse = GetSchemaVersionResponse.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build();
+        GetSchemaVersionRequest getSchemaVersionRequest = GetSchemaVersionRequest.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build();
+        when(mockGlueClient.getSchemaVersion(getSchemaVersionRequest)).thenThrow(SdkClientException.create("Unreachable"));
+        when(readRegionGlueClient.getSchemaVersion(getSchemaVersionRequest)).thenReturn(getSchemaVersionResponse);
+
+        assertEquals(SCHEMA_ID_FOR_TESTING.toString(), awsSchemaRegistryClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString()).schemaVersionId());
+        verify(readRegionGlueClient, times(1)).getSchemaVersion(getSchemaVersionRequest);
+    }
+
+    @Test
+    public void testGetSchemaVersionResponse_lookupDeadlineConfigured_appliesApiCallTimeout() {
+        configs.put(AWSSchemaRegistryConstants.API_CALL_TIMEOUT_MILLIS, "5000");
+        configs.put(AWSSchemaRegistryConstants.API_CALL_ATTEMPT_TIMEOUT_MILLIS, "1000");
+        configs.put(AWSSchemaRegistryConstants.LOOKUP_DEADLINE_MILLIS, "2000");
+        awsSchemaRegistryClient = new AWSSchemaRegistryClient(new GlueSchemaRegistryConfiguration(configs), mockGlueClient);
+
+        GetSchemaVersionResponse getSchemaVersionResponse = GetSchemaVersionResponse.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build();
+        when(mockGlueClient.getSchemaVersion(any(GetSchemaVersionRequest.class))).thenReturn(getSchemaVersionResponse);
+
+        awsSchemaRegistryClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString());
+
+        ArgumentCaptor<GetSchemaVersionRequest> captor = ArgumentCaptor.forClass(GetSchemaVersionRequest.class);
+        verify(mockGlueClient).getSchemaVersion(captor.capture());
+        AwsRequestOverrideConfiguration overrideConfiguration = captor.getValue().overrideConfiguration().get();
+        long apiCallTimeoutMillis = overrideConfiguration.apiCallTimeout().get().toMillis();
+        assertTrue(apiCallTimeoutMillis > 0 && apiCallTimeoutMillis <= 2000);
+        assertEquals(Duration.ofMillis(1000), overrideConfiguration.apiCallAttemptTimeout().get());
+    }
+
+    @Test
+    public void testGetSchemaVersionResponse_noTimeoutsConfigured_sendsRequestWithoutOverride() {
+        GetSchemaVersionResponse getSchemaVersionResponse = GetSchemaVersionResponse.builder().schemaVersionId(SCHEMA_ID_FOR_TESTING.toString()).build();
+        when(mockGlueClient.getSchemaVersion(any(GetSchemaVersionRequest.class))).thenReturn(getSchemaVersionResponse);
+
+        awsSchemaRegistryClient.getSchemaVersionResponse(SCHEMA_ID_FOR_TESTING.toString());
+
+        ArgumentCaptor<GetSchemaVersionRequest> captor = ArgumentCaptor.forClass(GetSchemaVersionRequest.class);
+        verify(mockGlueClient).getSchemaVersion(captor.capture());
+        assertFalse(captor.getValue().overrideConfiguration().isPresent());
+    }
+
+    @Test
+    public void testRegisterSchemaVersion_evolutionWaitDeadlineExceeded_throwsAWSSchemaRegistryException() {
+        configs.put(AWSSchemaRegistryConstants.EVOLUTION_WAIT_DEADLINE_MILLIS, "50");
+        awsSchemaRegistryClient = new AWSSchemaRegistryClient(new GlueSchemaRegistryConfiguration(configs), mockGlueClient);
+        String schemaName = configs.get(AWSSchemaRegistryConstants.SCHEMA_NAME).toString();
+
+        RegisterSchemaVersionResponse registerSchemaVersionResponse = RegisterSchemaVersionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .status(AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING.toString())
+                .build();
+        when(mockGlueClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(registerSchemaVersionResponse);
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsSchemaRegistryClient.registerSchemaVersion(userSchemaDefinition, schemaName,
+                                                                    DataFormat.AVRO.name()));
+        assertEquals(String.format("Schema evolution check for schemaVersionId = %s did not complete within 50 ms",
+                                   SCHEMA_ID_FOR_TESTING), exception.getCause().getCause().getMessage());
+        verify(mockGlueClient, times(0)).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void testRegisterSchemaVersion_registrationDeadlineExceeded_stopsEvolutionWait() {
+        configs.put(AWSSchemaRegistryConstants.REGISTRATION_DEADLINE_MILLIS, "50");
+        configs.put(AWSSchemaRegistryConstants.EVOLUTION_WAIT_DEADLINE_MILLIS, "30000");
+        awsSchemaRegistryClient = new AWSSchemaRegistryClient(new GlueSchemaRegistryConfiguration(configs), mockGlueClient);
+        String schemaName = configs.get(AWSSchemaRegistryConstants.SCHEMA_NAME).toString();
+
+        RegisterSchemaVersionResponse registerSchemaVersionResponse = RegisterSchemaVersionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .status(AWSSchemaRegistryConstants.SchemaVersionStatus.PENDING.toString())
+                .build();
+        when(mockGlueClient.registerSchemaVersion(any(RegisterSchemaVersionRequest.class)))
+                .thenReturn(registerSchemaVersionResponse);
+
+        long start = System.nanoTime();
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> awsSchemaRegistryClient.registerSchemaVersion(userSchemaDefinition, schemaName,
+                                                                    DataFormat.AVRO.name()));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 3000);
+        assertEquals(String.format("Schema evolution check for schemaVersionId = %s did not complete within 50 ms",
+                                   SCHEMA_ID_FOR_TESTING), exception.getCause().getCause().getMessage());
+        verify(mockGlueClient, times(0)).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
     @Test
     public void testGetORRegisterSchemaVersionId_schemaVersionNotPresent_autoRegistersSchemaVersion() throws Exception {
         Map<String, String> configs = getConfigsWithAutoRegistrationSetting(true);
@@ -344,6 +476,53 @@ public class AWSSchemaRegistryClientTest {
         assertEquals(SCHEMA_ID_FOR_TESTING, schemaVersionId);
     }
 
+    @Test
+    public void testGetORRegisterSchemaVersionId_compatibilityPreCheckFails_doesNotRegisterSchemaVersion() throws Exception {
+        Map<String, String> configs = getConfigsWithAutoRegistrationSetting(true);
+        configs.put(AWSSchemaRegistryConstants.COMPATIBILITY_PRE_CHECK_ENABLED, "true");
+
+        String schemaName = configs.get(AWSSchemaRegistryConstants.SCHEMA_NAME);
+        String registryName = configs.get(AWSSchemaRegistryConstants.REGISTRY_NAME);
+        String dataFormatName = DataFormat.AVRO.name();
+
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(configs);
+        awsSchemaRegistryClient = configureAWSSchemaRegistryClientWithSerdeConfig(awsSchemaRegistryClient,
+            glueSchemaRegistryConfiguration);
+
+        GetSchemaByDefinitionRequest getSchemaByDefinitionRequest = awsSchemaRegistryClient
+                .buildGetSchemaByDefinitionRequest(userSchemaDefinition, schemaName, registryName);
+        EntityNotFoundException entityNotFoundException =
+                EntityNotFoundException.builder().message(AWSSchemaRegistryConstants.SCHEMA_VERSION_NOT_FOUND_MSG)
+                        .build();
+        when(mockGlueClient.getSchemaByDefinition(getSchemaByDefinitionRequest))
+                .thenThrow(new AWSSchemaRegistryException(entityNotFoundException));
+
+        SchemaId requestSchemaId = SchemaId.builder().schemaName(schemaName).registryName(registryName).build();
+        when(mockGlueClient.getSchema(GetSchemaRequest.builder().schemaId(requestSchemaId).build()))
+                .thenReturn(GetSchemaResponse.builder().compatibility(Compatibility.BACKWARD).build());
+
+        String latestSchemaDefinition = "{\"namespace\":\"com.amazonaws.services.schemaregistry.serializers.avro\","
+                                        + "\"type\":\"record\",\"name\":\"User\","
+                                        + "\"fields\":[{\"name\":\"name\",\"type\":\"string\"}]}";
+        GetSchemaVersionRequest getLatestSchemaVersionRequest = GetSchemaVersionRequest.builder()
+                .schemaId(requestSchemaId)
+                .schemaVersionNumber(SchemaVersionNumber.builder().latestVersion(true).build())
+                .build();
+        when(mockGlueClient.getSchemaVersion(getLatestSchemaVersionRequest)).thenReturn(GetSchemaVersionResponse.builder()
+                .schemaVersionId(SCHEMA_ID_FOR_TESTING.toString())
+                .schemaDefinition(latestSchemaDefinition)
+                .status(AWSSchemaRegistryConstants.SchemaVersionStatus.AVAILABLE.toString())
+                .build());
+
+        assertThrows(AWSSchemaRegistryException.class, () -> awsSchemaRegistryClient
+                .getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
+        assertThrows(AWSSchemaRegistryException.class, () -> awsSchemaRegistryClient
+                .getORRegisterSchemaVersionId(userSchemaDefinition, schemaName, dataFormatName, getMetadata()));
+
+        verify(mockGlueClient, times(1)).getSchemaByDefinition(getSchemaByDefinitionRequest);
+        verify(mockGlueClient, never()).registerSchemaVersion(any(RegisterSchemaVersionRequest.class));
+    }
+
     @Test
     public void testGetORRegisterSchemaVersionId_nullSchemaDefinition_throwsException() {
         Assertions.assertThrows(IllegalArgumentException.class , () ->  awsSchemaRegistryClient
@@ -824,10 +1003,11 @@ public class AWSSchemaRegistryClientTest {
 
         when(mockGlueClient.getSchemaVersion(getSchemaVersionRequest)).thenReturn(getSchemaVersionResponse);
         Method waitForSchemaEvolutionCheckToCompleteMethod = AWSSchemaRegistryClient.class.getDeclaredMethod(
-                "waitForSchemaEvolutionCheckToComplete", GetSchemaVersionRequest.class);
+                "waitForSchemaEvolutionCheckToComplete", GetSchemaVersionRequest.class, AWSSchemaRegistryDeadline.class);
         waitForSchemaEvolutionCheckToCompleteMethod.setAccessible(true);
         GetSchemaVersionResponse resultResponse = (GetSchemaVersionResponse) assertDoesNotThrow(() ->
-                waitForSchemaEvolutionCheckToCompleteMethod.invoke(awsSchemaRegistryClient, getSchemaVersionRequest));
+                waitForSchemaEvolutionCheckToCompleteMethod.invoke(awsSchemaRegistryClient, getSchemaVersionRequest,
+                                                                   AWSSchemaRegistryDeadline.after(0)));
 
         assertEquals(SCHEMA_ID_FOR_TESTING.toString(), resultResponse.schemaVersionId());
     }
@@ -840,11 +1020,12 @@ public class AWSSchemaRegistryClientTest {
 
         mockGlueClient = null;
         Method waitForSchemaEvolutionCheckToCompleteMethod = AWSSchemaRegistryClient.class.getDeclaredMethod(
-                "waitForSchemaEvolutionCheckToComplete", GetSchemaVersionRequest.class);
+                "waitForSchemaEvolutionCheckToComplete", GetSchemaVersionRequest.class, AWSSchemaRegistryDeadline.class);
         waitForSchemaEvolutionCheckToCompleteMethod.setAccessible(true);
 
         try {
-            waitForSchemaEvolutionCheckToCompleteMethod.invoke(awsSchemaRegistryClient, getSchemaVersionRequest);
+            waitForSchemaEvolutionCheckToCompleteMethod.invoke(awsSchemaRegistryClient, getSchemaVersionRequest,
+                                                               AWSSchemaRegistryDeadline.after(0));
         } catch (Exception e) {
             assertEquals(AWSSchemaRegistryException.class, e.getCause().getClass());
             String expectedExceptionMessage = String.format(
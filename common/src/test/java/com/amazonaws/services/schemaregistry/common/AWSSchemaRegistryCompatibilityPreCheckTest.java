@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.common.AWSSchemaRegistryCompatibilityPreCheck.KnownSchemaVersions;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.Compatibility;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for checking schema compatibility before registration.
+ */
+public class AWSSchemaRegistryCompatibilityPreCheckTest {
+    private static final String SCHEMA_NAME = "User-Topic";
+    private static final String USER_V1 = "{\"type\":\"record\",\"name\":\"User\",\"fields\":["
+                                          + "{\"name\":\"name\",\"type\":\"string\"}]}";
+    private static final String USER_V2_WITH_DEFAULT = "{\"type\":\"record\",\"name\":\"User\",\"fields\":["
+                                                       + "{\"name\":\"name\",\"type\":\"string\"},"
+                                                       + "{\"name\":\"age\",\"type\":\"int\",\"default\":0}]}";
+    private static final String USER_V2_WITHOUT_DEFAULT = "{\"type\":\"record\",\"name\":\"User\",\"fields\":["
+                                                          + "{\"name\":\"name\",\"type\":\"string\"},"
+                                                          + "{\"name\":\"age\",\"type\":\"int\"}]}";
+    private static final String USER_V3_WITHOUT_NAME = "{\"type\":\"record\",\"name\":\"User\",\"fields\":["
+                                                       + "{\"name\":\"age\",\"type\":\"int\",\"default\":0}]}";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void testCheck_backwardCompatibleDefinition_succeeds() {
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = createPreCheck(Compatibility.BACKWARD, USER_V1);
+
+        assertDoesNotThrow(() -> preCheck.check(SCHEMA_NAME, USER_V2_WITH_DEFAULT));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testCheck_backwardIncompatibleDefinition_throwsAndRemembersRejection() {
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = createPreCheck(Compatibility.BACKWARD, USER_V1);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> preCheck.check(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+        AWSSchemaRegistryException exception = assertThrows(AWSSchemaRegistryException.class,
+                () -> preCheck.checkNotRejected(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+
+        assertEquals("Schema definition is not BACKWARD compatible with the existing schema versions for schema "
+                     + "name = User-Topic", exception.getMessage());
+        assertDoesNotThrow(() -> preCheck.checkNotRejected(SCHEMA_NAME, USER_V2_WITH_DEFAULT));
+        assertDoesNotThrow(() -> preCheck.checkNotRejected("Other-Topic", USER_V2_WITHOUT_DEFAULT));
+    }
+
+    @Test
+    public void testCheck_rejectionExpires_checksAgainstReloadedVersions() throws InterruptedException {
+        AtomicReference<Compatibility> compatibility = new AtomicReference<>(Compatibility.BACKWARD);
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = new AWSSchemaRegistryCompatibilityPreCheck(schemaName -> {
+            loads.incrementAndGet();
+            return KnownSchemaVersions.parse(compatibility.get(), Collections.singletonList(USER_V1));
+        }, TimeUnit.MINUTES.toMillis(1), 50, 10);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> preCheck.check(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+        assertThrows(AWSSchemaRegistryException.class,
+                () -> preCheck.checkNotRejected(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+
+        compatibility.set(Compatibility.NONE);
+        Thread.sleep(100);
+
+        assertDoesNotThrow(() -> preCheck.checkNotRejected(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+        assertDoesNotThrow(() -> preCheck.check(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCheck_forwardIncompatibleDefinition_throwsException() {
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = createPreCheck(Compatibility.FORWARD, USER_V2_WITHOUT_DEFAULT);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> preCheck.check(SCHEMA_NAME, USER_V3_WITHOUT_NAME));
+        assertDoesNotThrow(() -> preCheck.check(SCHEMA_NAME, USER_V2_WITH_DEFAULT));
+    }
+
+    @Test
+    public void testCheck_backwardAll_checksEveryVersion() {
+        AWSSchemaRegistryCompatibilityPreCheck latestOnly =
+                createPreCheck(Compatibility.BACKWARD, USER_V2_WITH_DEFAULT, USER_V1);
+        AWSSchemaRegistryCompatibilityPreCheck allVersions =
+                createPreCheck(Compatibility.BACKWARD_ALL, USER_V2_WITH_DEFAULT, USER_V1);
+
+        assertDoesNotThrow(() -> latestOnly.check(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+        assertThrows(AWSSchemaRegistryException.class, () -> allVersions.check(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+    }
+
+    @Test
+    public void testCheck_noneCompatibility_succeeds() {
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = createPreCheck(Compatibility.NONE);
+
+        assertDoesNotThrow(() -> preCheck.check(SCHEMA_NAME, USER_V3_WITHOUT_NAME));
+    }
+
+    @Test
+    public void testCheck_disabledCompatibility_throwsException() {
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = createPreCheck(Compatibility.DISABLED);
+
+        assertThrows(AWSSchemaRegistryException.class, () -> preCheck.check(SCHEMA_NAME, USER_V1));
+    }
+
+    @Test
+    public void testCheck_versionsCannotBeLoaded_succeeds() {
+        AWSSchemaRegistryCompatibilityPreCheck preCheck =
+                new AWSSchemaRegistryCompatibilityPreCheck(schemaName -> null, TimeUnit.MINUTES.toMillis(1), 10);
+
+        assertDoesNotThrow(() -> preCheck.check(SCHEMA_NAME, USER_V3_WITHOUT_NAME));
+    }
+
+    @Test
+    public void testCheck_staleVersionsFailCheck_reloadsVersionsBeforeRejecting() {
+        Deque<KnownSchemaVersions> versions = new ArrayDeque<>(Arrays.asList(
+                KnownSchemaVersions.parse(Compatibility.BACKWARD, Collections.singletonList(USER_V1)),
+                KnownSchemaVersions.parse(Compatibility.BACKWARD, Collections.singletonList(USER_V2_WITHOUT_DEFAULT))));
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = new AWSSchemaRegistryCompatibilityPreCheck(schemaName -> {
+            loads.incrementAndGet();
+            return versions.poll();
+        }, TimeUnit.MINUTES.toMillis(1), 10);
+
+        preCheck.check(SCHEMA_NAME, USER_V1);
+        assertDoesNotThrow(() -> preCheck.check(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testRecordRegistered_newVersionBecomesLatest() {
+        AWSSchemaRegistryCompatibilityPreCheck preCheck = createPreCheck(Compatibility.BACKWARD, USER_V1);
+
+        preCheck.check(SCHEMA_NAME, USER_V2_WITH_DEFAULT);
+        preCheck.recordRegistered(SCHEMA_NAME, USER_V2_WITH_DEFAULT);
+
+        assertDoesNotThrow(() -> preCheck.check(SCHEMA_NAME, USER_V2_WITHOUT_DEFAULT));
+        assertEquals(1, loads.get());
+    }
+
+    private AWSSchemaRegistryCompatibilityPreCheck createPreCheck(Compatibility compatibility,
+                                                                  String... schemaDefinitions) {
+        return new AWSSchemaRegistryCompatibilityPreCheck(schemaName -> {
+            loads.incrementAndGet();
+            return KnownSchemaVersions.parse(compatibility, Arrays.asList(schemaDefinitions));
+        }, TimeUnit.MINUTES.toMillis(1), 10);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for operation deadlines.
+ */
+public class AWSSchemaRegistryDeadlineTest {
+
+    @Test
+    public void testAfter_noTimeout_isNotBounded() {
+        AWSSchemaRegistryDeadline deadline = AWSSchemaRegistryDeadline.after(0);
+
+        assertFalse(deadline.isBounded());
+        assertFalse(deadline.hasPassed());
+        assertEquals(Long.MAX_VALUE, deadline.remainingMillis());
+        assertEquals(0, deadline.remainingTimeoutMillis());
+    }
+
+    @Test
+    public void testAfter_timeout_remainingTimeWithinTimeout() {
+        AWSSchemaRegistryDeadline deadline = AWSSchemaRegistryDeadline.after(10000);
+
+        assertTrue(deadline.isBounded());
+        assertFalse(deadline.hasPassed());
+        assertTrue(deadline.remainingMillis() > 0 && deadline.remainingMillis() <= 10000);
+        assertTrue(deadline.remainingTimeoutMillis() > 0 && deadline.remainingTimeoutMillis() <= 10000);
+    }
+
+    @Test
+    public void testRemainingTimeoutMillis_deadlinePassed_throwsException() throws InterruptedException {
+        AWSSchemaRegistryDeadline deadline = AWSSchemaRegistryDeadline.after(1);
+        Thread.sleep(5);
+
+        assertTrue(deadline.hasPassed());
+        assertEquals(0, deadline.remainingMillis());
+        assertThrows(AWSSchemaRegistryException.class, deadline::remainingTimeoutMillis);
+    }
+
+    @Test
+    public void testEarliest_returnsFirstBoundedDeadline() {
+        AWSSchemaRegistryDeadline none = AWSSchemaRegistryDeadline.after(0);
+        AWSSchemaRegistryDeadline near = AWSSchemaRegistryDeadline.after(1000);
+        AWSSchemaRegistryDeadline far = AWSSchemaRegistryDeadline.after(60000);
+
+        assertSame(near, near.earliest(far));
+        assertSame(near, far.earliest(near));
+        assertSame(near, none.earliest(near));
+        assertSame(near, near.earliest(none));
+    }
+}
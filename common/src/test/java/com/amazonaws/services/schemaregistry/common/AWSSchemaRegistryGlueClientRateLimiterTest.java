@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.common.configs.GlueSchemaRegistryConfiguration;
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the client side limits of Glue API calls.
+ */
+public class AWSSchemaRegistryGlueClientRateLimiterTest {
+    private static final String OPERATION = "GetSchemaVersion";
+
+    @AfterEach
+    public void tearDown() {
+        AWSSchemaRegistryGlueClientRateLimiter.reset();
+    }
+
+    @Test
+    public void testExecute_noConfiguration_callsThrough() {
+        assertEquals("response", AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, null, 0, () -> "response"));
+    }
+
+    @Test
+    public void testExecute_limitsNotConfigured_callsThrough() {
+        GlueSchemaRegistryConfiguration configuration = createConfiguration(null, null);
+
+        assertEquals("response",
+                     AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 0, () -> "response"));
+    }
+
+    @Test
+    public void testExecute_callThrowsException_releasesPermit() {
+        GlueSchemaRegistryConfiguration configuration = createConfiguration(null, "1");
+
+        assertThrows(IllegalStateException.class, () -> AWSSchemaRegistryGlueClientRateLimiter
+                .execute(OPERATION, configuration, 0, () -> {
+                    throw new IllegalStateException("Glue call failed");
+                }));
+
+        assertEquals("response",
+                     AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 0, () -> "response"));
+    }
+
+    @Test
+    public void testExecute_maxInFlightRequests_capsConcurrentCalls() throws Exception {
+        int maxInFlight = 2;
+        GlueSchemaRegistryConfiguration configuration = createConfiguration(null, String.valueOf(maxInFlight));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 0, () -> {
+                    int current = inFlight.incrementAndGet();
+                    maxObserved.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return current;
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<Integer> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        assertTrue(maxObserved.get() <= maxInFlight);
+    }
+
+    @Test
+    public void testExecute_requestsPerSecond_spacesCalls() {
+        GlueSchemaRegistryConfiguration configuration = createConfiguration("20", null);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 0, () -> "response");
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // First permit is immediate, the next five are spaced by 50 ms each.
+        assertTrue(elapsedMillis >= 200, "Calls were not rate limited, elapsed " + elapsedMillis);
+    }
+
+    @Test
+    public void testExecute_rateLimitedPastTimeout_throwsException() {
+        GlueSchemaRegistryConfiguration configuration = createConfiguration("1", null);
+        AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 100, () -> "response");
+
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 100, () -> "response"));
+    }
+
+    @Test
+    public void testExecute_inFlightPastTimeout_throwsException() throws Exception {
+        GlueSchemaRegistryConfiguration configuration = createConfiguration(null, "1");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> blocking = executorService.submit(() -> AWSSchemaRegistryGlueClientRateLimiter
+                .execute(OPERATION, configuration, 0, () -> {
+                    inFlight.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "response";
+                }));
+        inFlight.await(10, TimeUnit.SECONDS);
+
+        assertThrows(AWSSchemaRegistryException.class,
+                     () -> AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 50, () -> "response"));
+
+        release.countDown();
+        assertEquals("response", blocking.get(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testExecute_differentLimits_doNotShareLimiter() {
+        GlueSchemaRegistryConfiguration configuration = createConfiguration("1", null);
+        GlueSchemaRegistryConfiguration otherConfiguration = createConfiguration("2", null);
+        AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, configuration, 100, () -> "response");
+
+        assertEquals("response",
+                     AWSSchemaRegistryGlueClientRateLimiter.execute(OPERATION, otherConfiguration, 100, () -> "response"));
+    }
+
+    private GlueSchemaRegistryConfiguration createConfiguration(String requestsPerSecond, String maxInFlight) {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        if (requestsPerSecond != null) {
+            configs.put(AWSSchemaRegistryConstants.GLUE_API_REQUESTS_PER_SECOND, requestsPerSecond);
+        }
+        if (maxInFlight != null) {
+            configs.put(AWSSchemaRegistryConstants.GLUE_API_MAX_IN_FLIGHT_REQUESTS, maxInFlight);
+        }
+        return new GlueSchemaRegistryConfiguration(configs);
+    }
+}
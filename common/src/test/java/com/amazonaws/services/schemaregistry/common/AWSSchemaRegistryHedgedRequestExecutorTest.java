@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for hedged request execution.
+ */
+public class AWSSchemaRegistryHedgedRequestExecutorTest {
+    private static final AWSSchemaRegistryDeadline NO_DEADLINE = AWSSchemaRegistryDeadline.after(0);
+
+    @Test
+    public void testExecute_fastRequest_doesNotHedge() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 1000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertEquals("response", executor.execute(() -> {
+            attempts.incrementAndGet();
+            return "response";
+        }, NO_DEADLINE));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testExecute_slowFirstAttempt_hedgedAttemptWins() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch neverReleased = new CountDownLatch(1);
+
+        String response = executor.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    neverReleased.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+            return "hedged";
+        }, NO_DEADLINE);
+
+        assertEquals("hedged", response);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testExecute_hedgedAttemptFails_waitsForFirstAttempt() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String response = executor.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            }
+            throw new IllegalStateException("hedged attempt failed");
+        }, NO_DEADLINE);
+
+        assertEquals("first", response);
+    }
+
+    @Test
+    public void testExecute_allAttemptsFail_throwsLastFailure() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 1000);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> executor.execute(() -> {
+            throw new IllegalStateException("request failed");
+        }, NO_DEADLINE));
+        assertEquals("request failed", exception.getMessage());
+    }
+
+    @Test
+    public void testExecute_firstAttemptFails_waitsForHedgedAttemptUntilDeadline() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch neverReleased = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        assertThrows(AWSSchemaRegistryException.class, () -> executor.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("first attempt failed");
+            }
+            try {
+                neverReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }, AWSSchemaRegistryDeadline.after(200)));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testExecute_deadlineBeforeHedgingDelay_doesNotHedge() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 1000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertEquals("response", executor.execute(() -> {
+            attempts.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "response";
+        }, AWSSchemaRegistryDeadline.after(100)));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testExecute_attemptsRunOffCallingThread() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 1000);
+
+        assertNotEquals(Thread.currentThread(), executor.execute(Thread::currentThread, NO_DEADLINE));
+    }
+
+    @Test
+    public void testExecute_slowFirstAttemptIgnoresInterrupts_hedgedAttemptWinsWithoutWaiting() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        assertEquals("hedged", executor.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+                while (System.nanoTime() < end) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                }
+                return "slow";
+            }
+            return "hedged";
+        }, NO_DEADLINE));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testExecute_bothAttemptsIgnoreInterrupts_returnsAtDeadline() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(95, 10);
+
+        long start = System.nanoTime();
+        assertThrows(AWSSchemaRegistryException.class, () -> executor.execute(() -> {
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+            while (System.nanoTime() < end) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            }
+            return "slow";
+        }, AWSSchemaRegistryDeadline.after(200)));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(2, executor.getLatencyCount());
+    }
+
+    @Test
+    public void testExecute_hedgedAttemptWins_doesNotInterruptCallerAndRecordsBothAttempts() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(100, 20);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch neverReleased = new CountDownLatch(1);
+
+        assertEquals("hedged", executor.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    neverReleased.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+            return "hedged";
+        }, NO_DEADLINE));
+
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals(2, executor.getLatencyCount());
+    }
+
+    @Test
+    public void testExecute_firstAttemptWins_recordsCancelledHedgedAttemptAtLeastDelay() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(100, 20);
+        for (int i = 0; i < 18; i++) {
+            executor.recordLatency(0);
+        }
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch neverReleased = new CountDownLatch(1);
+
+        assertEquals("first", executor.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            }
+            try {
+                neverReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hedged";
+        }, NO_DEADLINE));
+
+        assertEquals(2, attempts.get());
+        assertEquals(20, executor.getLatencyCount());
+        assertTrue(executor.getHedgingDelayMillis() >= 20);
+    }
+
+    @Test
+    public void testGetHedgingDelayMillis_enoughSamples_usesPercentile() {
+        AWSSchemaRegistryHedgedRequestExecutor executor = new AWSSchemaRegistryHedgedRequestExecutor(90, 1000);
+
+        for (int i = 1; i <= 10; i++) {
+            executor.recordLatency(i);
+        }
+        assertEquals(1000, executor.getHedgingDelayMillis());
+
+        for (int i = 11; i <= 100; i++) {
+            executor.recordLatency(i);
+        }
+        assertEquals(90, executor.getHedgingDelayMillis());
+    }
+}
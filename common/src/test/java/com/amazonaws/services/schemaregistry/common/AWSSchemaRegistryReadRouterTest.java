@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.schemaregistry.common;
+
+import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants.ReadRegionSelection;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for routing read requests across regions.
+ */
+public class AWSSchemaRegistryReadRouterTest {
+    private final GlueClient primaryClient = mock(GlueClient.class);
+    private final GlueClient secondaryClient = mock(GlueClient.class);
+
+    @Test
+    public void testExecute_ordered_usesPrimaryRegion() {
+        AWSSchemaRegistryReadRouter router = createRouter(ReadRegionSelection.ORDERED);
+
+        assertEquals("us-west-2", router.execute(client -> client == primaryClient ? "us-west-2" : "us-east-1"));
+        assertEquals(Arrays.asList("us-west-2", "us-east-1"), router.getRegionOrder());
+    }
+
+    @Test
+    public void testExecute_primaryRegionFails_failsOverAndMarksPrimaryUnhealthy() {
+        AWSSchemaRegistryReadRouter router = createRouter(ReadRegionSelection.ORDERED);
+
+        String response = router.execute(client -> {
+            if (client == primaryClient) {
+                throw SdkClientException.create("Connection refused");
+            }
+            return "us-east-1";
+        });
+
+        assertEquals("us-east-1", response);
+        assertEquals(Arrays.asList("us-east-1", "us-west-2"), router.getRegionOrder());
+    }
+
+    @Test
+    public void testExecute_schemaVersionNotReplicated_failsOverWithoutMarkingRegionUnhealthy() {
+        AWSSchemaRegistryReadRouter router = createRouter(ReadRegionSelection.ORDERED);
+
+        String response = router.execute(client -> {
+            if (client == primaryClient) {
+                throw EntityNotFoundException.builder().message("Schema version is not found.").build();
+            }
+            return "us-east-1";
+        });
+
+        assertEquals("us-east-1", response);
+        assertEquals(Arrays.asList("us-west-2", "us-east-1"), router.getRegionOrder());
+    }
+
+    @Test
+    public void testExecute_allRegionsFail_throwsLastFailure() {
+        AWSSchemaRegistryReadRouter router = createRouter(ReadRegionSelection.ORDERED);
+        SdkClientException secondaryFailure = SdkClientException.create("Secondary unavailable");
+
+        SdkClientException exception = assertThrows(SdkClientException.class, () -> router.execute(client -> {
+            throw client == primaryClient ? SdkClientException.create("Primary unavailable") : secondaryFailure;
+        }));
+        assertSame(secondaryFailure, exception);
+    }
+
+    @Test
+    public void testExecute_latency_prefersFastestRegion() {
+        AWSSchemaRegistryReadRouter router = createRouter(ReadRegionSelection.LATENCY);
+
+        router.execute(client -> {
+            if (client == primaryClient) {
+                sleep(50);
+            }
+            return null;
+        });
+        assertEquals(Arrays.asList("us-east-1", "us-west-2"), router.getRegionOrder());
+
+        router.execute(client -> null);
+        assertEquals(Arrays.asList("us-east-1", "us-west-2"), router.getRegionOrder());
+    }
+
+    @Test
+    public void testExecute_latency_staleLatencyAgesOut_regionWinsBackItsRank() {
+        AWSSchemaRegistryReadRouter router = createRouter(ReadRegionSelection.LATENCY,
+                                                          TimeUnit.MILLISECONDS.toNanos(200));
+
+        router.execute(client -> {
+            if (client == primaryClient) {
+                sleep(50);
+            }
+            return null;
+        });
+        router.execute(client -> null);
+        assertEquals(Arrays.asList("us-east-1", "us-west-2"), router.getRegionOrder());
+
+        // us-east-1 slows down, but stays faster than the last latency observed for us-west-2.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!"us-west-2".equals(router.getRegionOrder().get(0)) && System.nanoTime() < deadline) {
+            router.execute(client -> {
+                if (client == secondaryClient) {
+                    sleep(30);
+                }
+                return null;
+            });
+        }
+        router.execute(client -> {
+            if (client == secondaryClient) {
+                sleep(30);
+            }
+            return null;
+        });
+
+        assertEquals(Arrays.asList("us-west-2", "us-east-1"), router.getRegionOrder());
+    }
+
+    private AWSSchemaRegistryReadRouter createRouter(ReadRegionSelection readRegionSelection) {
+        Map<String, GlueClient> clients = new LinkedHashMap<>();
+        clients.put("us-west-2", primaryClient);
+        clients.put("us-east-1", secondaryClient);
+        return new AWSSchemaRegistryReadRouter(clients, readRegionSelection);
+    }
+
+    private AWSSchemaRegistryReadRouter createRouter(ReadRegionSelection readRegionSelection,
+                                                     long latencyTimeToLiveNanos) {
+        Map<String, GlueClient> clients = new LinkedHashMap<>();
+        clients.put("us-west-2", primaryClient);
+        clients.put("us-east-1", secondaryClient);
+        return new AWSSchemaRegistryReadRouter(clients, readRegionSelection, latencyTimeToLiveNanos);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.amazonaws.services.schemaregistry.common.configs;
 import com.amazonaws.services.schemaregistry.exception.AWSSchemaRegistryException;
 import com.amazonaws.services.schemaregistry.utils.AWSSchemaRegistryConstants;
 import com.amazonaws.services.schemaregistry.utils.AvroRecordType;
+import com.amazonaws.services.schemaregistry.utils.AvroStringType;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,13 +28,18 @@ import org.junit.jupiter.params.provider.EnumSource;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -369,6 +375,305 @@ public class GlueSchemaRegistryConfigurationTest {
 
         assertEquals(expectedRegistryName, glueSchemaRegistryConfiguration.getRegistryName());
     }
-}
 
+    /**
+     * Tests Glue API limit values.
+     */
+    @Test
+    public void testBuildConfig_glueApiLimits_succeeds() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.GLUE_API_REQUESTS_PER_SECOND, "12.5");
+        props.put(AWSSchemaRegistryConstants.GLUE_API_MAX_IN_FLIGHT_REQUESTS, 4);
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(props);
+
+        assertEquals(12.5, glueSchemaRegistryConfiguration.getGlueApiRequestsPerSecond());
+        assertEquals(4, glueSchemaRegistryConfiguration.getGlueApiMaxInFlightRequests());
+    }
+
+    /**
+     * Tests Glue API limits are disabled if not passed.
+     */
+    @Test
+    public void testBuildConfig_glueApiLimitsNotPassed_disabledByDefault() {
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration =
+                new GlueSchemaRegistryConfiguration(createTestProperties());
+
+        assertEquals(0, glueSchemaRegistryConfiguration.getGlueApiRequestsPerSecond());
+        assertEquals(0, glueSchemaRegistryConfiguration.getGlueApiMaxInFlightRequests());
+    }
+
+    /**
+     * Tests invalid Glue API limit values.
+     */
+    @Test
+    public void testBuildConfig_invalidGlueApiLimits_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.GLUE_API_REQUESTS_PER_SECOND, "Random String");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Glue API requests per second is not a valid rate : Random String", exception.getMessage());
+
+        props.remove(AWSSchemaRegistryConstants.GLUE_API_REQUESTS_PER_SECOND);
+        props.put(AWSSchemaRegistryConstants.GLUE_API_MAX_IN_FLIGHT_REQUESTS, "-1");
+
+        exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Glue API max in flight requests cannot be negative : -1", exception.getMessage());
+    }
+
+    /**
+     * Tests hedged requests values.
+     */
+    @Test
+    public void testBuildConfig_hedgedRequests_succeeds() {
+        Properties props = createTestProperties();
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(props);
+        assertEquals(0, glueSchemaRegistryConfiguration.getHedgedRequestsPercentile());
+        assertEquals(100, glueSchemaRegistryConfiguration.getHedgedRequestsDefaultDelayMillis());
+
+        props.put(AWSSchemaRegistryConstants.HEDGED_REQUESTS_PERCENTILE, "95");
+        props.put(AWSSchemaRegistryConstants.HEDGED_REQUESTS_DEFAULT_DELAY_MILLIS, "250");
+        glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(props);
+
+        assertEquals(95, glueSchemaRegistryConfiguration.getHedgedRequestsPercentile());
+        assertEquals(250, glueSchemaRegistryConfiguration.getHedgedRequestsDefaultDelayMillis());
+    }
+
+    /**
+     * Tests invalid hedged requests percentile.
+     */
+    @Test
+    public void testBuildConfig_invalidHedgedRequestsPercentile_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.HEDGED_REQUESTS_PERCENTILE, "150");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Hedged requests percentile must be between 0 and 100 : 150", exception.getMessage());
+    }
+
+    /**
+     * Tests negative hedged requests default delay.
+     */
+    @Test
+    public void testBuildConfig_negativeHedgedRequestsDefaultDelay_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.HEDGED_REQUESTS_DEFAULT_DELAY_MILLIS, "-1");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Hedged requests default delay cannot be negative : -1", exception.getMessage());
+    }
+
+    /**
+     * Tests API call timeouts and operation deadlines values.
+     */
+    @Test
+    public void testBuildConfig_timeouts_succeeds() {
+        Properties props = createTestProperties();
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(props);
+        assertEquals(0, glueSchemaRegistryConfiguration.getApiCallTimeoutMillis());
+        assertEquals(0, glueSchemaRegistryConfiguration.getLookupDeadlineMillis());
+
+        props.put(AWSSchemaRegistryConstants.API_CALL_TIMEOUT_MILLIS, "5000");
+        props.put(AWSSchemaRegistryConstants.API_CALL_ATTEMPT_TIMEOUT_MILLIS, "1000");
+        props.put(AWSSchemaRegistryConstants.LOOKUP_DEADLINE_MILLIS, "200");
+        props.put(AWSSchemaRegistryConstants.REGISTRATION_DEADLINE_MILLIS, "3000");
+        props.put(AWSSchemaRegistryConstants.EVOLUTION_WAIT_DEADLINE_MILLIS, 60000L);
+        props.put(AWSSchemaRegistryConstants.METADATA_DEADLINE_MILLIS, "2000");
+        glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(props);
+
+        assertEquals(5000, glueSchemaRegistryConfiguration.getApiCallTimeoutMillis());
+        assertEquals(1000, glueSchemaRegistryConfiguration.getApiCallAttemptTimeoutMillis());
+        assertEquals(200, glueSchemaRegistryConfiguration.getLookupDeadlineMillis());
+        assertEquals(3000, glueSchemaRegistryConfiguration.getRegistrationDeadlineMillis());
+        assertEquals(60000, glueSchemaRegistryConfiguration.getEvolutionWaitDeadlineMillis());
+        assertEquals(2000, glueSchemaRegistryConfiguration.getMetadataDeadlineMillis());
+    }
+
+    /**
+     * Tests invalid operation deadline.
+     */
+    @Test
+    public void testBuildConfig_invalidDeadline_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.LOOKUP_DEADLINE_MILLIS, "soon");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("lookupDeadlineMillis is not a valid time : soon", exception.getMessage());
+
+        props.put(AWSSchemaRegistryConstants.LOOKUP_DEADLINE_MILLIS, "-1");
+
+        exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("lookupDeadlineMillis cannot be negative : -1", exception.getMessage());
+    }
+
+    /**
+     * Tests read regions values.
+     */
+    @Test
+    public void testBuildConfig_readRegions_succeeds() {
+        Properties props = createTestProperties();
+        GlueSchemaRegistryConfiguration glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(props);
+        assertTrue(glueSchemaRegistryConfiguration.getReadRegions().isEmpty());
+        assertEquals(AWSSchemaRegistryConstants.ReadRegionSelection.LATENCY,
+                     glueSchemaRegistryConfiguration.getReadRegionSelection());
+
+        props.put(AWSSchemaRegistryConstants.READ_REGIONS, "us-east-1, eu-west-1=https://glue.eu-west-1.amazonaws.com");
+        props.put(AWSSchemaRegistryConstants.READ_REGION_SELECTION, "ordered");
+        glueSchemaRegistryConfiguration = new GlueSchemaRegistryConfiguration(props);
+
+        Map<String, String> expectedReadRegions = new LinkedHashMap<>();
+        expectedReadRegions.put("us-east-1", null);
+        expectedReadRegions.put("eu-west-1", "https://glue.eu-west-1.amazonaws.com");
+        assertEquals(expectedReadRegions, glueSchemaRegistryConfiguration.getReadRegions());
+        assertEquals(AWSSchemaRegistryConstants.ReadRegionSelection.ORDERED,
+                     glueSchemaRegistryConfiguration.getReadRegionSelection());
+    }
+
+    /**
+     * Tests invalid read region settings.
+     */
+    @Test
+    public void testBuildConfig_invalidReadRegions_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.READ_REGIONS, "us-east-1,,eu-west-1");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Read regions contain an empty region : us-east-1,,eu-west-1", exception.getMessage());
+
+        props.remove(AWSSchemaRegistryConstants.READ_REGIONS);
+        props.put(AWSSchemaRegistryConstants.READ_REGION_SELECTION, "random");
+
+        exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Invalid read region selection : random, Accepted values are : [ORDERED, LATENCY]",
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests batch schema resolution parallelism values.
+     */
+    @Test
+    public void testBuildConfig_batchSchemaResolutionParallelism_succeeds() {
+        Properties props = createTestProperties();
+        assertEquals(8, new GlueSchemaRegistryConfiguration(props).getBatchSchemaResolutionParallelism());
+
+        props.put(AWSSchemaRegistryConstants.BATCH_SCHEMA_RESOLUTION_PARALLELISM, "16");
+        assertEquals(16, new GlueSchemaRegistryConfiguration(props).getBatchSchemaResolutionParallelism());
+
+        props.put(AWSSchemaRegistryConstants.BATCH_SCHEMA_RESOLUTION_PARALLELISM, "0");
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Batch schema resolution parallelism must be positive : 0", exception.getMessage());
+    }
+
+    /**
+     * Tests reader schemas are read from a map of topic or schema name to schema definition.
+     */
+    @Test
+    public void testBuildConfig_readerSchemas_succeeds() {
+        Properties props = createTestProperties();
+        assertTrue(new GlueSchemaRegistryConfiguration(props).getReaderSchemas().isEmpty());
+
+        Map<String, String> readerSchemas = new HashMap<>();
+        readerSchemas.put("orders", "{\"type\": \"string\"}");
+        props.put(AWSSchemaRegistryConstants.READER_SCHEMAS, readerSchemas);
+
+        assertEquals(readerSchemas, new GlueSchemaRegistryConfiguration(props).getReaderSchemas());
+    }
+
+    /**
+     * Tests reader schemas that are not a map.
+     */
+    @Test
+    public void testBuildConfig_invalidReaderSchemas_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.READER_SCHEMAS, "orders");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("The reader schemas config is not a map of topic or schema name to reader schema definition",
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests Avro string type values.
+     */
+    @Test
+    public void testBuildConfig_avroStringType_succeeds() {
+        Properties props = createTestProperties();
+        assertNull(new GlueSchemaRegistryConfiguration(props).getAvroStringType());
+
+        props.put(AWSSchemaRegistryConstants.AVRO_STRING_TYPE, "utf8");
+        assertEquals(AvroStringType.UTF8, new GlueSchemaRegistryConfiguration(props).getAvroStringType());
 
+        props.put(AWSSchemaRegistryConstants.AVRO_STRING_TYPE, "Text");
+        Exception exception = assertThrows(AWSSchemaRegistryException.class, () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Invalid Avro string type : Text, Accepted values are : [UTF8, STRING, CHARSEQUENCE]",
+                     exception.getMessage());
+    }
+
+    /**
+     * Tests the Avro precompiled codecs setting.
+     */
+    @Test
+    public void testBuildConfig_avroPrecompiledCodecsEnabled_succeeds() {
+        Properties props = createTestProperties();
+        assertFalse(new GlueSchemaRegistryConfiguration(props).isAvroPrecompiledCodecsEnabled());
+
+        props.put(AWSSchemaRegistryConstants.AVRO_PRECOMPILED_CODECS_ENABLED, "true");
+        assertTrue(new GlueSchemaRegistryConfiguration(props).isAvroPrecompiledCodecsEnabled());
+    }
+
+    /**
+     * Tests the compatibility pre-check setting.
+     */
+    @Test
+    public void testBuildConfig_compatibilityPreCheckEnabled_succeeds() {
+        Properties props = createTestProperties();
+        assertFalse(new GlueSchemaRegistryConfiguration(props).isCompatibilityPreCheckEnabled());
+
+        props.put(AWSSchemaRegistryConstants.COMPATIBILITY_PRE_CHECK_ENABLED, "true");
+        assertTrue(new GlueSchemaRegistryConfiguration(props).isCompatibilityPreCheckEnabled());
+    }
+
+    /**
+     * Tests the preload schemas and topics given as comma separated strings.
+     */
+    @Test
+    public void testBuildConfig_preloadSchemasAsString_succeeds() {
+        Properties props = createTestProperties();
+        assertTrue(new GlueSchemaRegistryConfiguration(props).getPreloadSchemas().isEmpty());
+
+        props.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, "com.example.User, com.example.Order");
+        props.put(AWSSchemaRegistryConstants.PRELOAD_TOPICS, "users,orders");
+        GlueSchemaRegistryConfiguration configuration = new GlueSchemaRegistryConfiguration(props);
+
+        assertEquals(Arrays.asList("com.example.User", "com.example.Order"), configuration.getPreloadSchemas());
+        assertEquals(Arrays.asList("users", "orders"), configuration.getPreloadTopics());
+    }
+
+    /**
+     * Tests the preload schemas given as a collection of schema definitions.
+     */
+    @Test
+    public void testBuildConfig_preloadSchemasAsCollection_succeeds() {
+        Map<String, Object> configWithPreloadSchemas = new HashMap<>();
+        configWithPreloadSchemas.put(AWSSchemaRegistryConstants.AWS_REGION, "us-west-2");
+        String schemaDefinition = "{\"type\": \"record\", \"name\": \"User\", \"fields\": []}";
+        configWithPreloadSchemas.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS,
+                                     Collections.singletonList(schemaDefinition));
+
+        assertEquals(Collections.singletonList(schemaDefinition),
+                     new GlueSchemaRegistryConfiguration(configWithPreloadSchemas).getPreloadSchemas());
+    }
+
+    /**
+     * Tests the preload schemas with an empty entry.
+     */
+    @Test
+    public void testBuildConfig_preloadSchemasWithEmptyEntry_throwsException() {
+        Properties props = createTestProperties();
+        props.put(AWSSchemaRegistryConstants.PRELOAD_SCHEMAS, "com.example.User,,com.example.Order");
+
+        Exception exception = assertThrows(AWSSchemaRegistryException.class,
+                                           () -> new GlueSchemaRegistryConfiguration(props));
+        assertEquals("Preload schemas contain an empty entry : com.example.User,,com.example.Order",
+                     exception.getMessage());
+    }
+}
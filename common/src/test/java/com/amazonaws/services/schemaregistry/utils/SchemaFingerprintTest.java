@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.schemaregistry.utils;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.DataFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class SchemaFingerprintTest {
+    private static final String AVRO = DataFormat.AVRO.name();
+    private static final String USER_SCHEMA = "{\"type\":\"record\",\"name\":\"User\",\"namespace\":\"example\","
+            + "\"doc\":\"A user\",\"fields\":[{\"name\":\"name\",\"type\":\"string\",\"doc\":\"Name of the user\"},"
+            + "{\"name\":\"age\",\"type\":\"int\",\"default\":0}]}";
+
+    @Test
+    public void testOf_whitespaceDocAndAttributeOrderDiffer_fingerprintsMatch() {
+        String equivalentSchema = "{ \"namespace\" : \"example\", \"name\" : \"User\", \"type\" : \"record\",\n"
+                + "  \"fields\" : [ { \"type\" : \"string\", \"name\" : \"name\" },\n"
+                + "    { \"default\" : 0, \"type\" : \"int\", \"name\" : \"age\", \"doc\" : \"Age\" } ] }";
+
+        assertEquals(SchemaFingerprint.of(USER_SCHEMA, AVRO), SchemaFingerprint.of(equivalentSchema, AVRO));
+    }
+
+    @Test
+    public void testOf_defaultDiffers_fingerprintsDiffer() {
+        String schemaWithOtherDefault = USER_SCHEMA.replace("\"default\":0", "\"default\":1");
+
+        assertNotEquals(SchemaFingerprint.of(USER_SCHEMA, AVRO), SchemaFingerprint.of(schemaWithOtherDefault, AVRO));
+    }
+
+    @Test
+    public void testOf_docInCustomPropertyDiffers_fingerprintsDiffer() {
+        String schemaWithProperty = USER_SCHEMA.replace("\"default\":0", "\"default\":0,\"meta\":{\"doc\":\"a\"}");
+        String schemaWithOtherProperty = schemaWithProperty.replace("{\"doc\":\"a\"}", "{\"doc\":\"b\"}");
+
+        assertNotEquals(SchemaFingerprint.of(schemaWithProperty, AVRO),
+                        SchemaFingerprint.of(schemaWithOtherProperty, AVRO));
+    }
+
+    @Test
+    public void testOf_docInRecordDefaultDiffers_fingerprintsDiffer() {
+        String schema = "{\"type\":\"record\",\"name\":\"Outer\",\"fields\":[{\"name\":\"inner\",\"type\":"
+                + "{\"type\":\"record\",\"name\":\"Inner\",\"doc\":\"Inner record\",\"fields\":[{\"name\":\"doc\","
+                + "\"type\":\"string\"}]},\"default\":{\"doc\":\"a\"}}]}";
+        String schemaWithOtherDefault = schema.replace("{\"doc\":\"a\"}", "{\"doc\":\"b\"}");
+        String schemaWithOtherDoc = schema.replace("Inner record", "Nested record");
+
+        assertNotEquals(SchemaFingerprint.of(schema, AVRO), SchemaFingerprint.of(schemaWithOtherDefault, AVRO));
+        assertEquals(SchemaFingerprint.of(schema, AVRO), SchemaFingerprint.of(schemaWithOtherDoc, AVRO));
+    }
+
+    @Test
+    public void testOf_logicalTypeDiffers_fingerprintsDiffer() {
+        String longSchema = "{\"type\":\"long\"}";
+        String timestampSchema = "{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}";
+
+        assertNotEquals(SchemaFingerprint.of(longSchema, AVRO), SchemaFingerprint.of(timestampSchema, AVRO));
+    }
+
+    @Test
+    public void testOf_nonAvroDataFormat_fingerprintsDefinitionAsIs() {
+        String equivalentSchema = USER_SCHEMA.replace(",\"doc\":\"A user\"", "");
+
+        assertNotEquals(SchemaFingerprint.of(USER_SCHEMA, "JSON"), SchemaFingerprint.of(equivalentSchema, "JSON"));
+    }
+
+    @Test
+    public void testOf_invalidAvroDefinition_fingerprintsDefinitionAsIs() {
+        String invalidSchema = "{\"type\":\"unknown\"}";
+
+        assertEquals(SchemaFingerprint.of(invalidSchema, "JSON"), SchemaFingerprint.of(invalidSchema, AVRO));
+    }
+}